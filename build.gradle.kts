@@ -1,5 +1,6 @@
 plugins {
     java
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "ascendant.core"
@@ -25,6 +26,12 @@ dependencies {
     // Project ID: 1431313 MMOSkillTree
     // Project ID: 1441945 Elite Mobs
     implementation(project.fileTree("libs") { include("*.jar") })
+    // benchmarks load plugin classes that reference the server API
+    jmh(files("libs/HytaleServer.jar"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
 }
 
 tasks.test {
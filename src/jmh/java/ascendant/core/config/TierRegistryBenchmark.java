@@ -0,0 +1,74 @@
+package ascendant.core.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multiplier lookup on the generated default tier table: the map-based lookup DifficultySettings.get(...) did
+ * before TierRegistry, the current get(tier, key), and a direct read by ordinal.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TierRegistryBenchmark {
+    private static final SettingKey KEY = SettingKey.DAMAGE_MULTIPLIER;
+
+    private DifficultySettings settings;
+    private TierRegistry registry;
+    private Map<String, Double> base;
+    private Map<String, Map<String, Double>> tiers;
+    private String[] tierIds;
+    private int[] ordinals;
+    private int index;
+
+    @Setup
+    public void setup() {
+        settings = DifficultySettings.fromJson(DifficultySettings.defaultJson());
+        registry = settings.registry();
+        base = settings.base();
+        tiers = settings.tiers();
+        tierIds = registry.tierIds().toArray(String[]::new);
+        ordinals = new int[tierIds.length];
+        for (int i = 0; i < tierIds.length; i++) {
+            ordinals[i] = registry.ordinal(tierIds[i]);
+        }
+    }
+
+    private int next() {
+        int i = index + 1;
+        index = i == tierIds.length ? 0 : i;
+        return index;
+    }
+
+    // key check, two map lookups, unboxing and rounding per call
+    @Benchmark
+    public double mapLookup() {
+        String tier = tierIds[next()];
+        String key = KEY.key();
+        if (!DifficultySettings.KEYS.contains(key)) {
+            return 1.0;
+        }
+        Map<String, Double> values = tiers.get(tier);
+        Double value = values != null ? values.get(key) : null;
+        if (value == null) {
+            value = base.getOrDefault(key, 1.0);
+        }
+        double factor = Math.pow(10, DifficultyIO.DEFAULT_ROUNDING_DIGITS);
+        return Math.round(value * factor) / factor;
+    }
+
+    @Benchmark
+    public double settingsGet() {
+        return settings.get(tierIds[next()], KEY);
+    }
+
+    @Benchmark
+    public double registryGet() {
+        return registry.get(ordinals[next()], KEY);
+    }
+}
@@ -0,0 +1,93 @@
+package ascendant.core.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * Nearest-within-radius lookup for one spawn: the per-query scan over every player NearestPlayerFinder used
+ * to do, against a PositionGrid query. gridRebuild is the per-tick cost PlayerSpatialIndex pays instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearestPlayerBenchmark {
+    private static final double AREA = 4096.0;
+    private static final double RADIUS = 64.0;
+    private static final float RADIUS_SQ = (float) (RADIUS * RADIUS);
+    private static final int QUERIES = 1024;
+    private static final IntPredicate ALL = i -> true;
+
+    @Param({"10", "100", "500"})
+    public int players;
+
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private double[] queries;
+    private PositionGrid grid;
+    private int index;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        xs = new double[players];
+        ys = new double[players];
+        zs = new double[players];
+        for (int i = 0; i < players; i++) {
+            xs[i] = random.nextDouble(AREA);
+            ys[i] = random.nextDouble(64.0, 128.0);
+            zs[i] = random.nextDouble(AREA);
+        }
+        queries = new double[QUERIES * 3];
+        for (int i = 0; i < queries.length; i += 3) {
+            queries[i] = random.nextDouble(AREA);
+            queries[i + 1] = random.nextDouble(64.0, 128.0);
+            queries[i + 2] = random.nextDouble(AREA);
+        }
+        grid = new PositionGrid(RADIUS, xs, ys, zs, players);
+    }
+
+    private int next() {
+        int i = index + 3;
+        index = i == queries.length ? 0 : i;
+        return index;
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int q = next();
+        double x = queries[q];
+        double y = queries[q + 1];
+        double z = queries[q + 2];
+        int best = PositionGrid.NONE;
+        double bestSq = RADIUS_SQ;
+        for (int i = 0; i < players; i++) {
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double dz = zs[i] - z;
+            double d2 = dx * dx + dy * dy + dz * dz;
+            if (d2 < bestSq) {
+                best = i;
+                bestSq = d2;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int gridQuery() {
+        int q = next();
+        return grid.nearest(queries[q], queries[q + 1], queries[q + 2], RADIUS_SQ, ALL);
+    }
+
+    @Benchmark
+    public PositionGrid gridRebuild() {
+        return new PositionGrid(RADIUS, xs, ys, zs, players);
+    }
+}
@@ -0,0 +1,136 @@
+package ascendant.core.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Call shapes of the reflective bridges, before (Method.invoke, Constructor.newInstance, boxed Field.get/set)
+ * and after (typed handles from ReflectionHelper in static final fields). The game classes are not
+ * loadable here, so stand-ins with the same signatures are used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectiveBridgeBenchmark {
+    private static final Method PUT_MODIFIER =
+            ReflectionHelper.getMethod(StatMap.class, "putModifier", String.class, Object.class);
+    private static final MethodHandle PUT_MODIFIER_HANDLE = ReflectionHelper.unreflect(PUT_MODIFIER,
+            MethodType.methodType(void.class, Object.class, String.class, Object.class));
+
+    private static final Method GET_QUALITY = ReflectionHelper.getMethod(Item.class, "getQuality");
+    private static final MethodHandle GET_QUALITY_HANDLE = ReflectionHelper.unreflect(GET_QUALITY,
+            MethodType.methodType(int.class, Object.class));
+    private static final Method WITH_QUALITY = ReflectionHelper.getMethod(Item.class, "withQuality", int.class);
+    private static final MethodHandle WITH_QUALITY_HANDLE = ReflectionHelper.unreflect(WITH_QUALITY,
+            MethodType.methodType(Object.class, Object.class, int.class));
+
+    private static final Constructor<?> BUFFER_CTOR = ReflectionHelper.getDeclaredConstructor(Buffer.class, Store.class);
+    private static final MethodHandle BUFFER_CTOR_HANDLE = ReflectionHelper.unreflectConstructor(BUFFER_CTOR,
+            MethodType.methodType(Buffer.class, Store.class));
+
+    private static final Field CHANCE = ReflectionHelper.getDeclaredField(EliteConfig.class, "rareChance");
+    private static final MethodHandle CHANCE_GETTER = ReflectionHelper.unreflectGetter(CHANCE,
+            MethodType.methodType(double.class, Object.class));
+    private static final MethodHandle CHANCE_SETTER = ReflectionHelper.unreflectSetter(CHANCE,
+            MethodType.methodType(void.class, Object.class, double.class));
+
+    private final StatMap statMap = new StatMap();
+    private final Object modifier = new Object();
+    private final Item item = new Item(2);
+    private final Store store = new Store();
+    private final EliteConfig eliteConfig = new EliteConfig();
+
+    @Benchmark
+    public void statModifierInvoke() throws Exception {
+        PUT_MODIFIER.invoke(statMap, "ascendant_health", modifier);
+    }
+
+    @Benchmark
+    public void statModifierHandle() throws Throwable {
+        PUT_MODIFIER_HANDLE.invokeExact((Object) statMap, "ascendant_health", modifier);
+    }
+
+    @Benchmark
+    public Object itemQualityInvoke() throws Exception {
+        int quality = (Integer) GET_QUALITY.invoke(item);
+        return WITH_QUALITY.invoke(item, quality + 1);
+    }
+
+    @Benchmark
+    public Object itemQualityHandle() throws Throwable {
+        int quality = (int) GET_QUALITY_HANDLE.invokeExact((Object) item);
+        return (Object) WITH_QUALITY_HANDLE.invokeExact((Object) item, quality + 1);
+    }
+
+    @Benchmark
+    public Object commandBufferNewInstance() throws Exception {
+        return BUFFER_CTOR.newInstance(store);
+    }
+
+    @Benchmark
+    public Object commandBufferHandle() throws Throwable {
+        return (Buffer) BUFFER_CTOR_HANDLE.invokeExact(store);
+    }
+
+    @Benchmark
+    public double eliteChanceField() throws Exception {
+        double chance = (Double) CHANCE.get(eliteConfig);
+        CHANCE.set(eliteConfig, chance * 0.5 + 0.01);
+        return chance;
+    }
+
+    @Benchmark
+    public double eliteChanceHandle() throws Throwable {
+        double chance = (double) CHANCE_GETTER.invokeExact((Object) eliteConfig);
+        CHANCE_SETTER.invokeExact((Object) eliteConfig, chance * 0.5 + 0.01);
+        return chance;
+    }
+
+    public static final class StatMap {
+        private Object last;
+
+        public void putModifier(String key, Object modifier) {
+            this.last = modifier;
+        }
+    }
+
+    public static final class Item {
+        private final int quality;
+
+        public Item(int quality) {
+            this.quality = quality;
+        }
+
+        public int getQuality() {
+            return quality;
+        }
+
+        public Item withQuality(int quality) {
+            return quality == this.quality ? this : new Item(quality & 7);
+        }
+    }
+
+    public static final class Store {
+    }
+
+    public static final class Buffer {
+        private final Store store;
+
+        Buffer(Store store) {
+            this.store = store;
+        }
+    }
+
+    public static final class EliteConfig {
+        private double rareChance = 0.05;
+    }
+}
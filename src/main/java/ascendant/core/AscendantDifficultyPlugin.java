@@ -11,10 +11,15 @@ import ascendant.core.config.*;
 import ascendant.core.events.OnDeath;
 import ascendant.core.scaling.*;
 import ascendant.core.ui.DifficultyBadge;
+import ascendant.core.ui.DifficultyBadgeTickSystem;
 import ascendant.core.util.CommandRegistrationUtil;
+import ascendant.core.util.Logging;
 import ascendant.core.util.NpcRoles;
+import ascendant.core.util.WorldTierUiSync;
+import ascendant.core.util.WorldTierUiSyncTickSystem;
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
 import com.hypixel.hytale.server.core.event.events.player.PlayerChatEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
@@ -37,14 +42,23 @@ public class AscendantDifficultyPlugin extends JavaPlugin {
         super.setup();
         this.loadDifficultyConfig();
         DifficultyManager.initialize(this.difficultyConfig, this.difficultySettings);
+        Logging.register();
+        WorldTierUiSync.register();
         RuntimeSettings.load();
+        if (DifficultyManager.getFromConfig(DifficultyIO.HOT_RELOAD_ENABLED)) {
+            DifficultyConfigWatcher.start();
+        }
         registerCommands();
 
         NpcRoles.preload();
+        // nearest player lookups
+        this.getEntityStoreRegistry().registerSystem(new PlayerSpatialIndexTickSystem());
         // damage entity receive from player
         this.getEntityStoreRegistry().registerSystem(new EntityDamageReceiveMultiplier());
         // damage player receive
         this.getEntityStoreRegistry().registerSystem(new PlayerDamageReceiveMultiplier());
+        // spawn count veto, decided before health scaling
+        this.getEntityStoreRegistry().registerSystem(new SpawnCountMultiplierSystem.VetoSystem());
         // health
         this.getEntityStoreRegistry().registerSystem(new NearestPlayerHealthScaleSystem());
         // spawn count
@@ -61,13 +75,24 @@ public class AscendantDifficultyPlugin extends JavaPlugin {
         // experience
         ExperienceAndCashMultiplier.initialize();
         //CosmeticDamageNumbersAdapter.register();
+        // read player settings off-thread before the player is ready
+        this.getEventRegistry().registerGlobal(PlayerConnectEvent.class, (playerConnectEvent) ->
+                DifficultyManager.preloadPlayerSettings(playerConnectEvent.getPlayerRef().getUuid()));
         // badge
+        this.getEntityStoreRegistry().registerSystem(new DifficultyBadgeTickSystem());
+        // debounced tier UI refresh
+        this.getEntityStoreRegistry().registerSystem(new WorldTierUiSyncTickSystem());
         this.getEventRegistry().registerGlobal(PlayerReadyEvent.class, (playerReadyEvent) -> {
+            DifficultyManager.onPlayerOnline(playerReadyEvent.getPlayer().getUuid());
             DifficultyBadge.onPlayerReady(playerReadyEvent);
+            WorldTierUiSync.onPlayerReady(playerReadyEvent.getPlayer().getUuid());
         });
 
         this.getEventRegistry().registerGlobal(PlayerDisconnectEvent.class, (playerDisconnectEvent) -> {
+            DifficultyManager.onPlayerOffline(playerDisconnectEvent.getPlayerRef().getUuid());
             DifficultyBadge.onPlayerDisconnect(playerDisconnectEvent);
+            WorldTierUiSync.onPlayerDisconnect(playerDisconnectEvent.getPlayerRef().getUuid());
+            ServerPlayerListAdapter.onPlayerDisconnect(playerDisconnectEvent.getPlayerRef().getUuid());
         });
         this.getEventRegistry().registerGlobal(PlayerChatEvent.class, ChatTierTagHandler::handle);
         // Notifications adapter PACKET_ID = 212
@@ -79,6 +104,17 @@ public class AscendantDifficultyPlugin extends JavaPlugin {
         this.getEntityStoreRegistry().registerSystem(new KillFeedTierTagHandler.KillerSystem());
         this.getEntityStoreRegistry().registerSystem(new KillFeedTierTagHandler.DecedentSystem());
         this.getEntityStoreRegistry().registerSystem(new KillFeedTierTagHandler.DisplaySystem());
+        this.getEntityStoreRegistry().registerSystem(new KillFeedTierTagHandler.DigestSystem());
+    }
+
+    @Override
+    protected void shutdown() {
+        DifficultyConfigWatcher.stop();
+        DifficultyAdminConfigEditor.shutdown();
+        // flush queued player settings
+        DifficultyManager.shutdown();
+        Logging.shutdown();
+        super.shutdown();
     }
 
     private void loadDifficultyConfig() {
@@ -1,7 +1,7 @@
 package ascendant.core.adapter;
 
-import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
+import ascendant.core.config.SettingKey;
 import com.hypixel.hytale.protocol.Packet;
 import com.hypixel.hytale.protocol.packets.player.DamageInfo;
 import com.hypixel.hytale.server.core.io.adapter.PacketAdapters;
@@ -47,7 +47,7 @@ public final class CosmeticDamageNumbersAdapter {
             return;
         }
 
-        double hmCfg = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_HEALTH_MULTIPLIER);
+        double hmCfg = DifficultyManager.getSettings().get(tierId, SettingKey.HEALTH_MULTIPLIER);
         float hm = (float) Math.max(0.0, hmCfg);
         if (hm <= 0.0f || nearlyEquals(hm, 1.0f)) {
             return;
@@ -1,7 +1,5 @@
 package ascendant.core.adapter;
 
-import ascendant.core.config.DifficultyIO;
-import ascendant.core.config.DifficultyManager;
 import ascendant.core.util.FormattedMessageInspector;
 import ascendant.core.util.Logging;
 import com.hypixel.hytale.protocol.Packet;
@@ -16,7 +14,6 @@ import javax.annotation.Nonnull;
 public final class KillFeedAdapter {
 
     private static volatile PacketFilter _registered;
-    private static boolean _allowDebugLogging;
 
     private KillFeedAdapter() {
     }
@@ -28,7 +25,6 @@ public final class KillFeedAdapter {
 
         PlayerPacketWatcher watcher = KillFeedAdapter::_handleOutbound;
         _registered = PacketAdapters.registerOutbound(watcher);
-        _allowDebugLogging = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DEBUG_LOGGING);
     }
 
     public static void unregister() {
@@ -45,15 +41,15 @@ public final class KillFeedAdapter {
             return;
         }
 
-        if (!_allowDebugLogging) {
+        if (!Logging.isDebugEnabled(Logging.Category.KILLFEED)) {
             return;
         }
 
         String killerDebug = FormattedMessageInspector.toDebugString(kf.killer);
         String decedentDebug = FormattedMessageInspector.toDebugString(kf.decedent);
 
-        Logging.debug("[KILLFEED LOGGER] killer " + killerDebug);
-        Logging.debug("[KILLFEED LOGGER] decedent " + decedentDebug);
-        Logging.debug("[KILLFEED LOGGER] icon " + (kf.icon == null ? "null" : kf.icon));
+        Logging.debug(Logging.Category.KILLFEED, "[KILLFEED LOGGER] killer " + killerDebug);
+        Logging.debug(Logging.Category.KILLFEED, "[KILLFEED LOGGER] decedent " + decedentDebug);
+        Logging.debug(Logging.Category.KILLFEED, "[KILLFEED LOGGER] icon " + (kf.icon == null ? "null" : kf.icon));
     }
 }
@@ -12,11 +12,14 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.protocol.FormattedMessage;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.entity.Entity;
 import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
 import com.hypixel.hytale.server.core.modules.entity.damage.event.KillFeedEvent;
@@ -25,13 +28,27 @@ import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Tier tags for the kill feed and the optional tier kill chat. Chat templates are compiled once per config
+ * version; kill chats are queued per world and sent by DigestSystem on the next world tick, where bursts
+ * above the digest threshold collapse into one line per killer.
+ */
 public final class KillFeedTierTagHandler {
     private static final String KILLED_BY_KEY = "server.general.killedBy";
+    private static final String COUNT_PLACEHOLDER = "{count}";
+
+    private static volatile CompiledMessages _compiled;
+    // only touched on the owning world thread; the map itself is shared between worlds
+    private static final ConcurrentHashMap<Store<EntityStore>, List<PendingChat>> _pendingByStore = new ConcurrentHashMap<>();
 
     private KillFeedTierTagHandler() {
     }
@@ -113,76 +130,176 @@ public final class KillFeedTierTagHandler {
             return;
         }
 
-        String playerColor = getColor(DifficultyIO.KILLFEED_CHAT_COLOR_PLAYER, DifficultyIO.DEFAULT_KILLFEED_CHAT_COLOR_PLAYER);
-        String middleColor = getColor(DifficultyIO.KILLFEED_CHAT_COLOR_MIDDLE, DifficultyIO.DEFAULT_KILLFEED_CHAT_COLOR_MIDDLE);
-        String causeColor = getColor(DifficultyIO.KILLFEED_CHAT_COLOR_CAUSE, DifficultyIO.DEFAULT_KILLFEED_CHAT_COLOR_CAUSE);
-
+        CompiledMessages messages = compiled();
         DamageCause damageCause = damage != null ? damage.getCause() : null;
         String causeId = resolveCauseId(damage);
+        String killerTag = killer != null ? buildTaggedName(killer) : null;
 
-        Message victimMessage = applyColor(Message.raw(victimTag), playerColor);
+        Message victimMessage = applyColor(Message.raw(victimTag), messages.playerColor);
         Message chat = damageCause == null
-                ? buildFallbackChat(victimMessage, middleColor, causeId)
-                : buildChatForCause(damageCause, store, victimRef, damage, killer, victimMessage, playerColor, middleColor, causeColor);
+                ? buildFallbackChat(messages, victimMessage, causeId)
+                : buildChatForCause(messages, damageCause, store, victimRef, damage, killerTag, victimMessage);
         if (chat == null) {
-            chat = buildFallbackChat(victimMessage, middleColor, causeId);
+            chat = buildFallbackChat(messages, victimMessage, causeId);
         }
         if (chat == null) {
             return;
         }
 
-        if (!sendToUniverse(chat)) {
-            for (PlayerRef playerRef : targets) {
-                if (playerRef != null) {
-                    playerRef.sendMessage(chat);
+        if (store.isShutdown()) {
+            return;
+        }
+        // copied: the chat goes out on a later tick, when the victim may have moved or respawned
+        Vector3d livePos = positionOf(store, victimRef);
+        Vector3d victimPos = livePos == null ? null : new Vector3d(livePos.getX(), livePos.getY(), livePos.getZ());
+        _pendingByStore.computeIfAbsent(store, _store -> new ArrayList<>())
+                .add(new PendingChat(chat, killerTag, victimPos, targets));
+    }
+
+    // Runs on the world thread of store: sends what its kills queued since the last tick.
+    private static void drainPending(@Nonnull Store<EntityStore> store) {
+        if (_pendingByStore.isEmpty()) {
+            return;
+        }
+        // chats of unloaded worlds are never drained; drop them so the Store can be released
+        _pendingByStore.keySet().removeIf(Store::isShutdown);
+        List<PendingChat> pending = _pendingByStore.remove(store);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        CompiledMessages messages = compiled();
+        if (messages.digestThreshold <= 0 || pending.size() <= messages.digestThreshold) {
+            for (PendingChat chat : pending) {
+                deliver(messages, store, chat.chat(), chat.position(), chat.fallbackTargets());
+            }
+            return;
+        }
+
+        // one line per killer; deaths without a player killer share one line
+        Map<String, List<PendingChat>> byKiller = new LinkedHashMap<>();
+        for (PendingChat chat : pending) {
+            byKiller.computeIfAbsent(chat.killerTag() != null ? chat.killerTag() : "", _key -> new ArrayList<>()).add(chat);
+        }
+        for (Map.Entry<String, List<PendingChat>> entry : byKiller.entrySet()) {
+            List<PendingChat> chats = entry.getValue();
+            PendingChat first = chats.get(0);
+            if (chats.size() == 1) {
+                deliver(messages, store, first.chat(), first.position(), first.fallbackTargets());
+                continue;
+            }
+            Message digest = entry.getKey().isEmpty()
+                    ? applyColor(Message.raw(messages.formatDied(chats.size())), messages.middleColor)
+                    : buildKillerDigest(messages, entry.getKey(), chats.size());
+            deliver(messages, store, digest, first.position(), first.fallbackTargets());
+        }
+    }
+
+    private static Message buildKillerDigest(@Nonnull CompiledMessages messages, @Nonnull String killerTag, int count) {
+        Message chat = Message.empty();
+        chat.insertAll(
+                applyColor(Message.raw(killerTag), messages.playerColor),
+                applyColor(Message.raw(messages.formatKiller(count)), messages.middleColor)
+        );
+        return chat;
+    }
+
+    private static void deliver(@Nonnull CompiledMessages messages,
+                                @Nonnull Store<EntityStore> store,
+                                @Nonnull Message chat,
+                                @Nullable Vector3d position,
+                                @Nonnull List<PlayerRef> fallbackTargets) {
+        Universe universe = Universe.get();
+        if (universe == null) {
+            sendTo(fallbackTargets, chat);
+            return;
+        }
+        if (messages.scope == DeliveryScope.UNIVERSE) {
+            universe.sendMessage(chat);
+            return;
+        }
+
+        boolean byRadius = messages.scope == DeliveryScope.RADIUS && position != null;
+        for (PlayerRef playerRef : universe.getPlayers()) {
+            if (playerRef == null || !playerRef.isValid()) {
+                continue;
+            }
+            Ref<EntityStore> ref = playerRef.getReference();
+            if (ref == null || !ref.isValid() || ref.getStore() != store) {
+                continue;
+            }
+            if (byRadius) {
+                Vector3d playerPos = positionOf(store, ref);
+                if (playerPos == null || distanceSq(playerPos, position) > messages.radiusSq) {
+                    continue;
                 }
             }
+            playerRef.sendMessage(chat);
+        }
+    }
+
+    private static void sendTo(@Nonnull List<PlayerRef> targets, @Nonnull Message chat) {
+        for (PlayerRef playerRef : targets) {
+            if (playerRef != null) {
+                playerRef.sendMessage(chat);
+            }
         }
     }
 
-    private static Message buildChatForCause(@Nonnull DamageCause damageCause,
+    @Nullable
+    private static Vector3d positionOf(@Nonnull Store<EntityStore> store, @Nonnull Ref<EntityStore> ref) {
+        TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+        return tc != null ? tc.getPosition() : null;
+    }
+
+    private static double distanceSq(@Nonnull Vector3d a, @Nonnull Vector3d b) {
+        double dx = a.getX() - b.getX();
+        double dy = a.getY() - b.getY();
+        double dz = a.getZ() - b.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static Message buildChatForCause(@Nonnull CompiledMessages messages,
+                                             @Nonnull DamageCause damageCause,
                                              @Nonnull Store<EntityStore> store,
                                              @Nonnull Ref<EntityStore> victimRef,
                                              @Nonnull Damage damage,
-                                             Player killer,
-                                             @Nonnull Message victimMessage,
-                                             @Nonnull String playerColor,
-                                             @Nonnull String middleColor,
-                                             @Nonnull String causeColor) {
+                                             String killerTag,
+                                             @Nonnull Message victimMessage) {
         if (damageCause == DamageCause.PHYSICAL || damageCause == DamageCause.PROJECTILE) {
-            return buildPhysicalChat(store, victimRef, damage, killer, victimMessage, playerColor, middleColor, causeColor);
+            return buildPhysicalChat(messages, store, victimRef, damage, killerTag, victimMessage);
         }
         if (damageCause == DamageCause.COMMAND) {
-            return buildRandomVictimChat(victimMessage, middleColor, DifficultyIO.KILLFEED_CHAT_MESSAGES_COMMAND);
+            return buildRandomVictimChat(messages, victimMessage, messages.command);
         }
         if (damageCause == DamageCause.DROWNING) {
-            return buildRandomVictimChat(victimMessage, middleColor, DifficultyIO.KILLFEED_CHAT_MESSAGES_DROWNING);
+            return buildRandomVictimChat(messages, victimMessage, messages.drowning);
         }
         if (damageCause == DamageCause.SUFFOCATION) {
-            return buildRandomVictimChat(victimMessage, middleColor, DifficultyIO.KILLFEED_CHAT_MESSAGES_SUFFOCATION);
+            return buildRandomVictimChat(messages, victimMessage, messages.suffocation);
         }
         if (damageCause == DamageCause.ENVIRONMENT) {
-            return buildRandomVictimChat(victimMessage, middleColor, DifficultyIO.KILLFEED_CHAT_MESSAGES_ENVIRONMENT);
+            return buildRandomVictimChat(messages, victimMessage, messages.environment);
         }
         if (damageCause == DamageCause.FALL) {
-            return buildRandomVictimChat(victimMessage, middleColor, DifficultyIO.KILLFEED_CHAT_MESSAGES_FALL);
+            return buildRandomVictimChat(messages, victimMessage, messages.fall);
         }
         if (damageCause == DamageCause.OUT_OF_WORLD) {
-            return buildRandomVictimChat(victimMessage, middleColor, DifficultyIO.KILLFEED_CHAT_MESSAGES_OUT_OF_WORLD);
+            return buildRandomVictimChat(messages, victimMessage, messages.outOfWorld);
         }
         return null;
     }
 
-    private static Message buildFallbackChat(@Nonnull Message victimMessage,
-                                             @Nonnull String middleColor, String causeId) {
-        Logging.debug("[FALLBACK] " + causeId);
-        String causeMessage = pickRandomCauseMessage(causeId);
+    private static Message buildFallbackChat(@Nonnull CompiledMessages messages,
+                                             @Nonnull Message victimMessage, String causeId) {
+        Logging.debug(Logging.Category.KILLFEED, () -> "[FALLBACK] " + causeId);
+        String causeMessage = pickRandomMessage(messages.byCauseId(causeId));
         if (causeMessage != null) {
             Message chat = Message.empty();
-            chat.insertAll(victimMessage, applyColor(Message.raw(causeMessage), middleColor));
+            chat.insertAll(victimMessage, applyColor(Message.raw(causeMessage), messages.middleColor));
             return chat;
         }
-        return buildRandomVictimChat(victimMessage, middleColor, DifficultyIO.KILLFEED_CHAT_MESSAGES_FALLBACK);
+        return buildRandomVictimChat(messages, victimMessage, messages.fallback);
     }
 
     private static String resolveCauseId(Damage damage) {
@@ -202,50 +319,41 @@ public final class KillFeedTierTagHandler {
         return "unknown";
     }
 
-    private static String pickRandomCauseMessage(String causeId) {
-        if (causeId == null || causeId.isBlank()) {
-            return null;
-        }
-        String path = DifficultyIO.PATH_KILLFEED_CHAT_MESSAGES_BY_CAUSE_ID + "." + causeId.toLowerCase(Locale.ROOT);
-        List<String> messages = DifficultyManager.getConfig().getStringList(path, List.of());
-        return pickRandomMessage(messages);
-    }
-
-    private static Message buildRandomVictimChat(@Nonnull Message victimMessage,
-                                                 @Nonnull String middleColor,
-                                                 @Nonnull ConfigKey<List<String>> messageKey) {
-        String chosen = pickRandomMessage(messageKey);
+    private static Message buildRandomVictimChat(@Nonnull CompiledMessages messages,
+                                                 @Nonnull Message victimMessage,
+                                                 @Nonnull String[] pool) {
+        String chosen = pickRandomMessage(pool);
         if (chosen == null) {
             return null;
         }
         Message chat = Message.empty();
-        chat.insertAll(victimMessage, applyColor(Message.raw(chosen), middleColor));
+        chat.insertAll(victimMessage, applyColor(Message.raw(chosen), messages.middleColor));
         return chat;
     }
 
-    private static Message buildPhysicalChat(@Nonnull Store<EntityStore> store,
+    private static Message buildPhysicalChat(@Nonnull CompiledMessages messages,
+                                             @Nonnull Store<EntityStore> store,
                                              @Nonnull Ref<EntityStore> victimRef,
                                              @Nonnull Damage damage,
-                                             Player killer,
-                                             @Nonnull Message victimMessage,
-                                             @Nonnull String playerColor,
-                                             @Nonnull String middleColor,
-                                             @Nonnull String causeColor) {
+                                             String killerTag,
+                                             @Nonnull Message victimMessage) {
+        String playerColor = messages.playerColor;
+        String middleColor = messages.middleColor;
+        String causeColor = messages.causeColor;
         Message causeMessage = buildDeathCauseMessage(store, victimRef, damage);
         if (causeMessage != null) {
             String causeMessageAnsi = causeMessage.getAnsiMessage();
             if (causeMessageAnsi == null || causeMessageAnsi.isBlank()) {
                 causeMessage = null;
             } else {
-                Logging.debug(causeMessageAnsi);
+                Logging.debug(Logging.Category.KILLFEED, causeMessageAnsi);
                 causeMessageAnsi = causeMessageAnsi.replace("You were killed by ", "");
                 causeMessage = applyColor(Message.raw(causeMessageAnsi), causeColor);
             }
         }
 
-        String killerTag = killer != null ? buildTaggedName(killer) : null;
         if (killerTag != null) {
-            String killerAction = pickRandomMessage(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_KILLER_ACTION);
+            String killerAction = pickRandomMessage(messages.killerAction);
             if (killerAction == null) {
                 return null;
             }
@@ -253,7 +361,7 @@ public final class KillFeedTierTagHandler {
             Message chat = Message.empty();
             chat.insertAll(killerMessage, applyColor(Message.raw(killerAction), middleColor), victimMessage);
             if (causeMessage != null) {
-                String killerCause = pickRandomMessage(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_KILLER_CAUSE);
+                String killerCause = pickRandomMessage(messages.killerCause);
                 if (killerCause != null) {
                     chat.insertAll(applyColor(Message.raw(killerCause), middleColor), causeMessage);
                 }
@@ -262,7 +370,7 @@ public final class KillFeedTierTagHandler {
         }
 
         if (causeMessage != null) {
-            String victimCause = pickRandomMessage(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_CAUSE);
+            String victimCause = pickRandomMessage(messages.victimCause);
             if (victimCause == null) {
                 return null;
             }
@@ -271,7 +379,7 @@ public final class KillFeedTierTagHandler {
             return chat;
         }
 
-        String victimDied = pickRandomMessage(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED);
+        String victimDied = pickRandomMessage(messages.victimDied);
         if (victimDied == null) {
             return null;
         }
@@ -280,17 +388,21 @@ public final class KillFeedTierTagHandler {
         return chat;
     }
 
-    private static String pickRandomMessage(@Nonnull ConfigKey<List<String>> key) {
-        List<String> messages = DifficultyManager.getFromConfig(key);
-        return pickRandomMessage(messages);
+    private static String pickRandomMessage(String[] pool) {
+        if (pool == null || pool.length == 0) {
+            return null;
+        }
+        return pool[ThreadLocalRandom.current().nextInt(pool.length)];
     }
 
-    private static String pickRandomMessage(List<String> messages) {
-        if (messages == null || messages.isEmpty()) {
-            return null;
+    private static CompiledMessages compiled() {
+        long version = DifficultyManager.getSnapshot().version();
+        CompiledMessages compiled = _compiled;
+        if (compiled == null || compiled.version != version) {
+            compiled = new CompiledMessages(version);
+            _compiled = compiled;
         }
-        int idx = ThreadLocalRandom.current().nextInt(messages.size());
-        return messages.get(idx);
+        return compiled;
     }
 
     private static Message buildDeathCauseMessage(@Nonnull Store<EntityStore> store,
@@ -396,16 +508,119 @@ public final class KillFeedTierTagHandler {
         return TierTagUtil.buildTaggedName(player.getUuid(), playerName, TierTagUtil.PrefixKind.KILLFEED);
     }
 
-    private static boolean sendToUniverse(Message chat) {
-        if (chat == null) {
-            return false;
+    private enum DeliveryScope {
+        UNIVERSE,
+        WORLD,
+        RADIUS;
+
+        static DeliveryScope parse(String raw) {
+            if (raw == null) {
+                return UNIVERSE;
+            }
+            return switch (raw.trim().toLowerCase(Locale.ROOT)) {
+                case "world" -> WORLD;
+                case "radius" -> RADIUS;
+                default -> UNIVERSE;
+            };
         }
-        Universe universe = Universe.get();
-        if (universe == null) {
-            return false;
+    }
+
+    private record PendingChat(Message chat, String killerTag, Vector3d position, List<PlayerRef> fallbackTargets) {
+    }
+
+    // Everything the kill chat reads from config, resolved once per config version.
+    private static final class CompiledMessages {
+        final long version;
+        final String playerColor;
+        final String middleColor;
+        final String causeColor;
+        final String[] fallback;
+        final String[] command;
+        final String[] drowning;
+        final String[] suffocation;
+        final String[] environment;
+        final String[] fall;
+        final String[] outOfWorld;
+        final String[] killerAction;
+        final String[] killerCause;
+        final String[] victimCause;
+        final String[] victimDied;
+        final DeliveryScope scope;
+        final double radiusSq;
+        final int digestThreshold;
+        // digest templates split around {count}
+        final String[] digestKiller;
+        final String[] digestDied;
+        private final ConcurrentHashMap<String, String[]> byCauseId = new ConcurrentHashMap<>();
+
+        CompiledMessages(long version) {
+            this.version = version;
+            this.playerColor = getColor(DifficultyIO.KILLFEED_CHAT_COLOR_PLAYER, DifficultyIO.DEFAULT_KILLFEED_CHAT_COLOR_PLAYER);
+            this.middleColor = getColor(DifficultyIO.KILLFEED_CHAT_COLOR_MIDDLE, DifficultyIO.DEFAULT_KILLFEED_CHAT_COLOR_MIDDLE);
+            this.causeColor = getColor(DifficultyIO.KILLFEED_CHAT_COLOR_CAUSE, DifficultyIO.DEFAULT_KILLFEED_CHAT_COLOR_CAUSE);
+            this.fallback = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_FALLBACK);
+            this.command = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_COMMAND);
+            this.drowning = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_DROWNING);
+            this.suffocation = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_SUFFOCATION);
+            this.environment = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_ENVIRONMENT);
+            this.fall = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_FALL);
+            this.outOfWorld = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_OUT_OF_WORLD);
+            this.killerAction = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_KILLER_ACTION);
+            this.killerCause = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_KILLER_CAUSE);
+            this.victimCause = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_CAUSE);
+            this.victimDied = pool(DifficultyIO.KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED);
+            this.scope = DeliveryScope.parse(DifficultyManager.getFromConfig(DifficultyIO.KILLFEED_CHAT_DELIVERY_SCOPE));
+            double radius = Math.max(0.0, DifficultyManager.getFromConfig(DifficultyIO.KILLFEED_CHAT_DELIVERY_RADIUS));
+            this.radiusSq = radius * radius;
+            this.digestThreshold = DifficultyManager.getFromConfig(DifficultyIO.KILLFEED_CHAT_DIGEST_THRESHOLD);
+            this.digestKiller = split(DifficultyManager.getFromConfig(DifficultyIO.KILLFEED_CHAT_DIGEST_KILLER), DifficultyIO.DEFAULT_KILLFEED_CHAT_DIGEST_KILLER);
+            this.digestDied = split(DifficultyManager.getFromConfig(DifficultyIO.KILLFEED_CHAT_DIGEST_DIED), DifficultyIO.DEFAULT_KILLFEED_CHAT_DIGEST_DIED);
+        }
+
+        // Cause ids are only known when they occur, so their pools are compiled on first use.
+        String[] byCauseId(String causeId) {
+            if (causeId == null || causeId.isBlank()) {
+                return null;
+            }
+            return byCauseId.computeIfAbsent(causeId.toLowerCase(Locale.ROOT), id -> {
+                String path = DifficultyIO.PATH_KILLFEED_CHAT_MESSAGES_BY_CAUSE_ID + "." + id;
+                return DifficultyManager.getConfig().getStringList(path, List.of()).toArray(new String[0]);
+            });
+        }
+
+        String formatKiller(int count) {
+            return String.join(Integer.toString(count), digestKiller);
+        }
+
+        String formatDied(int count) {
+            return String.join(Integer.toString(count), digestDied);
+        }
+
+        private static String[] pool(@Nonnull ConfigKey<List<String>> key) {
+            List<String> messages = DifficultyManager.getFromConfig(key);
+            return messages != null ? messages.toArray(new String[0]) : new String[0];
+        }
+
+        private static String[] split(String template, @Nonnull String fallback) {
+            String value = template != null && !template.isBlank() ? template : fallback;
+            List<String> segments = new ArrayList<>();
+            int start = 0;
+            int idx;
+            while ((idx = value.indexOf(COUNT_PLACEHOLDER, start)) >= 0) {
+                segments.add(value.substring(start, idx));
+                start = idx + COUNT_PLACEHOLDER.length();
+            }
+            segments.add(value.substring(start));
+            return segments.toArray(new String[0]);
+        }
+    }
+
+    // Sends the kill chats queued by DisplaySystem once per world tick.
+    public static final class DigestSystem extends TickingSystem<EntityStore> {
+        @Override
+        public void tick(float dt, int tick, @Nonnull Store<EntityStore> store) {
+            drainPending(store);
         }
-        universe.sendMessage(chat);
-        return true;
     }
 
     public static final class KillerSystem extends EntityEventSystem<EntityStore, KillFeedEvent.KillerMessage> {
@@ -1,7 +1,5 @@
 package ascendant.core.adapter;
 
-import ascendant.core.config.DifficultyIO;
-import ascendant.core.config.DifficultyManager;
 import ascendant.core.config.RuntimeSettings;
 import ascendant.core.scaling.ExperienceAndCashMultiplier;
 import ascendant.core.util.FormattedMessageInspector;
@@ -29,7 +27,6 @@ public final class NotificationsAdapter {
             Pattern.compile("\\+(\\d+)\\s+([A-Za-z ]+)\\s+XP");
 
     private static volatile PacketFilter _registered;
-    private static boolean _allowDebugLogging;
     private static boolean _allowXPReward;
     private static boolean _allowLevelingCoreIntegration;
     private static boolean _allowEcotaleIntegration;
@@ -46,7 +43,6 @@ public final class NotificationsAdapter {
 
         PlayerPacketWatcher watcher = NotificationsAdapter::_handleOutbound;
         _registered = PacketAdapters.registerOutbound(watcher);
-        _allowDebugLogging = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DEBUG_LOGGING);
         _allowXPReward = RuntimeSettings.allowXPReward();
         _allowLevelingCoreIntegration = RuntimeSettings.allowLevelingCoreIntegration();
         _allowEcotaleIntegration = RuntimeSettings.allowEcotaleIntegration();
@@ -128,14 +124,14 @@ public final class NotificationsAdapter {
     }
 
     private static void debugLogNotification(Notification n) {
-        if (!_allowDebugLogging) {
+        if (!Logging.isDebugEnabled(Logging.Category.NOTIFICATIONS)) {
             return;
         }
         String primaryDebug = FormattedMessageInspector.toDebugString(n.message);
         String secondaryDebug = FormattedMessageInspector.toDebugString(n.secondaryMessage);
 
-        Logging.debug("[NOTIFICATIONS LOGGER] pri " + primaryDebug);
-        Logging.debug("[NOTIFICATIONS LOGGER] sec " + secondaryDebug);
+        Logging.debug(Logging.Category.NOTIFICATIONS, "[NOTIFICATIONS LOGGER] pri " + primaryDebug);
+        Logging.debug(Logging.Category.NOTIFICATIONS, "[NOTIFICATIONS LOGGER] sec " + secondaryDebug);
     }
 
     private static ParsedXp parseXpRawText(String rawText) {
@@ -16,11 +16,19 @@ import com.hypixel.hytale.server.core.universe.Universe;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class ServerPlayerListAdapter {
     private static volatile PacketFilter _registered;
+    // raw and tagged list name per player; the tag is always rebuilt from the raw name
+    private static final ConcurrentHashMap<UUID, TaggedName> _taggedNames = new ConcurrentHashMap<>();
 
     private ServerPlayerListAdapter() {
     }
@@ -47,27 +55,50 @@ public final class ServerPlayerListAdapter {
         if (playerRef == null) {
             return;
         }
+        refreshPlayerEntries(List.of(playerRef));
+    }
 
-        ServerPlayerListPlayer entry = createServerListEntry(playerRef);
-        if (entry == null) {
+    // Re-sends the list entries of all given players as one Remove/Add pair instead of a pair per player.
+    public static void refreshPlayerEntries(@Nonnull Collection<PlayerRef> playerRefs) {
+        if (playerRefs.isEmpty()) {
+            return;
+        }
+        Universe universe = Universe.get();
+        if (universe == null) {
             return;
         }
 
-        if (DifficultyManager.getFromConfig(DifficultyIO.ALLOW_SERVERLIST_TIER_TAG)) {
-            String tagged = buildTaggedUsername(entry.uuid, entry.username);
-            if (tagged != null && !tagged.equals(entry.username)) {
-                entry.username = tagged;
+        boolean tagEnabled = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_SERVERLIST_TIER_TAG);
+        List<ServerPlayerListPlayer> entries = new ArrayList<>(playerRefs.size());
+        for (PlayerRef playerRef : playerRefs) {
+            ServerPlayerListPlayer entry = playerRef == null ? null : createServerListEntry(playerRef);
+            if (entry == null) {
+                continue;
+            }
+            if (tagEnabled) {
+                String tagged = buildTaggedUsername(entry.uuid, entry.username);
+                if (tagged != null && !tagged.equals(entry.username)) {
+                    entry.username = tagged;
+                }
             }
+            entries.add(entry);
         }
-
-        Universe universe = Universe.get();
-        if (universe == null) {
+        if (entries.isEmpty()) {
             return;
         }
 
-        UUID uuid = entry.uuid;
-        universe.broadcastPacket(new RemoveFromServerPlayerList(new UUID[]{uuid}));
-        universe.broadcastPacket(new AddToServerPlayerList(new ServerPlayerListPlayer[]{entry}));
+        UUID[] uuids = new UUID[entries.size()];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = entries.get(i).uuid;
+        }
+        universe.broadcastPacket(new RemoveFromServerPlayerList(uuids));
+        universe.broadcastPacket(new AddToServerPlayerList(entries.toArray(ServerPlayerListPlayer[]::new)));
+    }
+
+    public static void onPlayerDisconnect(@Nullable UUID playerUuid) {
+        if (playerUuid != null) {
+            _taggedNames.remove(playerUuid);
+        }
     }
 
     private static void _handleOutbound(@Nonnull PlayerRef playerRef, @Nonnull Packet packet) {
@@ -96,40 +127,63 @@ public final class ServerPlayerListAdapter {
 
     @Nullable
     private static ServerPlayerListPlayer createServerListEntry(@Nonnull PlayerRef playerRef) {
-        Method method = getCreateEntryMethod();
-        if (method == null) {
+        MethodHandle factory = EntryFactory.CREATE;
+        if (factory == null) {
             return null;
         }
         try {
-            Object value = method.invoke(null, playerRef);
-            if (value instanceof ServerPlayerListPlayer entry) {
-                return entry;
-            }
-        } catch (ReflectiveOperationException ignored) {
-        }
-        return null;
-    }
-
-    @Nullable
-    private static Method getCreateEntryMethod() {
-        Class<?> moduleClass = ReflectionHelper.resolveClass(
-                "com.hypixel.hytale.server.core.modules.serverplayerlist.ServerPlayerListModule");
-        if (moduleClass == null) {
+            return (ServerPlayerListPlayer) factory.invokeExact(playerRef);
+        } catch (Throwable ignored) {
             return null;
         }
-        return ReflectionHelper.getDeclaredMethod(moduleClass, "createServerPlayerListPlayer", PlayerRef.class);
     }
 
+    // The watcher runs for every entry of every packet to every recipient, so the result is cached per player.
     private static String buildTaggedUsername(UUID uuid, String username) {
-        String prefix = TierTagUtil.resolveTierPrefix(uuid, TierTagUtil.PrefixKind.CHAT);
-        if (prefix == null || prefix.isBlank()) {
+        if (uuid == null || username == null) {
             return username;
         }
+        String tierId = DifficultyManager.getDifficulty(uuid);
+        long configVersion = DifficultyManager.getSnapshot().version();
+        TaggedName cached = _taggedNames.get(uuid);
+        // packets are shared across recipients, so the entry may already carry a previously tagged name
+        String rawName = cached != null && cached.isKnownName(username) ? cached.rawName() : username;
+        if (cached != null && cached.matches(tierId, configVersion, rawName)) {
+            return cached.tagged();
+        }
+
+        String prefix = TierTagUtil.resolveTierPrefixForTier(tierId, TierTagUtil.PrefixKind.LIST);
+        String tagged = prefix == null || prefix.isBlank() ? rawName : prefix + rawName;
+        _taggedNames.put(uuid, new TaggedName(tierId, configVersion, rawName, tagged));
+        return tagged;
+    }
+
+    private record TaggedName(String tierId, long configVersion, String rawName, String tagged) {
+        private boolean isKnownName(String username) {
+            return rawName.equals(username) || tagged.equals(username);
+        }
+
+        private boolean matches(String tierId, long configVersion, String rawName) {
+            return this.configVersion == configVersion
+                    && Objects.equals(this.tierId, tierId)
+                    && this.rawName.equals(rawName);
+        }
+    }
 
-        String safeName = username == null ? "" : username;
-        if (safeName.startsWith(prefix)) {
-            return safeName;
+    // Resolved once; a static final handle lets the JIT inline the factory call.
+    private static final class EntryFactory {
+        private static final MethodHandle CREATE = resolve();
+
+        @Nullable
+        private static MethodHandle resolve() {
+            Class<?> moduleClass = ReflectionHelper.resolveClass(
+                    "com.hypixel.hytale.server.core.modules.serverplayerlist.ServerPlayerListModule");
+            if (moduleClass == null) {
+                return null;
+            }
+            return ReflectionHelper.unreflect(
+                    ReflectionHelper.getDeclaredMethod(moduleClass, "createServerPlayerListPlayer", PlayerRef.class),
+                    MethodType.methodType(ServerPlayerListPlayer.class, PlayerRef.class));
         }
-        return prefix + safeName;
     }
 }
@@ -1,7 +1,6 @@
 package ascendant.core.commands;
 
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.util.WorldTierUiSync;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.basecommands.AbstractAsyncCommand;
@@ -24,7 +23,6 @@ public final class ReloadConfigCommand extends AbstractAsyncCommand {
         return CompletableFuture.runAsync(() -> {
             try {
                 DifficultyManager.reloadConfig();
-                WorldTierUiSync.refreshAllPlayers();
                 commandContext.sendMessage(Message.raw("Difficulty config reloaded."));
             } catch (IOException e) {
                 commandContext.sendMessage(Message.raw("Failed to reload difficulty config: " + e.getMessage()));
@@ -1,8 +1,7 @@
 package ascendant.core.commands;
 
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.config.DifficultyMeta;
-import ascendant.core.util.WorldTierUiSync;
+import ascendant.core.config.TierPresentation;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
@@ -64,17 +63,15 @@ public final class WorldTierCommand extends AbstractAsyncCommand {
             return;
         }
 
-        WorldTierUiSync.refreshAllPlayers();
         DifficultyManager.WorldTierSnapshot snapshot = DifficultyManager.getWorldTierSnapshot();
-        DifficultyMeta.TierMeta meta = DifficultyMeta.resolve(DifficultyManager.getConfig(), snapshot.resolvedTier());
+        TierPresentation presentation = DifficultyManager.getPresentation(snapshot.resolvedTier());
         commandContext.sendMessage(Message.raw(
-                "World tier admin override set to '" + snapshot.resolvedTier() + "' (" + meta.displayName() + ")."));
+                "World tier admin override set to '" + snapshot.resolvedTier() + "' (" + presentation.displayName() + ")."));
         sendStatus(commandContext);
     }
 
     private void handleClear(@Nonnull CommandContext commandContext) {
         DifficultyManager.clearWorldTierAdminOverride();
-        WorldTierUiSync.refreshAllPlayers();
         commandContext.sendMessage(Message.raw("World tier admin override cleared."));
         sendStatus(commandContext);
     }
@@ -1,14 +1,11 @@
 package ascendant.core.commands.debug;
 
-import ascendant.core.adapter.ServerPlayerListAdapter;
 import ascendant.core.commands.AbstractPlayerCommand;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.config.DifficultyMeta;
 import ascendant.core.config.DifficultySettings;
-import ascendant.core.ui.DifficultyBadge;
+import ascendant.core.config.TierPresentation;
 import ascendant.core.util.EventNotificationWrapper;
-import ascendant.core.util.WorldTierUiSync;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
@@ -44,14 +41,8 @@ public final class SetTierHighestCommand extends AbstractPlayerCommand {
 
     static void setTierValue(@NonNullDecl PlayerRef playerRef, @NonNullDecl UUID playerUuid, @NonNullDecl CommandContext commandContext, String tierId) {
         DifficultyManager.setPlayerDifficultyOverride(playerUuid, tierId);
-        if (DifficultyManager.isWorldTierActive()) {
-            WorldTierUiSync.refreshAllPlayers();
-        } else {
-            ServerPlayerListAdapter.refreshPlayerEntry(playerRef);
-            DifficultyBadge.updateForPlayer(playerRef);
-        }
 
-        DifficultyMeta.TierMeta meta = DifficultyMeta.resolve(DifficultyManager.getConfig(), tierId);
-        EventNotificationWrapper.sendMajorEventNotification(playerRef, commandContext, meta.displayName(), "selected difficulty");
+        TierPresentation presentation = DifficultyManager.getPresentation(tierId);
+        EventNotificationWrapper.sendMajorEventNotification(playerRef, commandContext, presentation.displayName(), "selected difficulty");
     }
 }
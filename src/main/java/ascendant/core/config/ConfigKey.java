@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.Objects;
 
 public final class ConfigKey<T> {
+    static final int UNINDEXED = -1;
+
+    // Position in DifficultyIO.CONFIG_KEYS, assigned once by index(...).
+    private int id = UNINDEXED;
     private final String path;
     private final T defaultValue;
     private final Reader<T> reader;
@@ -14,6 +18,17 @@ public final class ConfigKey<T> {
         this.reader = Objects.requireNonNull(reader, "reader");
     }
 
+    // Numbers the keys by their position so a snapshot can hold their values in one array.
+    static List<ConfigKey<?>> index(ConfigKey<?>... keys) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].id != UNINDEXED) {
+                throw new IllegalStateException("Config key " + keys[i].path + " is indexed twice");
+            }
+            keys[i].id = i;
+        }
+        return List.of(keys);
+    }
+
     public static ConfigKey<String> ofString(String path, String defaultValue) {
         return new ConfigKey<>(path, defaultValue, DifficultyConfig::getString);
     }
@@ -51,6 +66,10 @@ public final class ConfigKey<T> {
         return reader.read(config, path, defaultValue);
     }
 
+    int id() {
+        return id;
+    }
+
     public String path() {
         return path;
     }
@@ -0,0 +1,91 @@
+package ascendant.core.config;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable view of the loaded config: every {@link ConfigKey} is resolved once when the snapshot is built,
+ * so reads are a plain array lookup instead of a JSON path walk. A new snapshot with a higher version is
+ * published by {@link DifficultyManager} on every (re)load. Tier presentations are resolved here as well,
+ * indexed by the tier ordinal of the settings' {@link TierRegistry}.
+ */
+public final class ConfigSnapshot {
+    private final long version;
+    private final DifficultyConfig config;
+    private final DifficultySettings settings;
+    private final Object[] values;
+    private final TierPresentation[] presentations;
+
+    private ConfigSnapshot(
+            long version,
+            DifficultyConfig config,
+            DifficultySettings settings,
+            Object[] values,
+            TierPresentation[] presentations
+    ) {
+        this.version = version;
+        this.config = config;
+        this.settings = settings;
+        this.values = values;
+        this.presentations = presentations;
+    }
+
+    static ConfigSnapshot capture(long version, DifficultyConfig config, DifficultySettings settings) {
+        Objects.requireNonNull(config, "config");
+        Objects.requireNonNull(settings, "settings");
+        List<ConfigKey<?>> keys = DifficultyIO.CONFIG_KEYS;
+        Object[] values = new Object[keys.size()];
+        for (ConfigKey<?> key : keys) {
+            Object value;
+            try {
+                value = key.read(config);
+            } catch (RuntimeException e) {
+                System.err.println("[ascendant] Failed to read config key " + key.path() + ": " + e.getMessage());
+                value = key.defaultValue();
+            }
+            if (value instanceof List<?> list) {
+                value = List.copyOf(list);
+            }
+            values[key.id()] = value;
+        }
+        TierRegistry registry = settings.registry();
+        TierPresentation[] presentations = new TierPresentation[registry.tierCount()];
+        for (int ordinal = 0; ordinal < presentations.length; ordinal++) {
+            presentations[ordinal] = TierPresentation.of(DifficultyMeta.resolve(config, registry.tierId(ordinal)));
+        }
+        return new ConfigSnapshot(version, config, settings, values, presentations);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public DifficultyConfig config() {
+        return config;
+    }
+
+    public DifficultySettings settings() {
+        return settings;
+    }
+
+    // Configured tiers are an array read; unknown ids (e.g. stale player settings) are resolved on demand.
+    public TierPresentation presentation(String tierId) {
+        String safeTierId = (tierId == null || tierId.isBlank()) ? DifficultyIO.DEFAULT_BASE_DIFFICULTY : tierId;
+        int ordinal = settings.registry().ordinal(safeTierId);
+        if (ordinal >= 0 && ordinal < presentations.length) {
+            return presentations[ordinal];
+        }
+        return TierPresentation.of(DifficultyMeta.resolve(config, safeTierId));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ConfigKey<T> key) {
+        Objects.requireNonNull(key, "key");
+        int id = key.id();
+        if (id != ConfigKey.UNINDEXED && id < values.length) {
+            return (T) values[id];
+        }
+        // Key not listed in DifficultyIO.CONFIG_KEYS.
+        return key.read(config);
+    }
+}
@@ -12,93 +12,320 @@ import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
+/**
+ * Edits difficulty.json and the tier drop-ins for the admin UI. Files are parsed once and kept
+ * in memory together with a tier id -> drop-in index; edits are applied to those documents and
+ * written out together after a short window, followed by a single config reload. Files are replaced
+ * atomically and announced to DifficultyConfigWatcher, so the watcher does not reload them a second
+ * time. Values that are staged but not reloaded yet can be read back through stagedBaseValue / stagedTierValue.
+ */
 public final class DifficultyAdminConfigEditor {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final long COALESCE_WINDOW_MS = 250L;
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ascendant-admin-config-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Object WRITE_LOCK = new Object();
+
+    // Guarded by the class monitor.
+    private static final Map<Path, CachedDocument> documents = new HashMap<>();
+    private static final Map<String, Path> tierFiles = new HashMap<>();
+    private static final Map<Path, JsonObject> dirty = new LinkedHashMap<>();
+    private static Map<String, JsonElement> stagedBase = new HashMap<>();
+    private static Map<String, Map<String, JsonElement>> stagedTiers = new HashMap<>();
+    // Staged values of the batch being written, until the reload that picks them up has finished.
+    private static Map<String, JsonElement> writingBase = Map.of();
+    private static Map<String, Map<String, JsonElement>> writingTiers = Map.of();
+    private static CompletableFuture<Void> pendingBatch;
 
     private DifficultyAdminConfigEditor() {
     }
 
-    public static synchronized void setBaseBoolean(String path, boolean value) throws IOException {
+    // Each setter returns the batch future: done once the edit is on disk and the config was reloaded.
+    public static synchronized CompletableFuture<Void> setBaseBoolean(String path, boolean value) throws IOException {
         Objects.requireNonNull(path, "path");
-        JsonObject root = readBaseRoot();
-        setPath(root, path, new JsonPrimitive(value));
-        writeBaseRoot(root);
+        return stageBase(path, new JsonPrimitive(value));
     }
 
-    public static synchronized void setBaseNumber(String path, double value, boolean integer) throws IOException {
+    public static synchronized CompletableFuture<Void> setBaseNumber(String path, double value, boolean integer) throws IOException {
         Objects.requireNonNull(path, "path");
-        JsonObject root = readBaseRoot();
         if (integer) {
-            setPath(root, path, new JsonPrimitive((int) Math.round(value)));
-        } else {
-            setPath(root, path, new JsonPrimitive(value));
+            return stageBase(path, new JsonPrimitive((int) Math.round(value)));
         }
-        writeBaseRoot(root);
+        return stageBase(path, new JsonPrimitive(value));
     }
 
-    public static synchronized void setBaseString(String path, String value) throws IOException {
+    public static synchronized CompletableFuture<Void> setBaseString(String path, String value) throws IOException {
         Objects.requireNonNull(path, "path");
         Objects.requireNonNull(value, "value");
-        JsonObject root = readBaseRoot();
-        setPath(root, path, new JsonPrimitive(value));
-        writeBaseRoot(root);
+        return stageBase(path, new JsonPrimitive(value));
     }
 
-    public static synchronized void setTierBoolean(String tierId, String key, boolean value) throws IOException {
+    public static synchronized CompletableFuture<Void> setTierBoolean(String tierId, String key, boolean value) throws IOException {
         Objects.requireNonNull(tierId, "tierId");
         Objects.requireNonNull(key, "key");
-        Path path = resolveTierDropInPath(tierId);
-        JsonObject root = readJsonObject(path);
-        JsonObject tierNode = resolveTierNode(root);
-        tierNode.addProperty(key, value);
-        writeJsonObject(path, root);
+        return stageTier(tierId, key, new JsonPrimitive(value));
     }
 
-    public static synchronized void setTierNumber(String tierId, String key, double value, boolean integer) throws IOException {
+    public static synchronized CompletableFuture<Void> setTierNumber(String tierId, String key, double value, boolean integer) throws IOException {
         Objects.requireNonNull(tierId, "tierId");
         Objects.requireNonNull(key, "key");
-        Path path = resolveTierDropInPath(tierId);
-        JsonObject root = readJsonObject(path);
-        JsonObject tierNode = resolveTierNode(root);
         if (integer) {
-            tierNode.addProperty(key, (int) Math.round(value));
-        } else {
-            tierNode.addProperty(key, value);
+            return stageTier(tierId, key, new JsonPrimitive((int) Math.round(value)));
         }
-        writeJsonObject(path, root);
+        return stageTier(tierId, key, new JsonPrimitive(value));
     }
 
-    private static JsonObject readBaseRoot() throws IOException {
-        return readJsonObject(DifficultyIO.DEFAULT_CONFIG_PATH);
+    public static synchronized CompletableFuture<Void> setBaseValue(String path, JsonElement value) throws IOException {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(value, "value");
+        return stageBase(path, value);
+    }
+
+    public static synchronized CompletableFuture<Void> setTierValue(String tierId, String key, JsonElement value) throws IOException {
+        Objects.requireNonNull(tierId, "tierId");
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        return stageTier(tierId, key, value);
     }
 
-    private static void writeBaseRoot(JsonObject root) throws IOException {
-        writeJsonObject(DifficultyIO.DEFAULT_CONFIG_PATH, root);
+    // Stages several edits at once. Every target file is resolved first, so a missing drop-in stages none of them.
+    public static synchronized CompletableFuture<Void> setValues(
+            Map<String, JsonElement> baseValues,
+            Map<String, Map<String, JsonElement>> tierValues
+    ) throws IOException {
+        Objects.requireNonNull(baseValues, "baseValues");
+        Objects.requireNonNull(tierValues, "tierValues");
+        JsonObject baseRoot = baseValues.isEmpty() ? null : document(DifficultyIO.DEFAULT_CONFIG_PATH);
+        Map<String, Path> tierPaths = new LinkedHashMap<>();
+        Map<Path, JsonObject> tierRoots = new LinkedHashMap<>();
+        for (String tierId : tierValues.keySet()) {
+            Path file = resolveTierDropInPath(tierId);
+            tierPaths.put(tierId, file);
+            if (!tierRoots.containsKey(file)) {
+                tierRoots.put(file, document(file));
+            }
+        }
+
+        CompletableFuture<Void> batch = CompletableFuture.completedFuture(null);
+        for (Map.Entry<String, JsonElement> entry : baseValues.entrySet()) {
+            batch = applyBase(baseRoot, entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Map<String, JsonElement>> tier : tierValues.entrySet()) {
+            Path file = tierPaths.get(tier.getKey());
+            for (Map.Entry<String, JsonElement> entry : tier.getValue().entrySet()) {
+                batch = applyTier(file, tierRoots.get(file), tier.getKey(), entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
     }
 
-    private static JsonObject readJsonObject(Path path) throws IOException {
+    // Starts writing the current batch now instead of at the end of the window.
+    public static synchronized CompletableFuture<Void> writeNow() {
+        if (pendingBatch == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> batch = pendingBatch;
+        WRITER.execute(DifficultyAdminConfigEditor::writeBatch);
+        return batch;
+    }
+
+    // Value set for a difficulty.json path that the live config does not reflect yet, or null.
+    public static synchronized JsonElement stagedBaseValue(String path) {
+        JsonElement staged = stagedBase.get(path);
+        return staged != null ? staged : writingBase.get(path);
+    }
+
+    // Value set for a tier key that the live settings do not reflect yet, or null.
+    public static synchronized JsonElement stagedTierValue(String tierId, String key) {
+        String tierKey = tierKey(tierId);
+        Map<String, JsonElement> staged = stagedTiers.get(tierKey);
+        if (staged != null && staged.containsKey(key)) {
+            return staged.get(key);
+        }
+        Map<String, JsonElement> writing = writingTiers.get(tierKey);
+        return writing != null ? writing.get(key) : null;
+    }
+
+    private static CompletableFuture<Void> stageBase(String path, JsonElement value) throws IOException {
+        return applyBase(document(DifficultyIO.DEFAULT_CONFIG_PATH), path, value);
+    }
+
+    private static CompletableFuture<Void> stageTier(String tierId, String key, JsonElement value) throws IOException {
+        Path file = resolveTierDropInPath(tierId);
+        return applyTier(file, document(file), tierId, key, value);
+    }
+
+    // The apply* steps cannot fail; everything that can is resolved before them.
+    private static CompletableFuture<Void> applyBase(JsonObject root, String path, JsonElement value) {
+        setPath(root, path, value);
+        stagedBase.put(path, value);
+        return markDirty(DifficultyIO.DEFAULT_CONFIG_PATH, root);
+    }
+
+    private static CompletableFuture<Void> applyTier(Path file, JsonObject root, String tierId, String key, JsonElement value) {
+        resolveTierNode(root).add(key, value);
+        stagedTiers.computeIfAbsent(tierKey(tierId), ignored -> new HashMap<>()).put(key, value);
+        return markDirty(file, root);
+    }
+
+    private static CompletableFuture<Void> markDirty(Path file, JsonObject root) {
+        dirty.put(file, root);
+        if (pendingBatch == null) {
+            pendingBatch = new CompletableFuture<>();
+            WRITER.schedule(DifficultyAdminConfigEditor::writeBatch, COALESCE_WINDOW_MS, TimeUnit.MILLISECONDS);
+        }
+        return pendingBatch;
+    }
+
+    // Called on plugin shutdown: writes staged edits without reloading (nothing is left to refresh) and stops the writer.
+    public static void shutdown() {
+        synchronized (WRITE_LOCK) {
+            writeBatchLocked(false);
+        }
+        // anything still scheduled would find no batch
+        WRITER.shutdownNow();
+        try {
+            WRITER.awaitTermination(1L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void writeBatch() {
+        // Batches never overlap, so an older batch cannot land on disk after a newer one.
+        synchronized (WRITE_LOCK) {
+            writeBatchLocked(true);
+        }
+    }
+
+    private static void writeBatchLocked(boolean reload) {
+        Map<Path, String> contents = new LinkedHashMap<>();
+        CompletableFuture<Void> batch;
+        synchronized (DifficultyAdminConfigEditor.class) {
+            if (pendingBatch == null) {
+                return;
+            }
+            for (Map.Entry<Path, JsonObject> entry : dirty.entrySet()) {
+                contents.put(entry.getKey(), GSON.toJson(entry.getValue()));
+            }
+            dirty.clear();
+            writingBase = stagedBase;
+            writingTiers = stagedTiers;
+            stagedBase = new HashMap<>();
+            stagedTiers = new HashMap<>();
+            batch = pendingBatch;
+            pendingBatch = null;
+        }
+
+        IOException failure = null;
+        for (Map.Entry<Path, String> entry : contents.entrySet()) {
+            Path path = entry.getKey();
+            try {
+                writeJsonObject(path, entry.getValue());
+                remember(path);
+            } catch (IOException e) {
+                failure = e;
+                forget(path);
+            }
+        }
+        try {
+            if (reload) {
+                DifficultyManager.reloadConfig();
+            }
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        } catch (RuntimeException e) {
+            if (failure == null) {
+                failure = new IOException(e.getMessage(), e);
+            }
+        }
+
+        synchronized (DifficultyAdminConfigEditor.class) {
+            writingBase = Map.of();
+            writingTiers = Map.of();
+        }
+        if (failure != null) {
+            batch.completeExceptionally(failure);
+        } else {
+            batch.complete(null);
+        }
+    }
+
+    // Parsed document for a file; re-read only when the file changed on disk and we have no unsaved edits.
+    private static JsonObject document(Path path) throws IOException {
+        JsonObject pending = dirty.get(path);
+        if (pending != null) {
+            return pending;
+        }
         if (path == null || Files.notExists(path)) {
+            documents.remove(path);
             throw new IOException("Config file not found: " + path);
         }
+        FileTime modified = Files.getLastModifiedTime(path);
+        long size = Files.size(path);
+        CachedDocument cached = documents.get(path);
+        if (cached != null && cached.modified().equals(modified) && cached.size() == size) {
+            return cached.root();
+        }
+        JsonObject root = readJsonObject(path);
+        documents.put(path, new CachedDocument(root, modified, size));
+        return root;
+    }
+
+    private static synchronized void remember(Path path) throws IOException {
+        CachedDocument cached = documents.get(path);
+        if (cached != null && !dirty.containsKey(path)) {
+            documents.put(path, new CachedDocument(cached.root(), Files.getLastModifiedTime(path), Files.size(path)));
+        }
+    }
+
+    private static synchronized void forget(Path path) {
+        if (!dirty.containsKey(path)) {
+            documents.remove(path);
+        }
+    }
+
+    private static JsonObject readJsonObject(Path path) throws IOException {
         try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
             JsonElement parsed = JsonParser.parseReader(reader);
             if (parsed == null || !parsed.isJsonObject()) {
                 throw new IOException("Invalid JSON object in " + path);
             }
             return parsed.getAsJsonObject();
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid JSON in " + path + ": " + e.getMessage(), e);
         }
     }
 
-    private static void writeJsonObject(Path path, JsonObject root) throws IOException {
+    private static void writeJsonObject(Path path, String json) throws IOException {
         Path parent = path.getParent();
         if (parent != null) {
             Files.createDirectories(parent);
         }
-        Files.writeString(path, GSON.toJson(root), StandardCharsets.UTF_8);
+        // a crash mid-write leaves the old file, never a truncated one
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(tmp, json, StandardCharsets.UTF_8);
+        DifficultyConfigWatcher.expectOwnWrite(path, json);
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 
     private static void setPath(JsonObject root, String dottedPath, JsonElement value) {
@@ -122,14 +349,29 @@ public final class DifficultyAdminConfigEditor {
     }
 
     private static Path resolveTierDropInPath(String tierId) throws IOException {
+        String target = tierKey(tierId);
+        Path indexed = tierFiles.get(target);
+        if (indexed != null && target.equalsIgnoreCase(readTierId(indexed))) {
+            return indexed;
+        }
+        rebuildTierIndex();
+        Path file = tierFiles.get(target);
+        if (file == null) {
+            throw new IOException("No drop-in file found for tier '" + tierId + "'");
+        }
+        return file;
+    }
+
+    // Unchanged drop-ins come from the document cache, so a rebuild only parses what changed.
+    private static void rebuildTierIndex() throws IOException {
         Path dir = DifficultyIO.DIFFICULTY_DROPINS_PATH;
         if (Files.notExists(dir) || !Files.isDirectory(dir)) {
             throw new IOException("Drop-in directory not found: " + dir);
         }
 
-        String target = tierId.trim();
+        tierFiles.clear();
         try (Stream<Path> stream = Files.list(dir)) {
-            for (Path file : stream.toList()) {
+            for (Path file : stream.sorted().toList()) {
                 if (!Files.isRegularFile(file)) {
                     continue;
                 }
@@ -137,32 +379,30 @@ public final class DifficultyAdminConfigEditor {
                 if (!fileName.endsWith(".json")) {
                     continue;
                 }
-                String id = readDropInTierId(file);
-                if (id != null && id.equalsIgnoreCase(target)) {
-                    return file;
+                String id = readTierId(file);
+                if (id != null) {
+                    tierFiles.putIfAbsent(tierKey(id), file);
                 }
             }
         }
-        throw new IOException("No drop-in file found for tier '" + tierId + "'");
     }
 
-    private static String readDropInTierId(Path file) {
-        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
-            JsonElement parsed = JsonParser.parseReader(reader);
-            if (parsed == null || !parsed.isJsonObject()) {
-                return null;
-            }
-            JsonObject root = parsed.getAsJsonObject();
-            JsonElement id = root.get("id");
+    private static String readTierId(Path file) {
+        try {
+            JsonElement id = document(file).get("id");
             if (id == null || !id.isJsonPrimitive()) {
                 return null;
             }
-            return id.getAsString();
+            return id.getAsString().trim();
         } catch (Exception ignored) {
             return null;
         }
     }
 
+    private static String tierKey(String tierId) {
+        return tierId.trim().toLowerCase(Locale.ROOT);
+    }
+
     private static JsonObject resolveTierNode(JsonObject root) {
         JsonElement tierElement = root.get("tier");
         if (tierElement != null && tierElement.isJsonObject()) {
@@ -170,4 +410,7 @@ public final class DifficultyAdminConfigEditor {
         }
         return root;
     }
+
+    private record CachedDocument(JsonObject root, FileTime modified, long size) {
+    }
 }
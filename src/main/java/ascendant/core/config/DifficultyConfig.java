@@ -15,15 +15,17 @@ public final class DifficultyConfig {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private final Path file;
     private final Path dropInsDir;
+    private final DifficultyDropIns.Cache dropInCache;
     private JsonObject root;
 
     private DifficultyConfig(Path file, JsonObject root) {
-        this(file, null, root);
+        this(file, null, null, root);
     }
 
-    private DifficultyConfig(Path file, Path dropInsDir, JsonObject root) {
+    private DifficultyConfig(Path file, Path dropInsDir, DifficultyDropIns.Cache dropInCache, JsonObject root) {
         this.file = Objects.requireNonNull(file, "file");
         this.dropInsDir = dropInsDir;
+        this.dropInCache = dropInCache;
         this.root = Objects.requireNonNull(root, "root");
     }
 
@@ -39,8 +41,17 @@ public final class DifficultyConfig {
         Objects.requireNonNull(file, "file");
         Objects.requireNonNull(dropInsDir, "dropInsDir");
         DifficultyConfig base = load(file);
-        JsonObject merged = DifficultyDropIns.mergeIntoRoot(base.root, dropInsDir);
-        return new DifficultyConfig(file, dropInsDir, merged);
+        DifficultyDropIns.Cache cache = new DifficultyDropIns.Cache();
+        JsonObject merged = DifficultyDropIns.mergeIntoRoot(base.root, dropInsDir, cache);
+        return new DifficultyConfig(file, dropInsDir, cache, merged);
+    }
+
+    // Rebuilds a drop-in config from an already merged root (e.g. the startup cache).
+    static DifficultyConfig fromMergedRoot(Path file, Path dropInsDir, JsonObject merged) {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(dropInsDir, "dropInsDir");
+        Objects.requireNonNull(merged, "merged");
+        return new DifficultyConfig(file, dropInsDir, new DifficultyDropIns.Cache(), merged);
     }
 
     public static DifficultyConfig loadDefault(JsonObject defaults) throws IOException {
@@ -63,15 +74,43 @@ public final class DifficultyConfig {
         Objects.requireNonNull(dropInsDir, "dropInsDir");
         Objects.requireNonNull(defaults, "defaults");
         DifficultyConfig base = loadOrCreate(file, defaults);
-        JsonObject merged = DifficultyDropIns.mergeIntoRoot(base.root, dropInsDir);
-        return new DifficultyConfig(file, dropInsDir, merged);
+        DifficultyDropIns.Cache cache = new DifficultyDropIns.Cache();
+        JsonObject merged = DifficultyDropIns.mergeIntoRoot(base.root, dropInsDir, cache);
+        return new DifficultyConfig(file, dropInsDir, cache, merged);
     }
 
     public void reload() throws IOException {
-        DifficultyConfig reloaded = (this.dropInsDir == null)
-                ? load(this.file)
-                : loadWithDropIns(this.file, this.dropInsDir);
-        this.root = reloaded.root;
+        this.root = reloadCopy().root;
+    }
+
+    // Re-reads the config into a new instance, leaving this one untouched; unchanged drop-ins are reused.
+    public DifficultyConfig reloadCopy() throws IOException {
+        DifficultyConfig base = load(this.file);
+        if (this.dropInsDir == null) {
+            return base;
+        }
+        JsonObject merged = DifficultyDropIns.mergeIntoRoot(base.root, this.dropInsDir, this.dropInCache);
+        return new DifficultyConfig(this.file, this.dropInsDir, this.dropInCache, merged);
+    }
+
+    void invalidateDropIn(Path path) {
+        if (dropInCache != null) {
+            dropInCache.invalidate(path);
+        }
+    }
+
+    void invalidateDropIns() {
+        if (dropInCache != null) {
+            dropInCache.clear();
+        }
+    }
+
+    public Path file() {
+        return this.file;
+    }
+
+    public Path dropInsDir() {
+        return this.dropInsDir;
     }
 
     public DifficultySettings reloadToSettings() throws IOException {
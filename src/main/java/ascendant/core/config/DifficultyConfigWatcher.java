@@ -0,0 +1,190 @@
+package ascendant.core.config;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Opt-in background reload of difficulty.json and the drop-ins folder (base.hotReload.enabled).
+ * Events are debounced, only the changed drop-in files are parsed again, and the new settings are
+ * swapped in through {@link DifficultyManager} without blocking the game thread. Files written by
+ * DifficultyAdminConfigEditor are skipped while they still hold what the editor wrote; the editor
+ * reloads those itself. A drop-ins folder that does not exist yet is picked up once it is created.
+ */
+public final class DifficultyConfigWatcher {
+    private static final Object LOCK = new Object();
+    private static Thread thread;
+    private static WatchService watchService;
+    // Content last written by the admin editor, per absolute file.
+    private static final ConcurrentHashMap<Path, String> OWN_WRITES = new ConcurrentHashMap<>();
+
+    private DifficultyConfigWatcher() {
+    }
+
+    public static void start() {
+        synchronized (LOCK) {
+            if (thread != null) {
+                return;
+            }
+            DifficultyConfig config = DifficultyManager.getConfig();
+            Path baseFile = config.file().toAbsolutePath().normalize();
+            Path baseDir = baseFile.getParent();
+            Path dropInsDir = config.dropInsDir() != null ? config.dropInsDir().toAbsolutePath().normalize() : null;
+            try {
+                WatchService service = FileSystems.getDefault().newWatchService();
+                baseDir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                if (dropInsDir != null) {
+                    if (Files.isDirectory(dropInsDir)) {
+                        dropInsDir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                    } else {
+                        // watch the parent until the folder shows up
+                        Path dropInsParent = dropInsDir.getParent();
+                        if (dropInsParent != null && !dropInsParent.equals(baseDir) && Files.isDirectory(dropInsParent)) {
+                            dropInsParent.register(service, ENTRY_CREATE);
+                        }
+                    }
+                }
+                watchService = service;
+            } catch (IOException e) {
+                System.err.println("[ascendant] Failed to start config watcher: " + e.getMessage());
+                return;
+            }
+            WatchService service = watchService;
+            thread = new Thread(() -> run(service, baseFile, dropInsDir), "ascendant-config-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    public static void stop() {
+        synchronized (LOCK) {
+            if (thread == null) {
+                return;
+            }
+            thread.interrupt();
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+            thread = null;
+            watchService = null;
+        }
+    }
+
+    // Called by the admin editor right before it replaces path with content.
+    static void expectOwnWrite(Path path, String content) {
+        OWN_WRITES.put(path.toAbsolutePath().normalize(), content);
+    }
+
+    private static boolean isOwnWrite(Path path) {
+        String expected = OWN_WRITES.get(path);
+        if (expected == null) {
+            return false;
+        }
+        try {
+            if (expected.equals(Files.readString(path, StandardCharsets.UTF_8))) {
+                return true;
+            }
+        } catch (IOException ignored) {
+            // deleted or unreadable: not ours any more
+        }
+        OWN_WRITES.remove(path, expected);
+        return false;
+    }
+
+    private static void run(WatchService service, Path baseFile, Path dropInsDir) {
+        while (!Thread.currentThread().isInterrupted()) {
+            Changes changes = new Changes();
+            try {
+                WatchKey key = service.take();
+                collect(service, key, baseFile, dropInsDir, changes);
+                long debounceMs = Math.max(0L, Math.round(DifficultyManager.getFromConfig(DifficultyIO.HOT_RELOAD_DEBOUNCE_MS)));
+                // Editors often write a file in several steps; wait until the folder is quiet.
+                while ((key = service.poll(debounceMs, TimeUnit.MILLISECONDS)) != null) {
+                    collect(service, key, baseFile, dropInsDir, changes);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            if (changes.isEmpty()) {
+                continue;
+            }
+            reload(changes);
+        }
+    }
+
+    private static void collect(WatchService service, WatchKey key, Path baseFile, Path dropInsDir, Changes changes) {
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                changes.overflow = true;
+                continue;
+            }
+            Path name = (Path) event.context();
+            Path changed = dir.resolve(name);
+            if (changed.equals(baseFile)) {
+                if (!isOwnWrite(changed)) {
+                    changes.baseChanged = true;
+                }
+            } else if (changed.equals(dropInsDir)) {
+                if (event.kind() == ENTRY_CREATE) {
+                    registerDropInsDir(service, dropInsDir, changes);
+                }
+            } else if (dir.equals(dropInsDir) && DifficultyDropIns.isDropInFile(name)) {
+                if (!isOwnWrite(changed)) {
+                    changes.dropIns.add(name);
+                }
+            }
+        }
+        key.reset();
+    }
+
+    private static void registerDropInsDir(WatchService service, Path dropInsDir, Changes changes) {
+        if (!Files.isDirectory(dropInsDir)) {
+            return;
+        }
+        try {
+            dropInsDir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException | ClosedWatchServiceException e) {
+            System.err.println("[ascendant] Failed to watch drop-ins folder " + dropInsDir + ": " + e.getMessage());
+            return;
+        }
+        // files may have landed before the folder was registered
+        changes.rescanDropIns = true;
+    }
+
+    private static void reload(Changes changes) {
+        try {
+            DifficultyConfig current = DifficultyManager.getConfig();
+            if (changes.overflow || changes.rescanDropIns) {
+                current.invalidateDropIns();
+            }
+            if (current.dropInsDir() != null) {
+                for (Path name : changes.dropIns) {
+                    current.invalidateDropIn(current.dropInsDir().resolve(name));
+                }
+            }
+            DifficultyConfig next = current.reloadCopy();
+            DifficultyManager.swapConfig(next, next.toSettings());
+        } catch (Exception e) {
+            System.err.println("[ascendant] Config hot reload failed; keeping previous settings: " + e.getMessage());
+        }
+    }
+
+    private static final class Changes {
+        private final Set<Path> dropIns = new HashSet<>();
+        private boolean baseChanged;
+        private boolean overflow;
+        private boolean rescanDropIns;
+
+        private boolean isEmpty() {
+            return !baseChanged && !overflow && !rescanDropIns && dropIns.isEmpty();
+        }
+    }
+}
@@ -25,8 +25,16 @@ final class DifficultyDropIns {
     }
 
     static JsonObject mergeIntoRoot(JsonObject baseRoot, Path dropInsDir) {
+        return mergeIntoRoot(baseRoot, loadDropIns(dropInsDir), false);
+    }
+
+    // Same as mergeIntoRoot(baseRoot, dropInsDir) but only re-parses drop-ins that changed since the last call.
+    static JsonObject mergeIntoRoot(JsonObject baseRoot, Path dropInsDir, Cache cache) {
+        return mergeIntoRoot(baseRoot, cache.refresh(dropInsDir), true);
+    }
+
+    private static JsonObject mergeIntoRoot(JsonObject baseRoot, List<DropIn> dropIns, boolean copy) {
         JsonObject merged = baseRoot != null ? baseRoot.deepCopy() : new JsonObject();
-        List<DropIn> dropIns = loadDropIns(dropInsDir);
         if (dropIns.isEmpty()) {
             return merged;
         }
@@ -43,10 +51,10 @@ final class DifficultyDropIns {
                 continue;
             }
             if (dropIn.meta != null && !dropIn.meta.isEmpty()) {
-                metaOut.add(dropIn.id, dropIn.meta);
+                metaOut.add(dropIn.id, copy ? dropIn.meta.deepCopy() : dropIn.meta);
             }
             JsonObject tier = dropIn.tier != null ? dropIn.tier : new JsonObject();
-            tiersOut.add(dropIn.id, tier);
+            tiersOut.add(dropIn.id, copy ? tier.deepCopy() : tier);
         }
         merged.add("meta", metaOut);
         merged.add("tiers", tiersOut);
@@ -152,6 +160,26 @@ final class DifficultyDropIns {
     }
 
     private static List<DropIn> loadDropIns(Path dropInsDir) {
+        List<DropIn> out = new ArrayList<>();
+        for (Path path : listDropInFiles(dropInsDir)) {
+            DropIn dropIn = readDropIn(path);
+            if (dropIn != null) {
+                out.add(dropIn);
+            }
+        }
+        out.sort(DropIn.ORDER);
+        return out;
+    }
+
+    static boolean isDropInFile(Path path) {
+        if (path == null || path.getFileName() == null) {
+            return false;
+        }
+        String name = path.getFileName().toString();
+        return name.toLowerCase(Locale.ROOT).endsWith(".json") && !"index.json".equalsIgnoreCase(name);
+    }
+
+    static List<Path> listDropInFiles(Path dropInsDir) {
         if (dropInsDir == null) {
             return List.of();
         }
@@ -164,24 +192,14 @@ final class DifficultyDropIns {
         if (!Files.isDirectory(dropInsDir)) {
             return List.of();
         }
-        List<DropIn> out = new ArrayList<>();
+        List<Path> out = new ArrayList<>();
         try (Stream<Path> stream = Files.list(dropInsDir)) {
             stream.filter(path -> Files.isRegularFile(path))
-                    .filter(path -> path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json"))
-                    .forEach(path -> {
-                        String name = path.getFileName().toString();
-                        if ("index.json".equalsIgnoreCase(name)) {
-                            return;
-                        }
-                        DropIn dropIn = readDropIn(path);
-                        if (dropIn != null) {
-                            out.add(dropIn);
-                        }
-                    });
+                    .filter(DifficultyDropIns::isDropInFile)
+                    .forEach(out::add);
         } catch (IOException e) {
             System.err.println("[ascendant] Failed to read difficulty drop-ins from " + dropInsDir + ": " + e.getMessage());
         }
-        out.sort(DropIn.ORDER);
         return out;
     }
 
@@ -362,6 +380,54 @@ final class DifficultyDropIns {
         return value.replaceAll("[\\\\/:*?\"<>|]", "_");
     }
 
+    // Parsed drop-ins keyed by file. A file is parsed again only when its size or mtime changed
+    // or it was invalidated explicitly (e.g. by the config watcher).
+    static final class Cache {
+        private final Map<Path, CachedDropIn> entries = new HashMap<>();
+
+        synchronized List<DropIn> refresh(Path dropInsDir) {
+            List<Path> files = listDropInFiles(dropInsDir);
+            entries.keySet().retainAll(new HashSet<>(files));
+            List<DropIn> out = new ArrayList<>();
+            for (Path path : files) {
+                FileStamp stamp = FileStamp.of(path);
+                CachedDropIn cached = entries.get(path);
+                if (cached == null || stamp == null || !stamp.equals(cached.stamp)) {
+                    cached = new CachedDropIn(stamp, readDropIn(path));
+                    entries.put(path, cached);
+                }
+                if (cached.dropIn != null) {
+                    out.add(cached.dropIn);
+                }
+            }
+            out.sort(DropIn.ORDER);
+            return out;
+        }
+
+        synchronized void invalidate(Path path) {
+            if (path != null) {
+                entries.remove(path);
+            }
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    private record CachedDropIn(FileStamp stamp, DropIn dropIn) {
+    }
+
+    private record FileStamp(long lastModifiedMs, long size) {
+        private static FileStamp of(Path path) {
+            try {
+                return new FileStamp(Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
     private record DropIn(String id, double order, String source, JsonObject meta, JsonObject tier) {
         private static final Comparator<DropIn> ORDER = Comparator
                 .comparingDouble((DropIn dropIn) -> dropIn.order)
@@ -19,9 +19,12 @@ public final class DifficultyIO {
     public static final Path DEFAULT_CONFIG_PATH = DifficultyConfig.DEFAULT_PATH;
     public static final Path DIFFICULTY_DROPINS_PATH = Path.of("config", "ascendant", "difficultys");
     public static final Path PLAYER_SETTINGS_PATH = Path.of("config", "ascendant", "players-settings.json");
+    public static final Path PLAYER_SETTINGS_SHARDS_PATH = Path.of("config", "ascendant", "players");
+    public static final Path PLAYER_SETTINGS_JOURNAL_PATH = Path.of("config", "ascendant", "players-settings.journal");
     public static final Path WORLD_TIER_SETTINGS_PATH = Path.of("config", "ascendant", "world-tier-settings.json");
     public static final Path LEGACY_PLAYER_OVERRIDES_PATH = Path.of("config", "ascendant", "difficulty-players.json");
     public static final Path NPC_ROLES_PATH = Path.of("config", "ascendant", "npc_roles.json");
+    public static final Path STARTUP_CACHE_PATH = Path.of("config", "ascendant", ".cache");
 
     public static final String PATH_DEFAULT_DIFFICULTY = "base.defaultDifficulty";
     public static final String PATH_ALLOW_DIFFICULTY_CHANGE = "base.allow.difficulty.change";
@@ -29,6 +32,7 @@ public final class DifficultyIO {
     public static final String PATH_ALLOW_BADGE = "base.allow.ui.badge";
     public static final String PATH_UI_BADGE_START_DELAY_MS = "base.uiBadgeStartDelayMs";
     public static final String PATH_UI_TIER_VALUES_AS_PERCENT = "base.uiTierValuesAsPercent";
+    public static final String PATH_UI_REFRESH_DEBOUNCE_MS = "base.uiRefreshDebounceMs";
     public static final String PATH_DIFFICULTY_CHANGE_COOLDOWN_MS = "base.difficultyChangeCooldownMs";
     public static final String PATH_DIFFICULTY_CHANGE_COMBAT_TIMEOUT_MS = "base.difficultyChangeCombatTimeoutMs";
     public static final String PATH_MIN_DAMAGE_FACTOR = "base.minDamageFactor";
@@ -38,6 +42,11 @@ public final class DifficultyIO {
     public static final String PATH_MAX_HEALTH_SCALING_FACTOR = "base.maxHealthScalingFactor";
     public static final String PATH_CASH_VARIANCE_FACTOR = "base.cashVarianceFactor";
     public static final String PATH_ROUNDING_DIGITS = "base.roundingDigits";
+    public static final String PATH_HOT_RELOAD_ENABLED = "base.hotReload.enabled";
+    public static final String PATH_HOT_RELOAD_DEBOUNCE_MS = "base.hotReload.debounceMs";
+    public static final String PATH_PLAYER_SETTINGS_STORE = "base.playerSettings.store";
+    public static final String PATH_PLAYER_SETTINGS_SHARED_PATH = "base.playerSettings.sharedPath";
+    public static final String PATH_PLAYER_SETTINGS_SHARED_POLL_MS = "base.playerSettings.sharedPollMs";
     public static final String PATH_ALLOW_CASH_REWARD = "base.allow.rewards.cash";
     public static final String PATH_ALLOW_CASH_REWARD_EVEN_WITH_PHYSICAL = "base.allow.rewards.cashEvenWithPhysical";
     public static final String PATH_ALLOW_XP_REWARD = "base.allow.rewards.xp";
@@ -177,10 +186,17 @@ public final class DifficultyIO {
     public static final String PATH_KILLFEED_CHAT_MESSAGES_PHYSICAL_KILLER_CAUSE = "base.killFeedTierChatMessages.physical.killerCause";
     public static final String PATH_KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_CAUSE = "base.killFeedTierChatMessages.physical.victimCause";
     public static final String PATH_KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED = "base.killFeedTierChatMessages.physical.victimDied";
+    public static final String PATH_KILLFEED_CHAT_DELIVERY_SCOPE = "base.killFeedTierChatDelivery.scope";
+    public static final String PATH_KILLFEED_CHAT_DELIVERY_RADIUS = "base.killFeedTierChatDelivery.radius";
+    public static final String PATH_KILLFEED_CHAT_DIGEST_THRESHOLD = "base.killFeedTierChatDelivery.digestThreshold";
+    public static final String PATH_KILLFEED_CHAT_DIGEST_KILLER = "base.killFeedTierChatDelivery.digestKiller";
+    public static final String PATH_KILLFEED_CHAT_DIGEST_DIED = "base.killFeedTierChatDelivery.digestDied";
     public static final String PATH_MMO_SKILLTREE_XP_BONUS_WHITELIST = "base.mmoSkillTree.xpBonusWhitelist";
     public static final String PATH_ELITE_SPAWN_QUEUE_INTERVAL_MS = "base.eliteSpawnQueue.intervalMs";
     public static final String PATH_ELITE_SPAWN_QUEUE_MAX_PER_DRAIN = "base.eliteSpawnQueue.maxPerDrain";
     public static final String PATH_ELITE_SPAWN_QUEUE_MAX_DRAIN_MS = "base.eliteSpawnQueue.maxDrainMs";
+    public static final String PATH_DEBUG_LOGGING_CATEGORIES = "base.debugLogging.categories";
+    public static final String PATH_DEBUG_LOGGING_QUEUE_SIZE = "base.debugLogging.queueSize";
 
     public static final String PATH_INTEGRATION_ELITE_MOBS = "base.integrations.eliteMobs";
     public static final String PATH_INTEGRATION_ECOTALE = "base.integrations.ecotale";
@@ -228,6 +244,7 @@ public final class DifficultyIO {
     public static final boolean DEFAULT_ALLOW_DIFFICULTY_CHANGE_IN_COMBAT = false;
     public static final double DEFAULT_UI_BADGE_START_DELAY_MS = 0.0;
     public static final boolean DEFAULT_UI_TIER_VALUES_AS_PERCENT = true;
+    public static final double DEFAULT_UI_REFRESH_DEBOUNCE_MS = 100.0;
     public static final boolean DEFAULT_WORLD_TIER_ENABLED = false;
     public static final String DEFAULT_WORLD_TIER_MODE = "fixed";
     public static final String DEFAULT_WORLD_TIER_FIXED_TIER = DEFAULT_BASE_DIFFICULTY;
@@ -242,6 +259,11 @@ public final class DifficultyIO {
     public static final double DEFAULT_MAX_HEALTH_SCALING_FACTOR = 300.0;
     public static final double DEFAULT_CASH_VARIANCE_FACTOR = 0.23;
     public static final int DEFAULT_ROUNDING_DIGITS = 3;
+    public static final boolean DEFAULT_HOT_RELOAD_ENABLED = false;
+    public static final double DEFAULT_HOT_RELOAD_DEBOUNCE_MS = 500.0;
+    public static final String DEFAULT_PLAYER_SETTINGS_STORE = "local";
+    public static final String DEFAULT_PLAYER_SETTINGS_SHARED_PATH = "";
+    public static final double DEFAULT_PLAYER_SETTINGS_SHARED_POLL_MS = 1000.0;
     public static final boolean DEFAULT_ALLOW_BADGE = true;
     public static final boolean DEFAULT_ALLOW_CASH_REWARD = true;
     public static final boolean DEFAULT_ALLOW_CASH_REWARD_EVEN_WITH_PHYSICAL = true;
@@ -360,11 +382,18 @@ public final class DifficultyIO {
             List.of(" was killed by ", " was defeated by ", " was taken down by ", " was slain by ");
     public static final List<String> DEFAULT_KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED =
             List.of(" died", " perished", " met their end");
+    public static final String DEFAULT_KILLFEED_CHAT_DELIVERY_SCOPE = "universe";
+    public static final double DEFAULT_KILLFEED_CHAT_DELIVERY_RADIUS = 64.0;
+    public static final int DEFAULT_KILLFEED_CHAT_DIGEST_THRESHOLD = 5;
+    public static final String DEFAULT_KILLFEED_CHAT_DIGEST_KILLER = " killed {count} players";
+    public static final String DEFAULT_KILLFEED_CHAT_DIGEST_DIED = "{count} players died";
     public static final boolean DEFAULT_ALLOW_DEBUG_COMMANDS = true;
     public static final boolean DEFAULT_ALLOW_ELITE_SPAWN_MODIFIER = true;
     public static final double DEFAULT_ELITE_SPAWN_QUEUE_INTERVAL_MS = 0.0;
     public static final int DEFAULT_ELITE_SPAWN_QUEUE_MAX_PER_DRAIN = 2;
     public static final double DEFAULT_ELITE_SPAWN_QUEUE_MAX_DRAIN_MS = 4.0;
+    public static final List<String> DEFAULT_DEBUG_LOGGING_CATEGORIES = List.of();
+    public static final int DEFAULT_DEBUG_LOGGING_QUEUE_SIZE = 4096;
     public static final boolean DEFAULT_INTEGRATION_ELITE_MOBS = true;
     public static final boolean DEFAULT_INTEGRATION_ECOTALE = true;
     public static final boolean DEFAULT_INTEGRATION_LEVELING_CORE = true;
@@ -385,6 +414,8 @@ public final class DifficultyIO {
             ConfigKey.ofDouble(PATH_UI_BADGE_START_DELAY_MS, DEFAULT_UI_BADGE_START_DELAY_MS);
     public static final ConfigKey<Boolean> UI_TIER_VALUES_AS_PERCENT =
             ConfigKey.ofBoolean(PATH_UI_TIER_VALUES_AS_PERCENT, DEFAULT_UI_TIER_VALUES_AS_PERCENT);
+    public static final ConfigKey<Double> UI_REFRESH_DEBOUNCE_MS =
+            ConfigKey.ofDouble(PATH_UI_REFRESH_DEBOUNCE_MS, DEFAULT_UI_REFRESH_DEBOUNCE_MS);
     public static final ConfigKey<Boolean> WORLD_TIER_ENABLED =
             ConfigKey.ofBoolean(PATH_WORLD_TIER_ENABLED, DEFAULT_WORLD_TIER_ENABLED);
     public static final ConfigKey<String> WORLD_TIER_MODE =
@@ -413,6 +444,16 @@ public final class DifficultyIO {
             ConfigKey.ofDouble(PATH_CASH_VARIANCE_FACTOR, DEFAULT_CASH_VARIANCE_FACTOR);
     public static final ConfigKey<Integer> ROUNDING_DIGITS =
             ConfigKey.ofInt(PATH_ROUNDING_DIGITS, DEFAULT_ROUNDING_DIGITS);
+    public static final ConfigKey<Boolean> HOT_RELOAD_ENABLED =
+            ConfigKey.ofBoolean(PATH_HOT_RELOAD_ENABLED, DEFAULT_HOT_RELOAD_ENABLED);
+    public static final ConfigKey<Double> HOT_RELOAD_DEBOUNCE_MS =
+            ConfigKey.ofDouble(PATH_HOT_RELOAD_DEBOUNCE_MS, DEFAULT_HOT_RELOAD_DEBOUNCE_MS);
+    public static final ConfigKey<String> PLAYER_SETTINGS_STORE =
+            ConfigKey.ofString(PATH_PLAYER_SETTINGS_STORE, DEFAULT_PLAYER_SETTINGS_STORE);
+    public static final ConfigKey<String> PLAYER_SETTINGS_SHARED_PATH =
+            ConfigKey.ofString(PATH_PLAYER_SETTINGS_SHARED_PATH, DEFAULT_PLAYER_SETTINGS_SHARED_PATH);
+    public static final ConfigKey<Double> PLAYER_SETTINGS_SHARED_POLL_MS =
+            ConfigKey.ofDouble(PATH_PLAYER_SETTINGS_SHARED_POLL_MS, DEFAULT_PLAYER_SETTINGS_SHARED_POLL_MS);
     public static final ConfigKey<Boolean> ALLOW_CASH_REWARD =
             ConfigKey.ofBooleanWithFallback(PATH_ALLOW_CASH_REWARD, LEGACY_PATH_ALLOW_CASH_REWARD, DEFAULT_ALLOW_CASH_REWARD);
     public static final ConfigKey<Boolean> ALLOW_CASH_REWARD_EVEN_WITH_PHYSICAL =
@@ -615,6 +656,16 @@ public final class DifficultyIO {
             ConfigKey.ofStringList(PATH_KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_CAUSE, DEFAULT_KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_CAUSE);
     public static final ConfigKey<List<String>> KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED =
             ConfigKey.ofStringList(PATH_KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED, DEFAULT_KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED);
+    public static final ConfigKey<String> KILLFEED_CHAT_DELIVERY_SCOPE =
+            ConfigKey.ofString(PATH_KILLFEED_CHAT_DELIVERY_SCOPE, DEFAULT_KILLFEED_CHAT_DELIVERY_SCOPE);
+    public static final ConfigKey<Double> KILLFEED_CHAT_DELIVERY_RADIUS =
+            ConfigKey.ofDouble(PATH_KILLFEED_CHAT_DELIVERY_RADIUS, DEFAULT_KILLFEED_CHAT_DELIVERY_RADIUS);
+    public static final ConfigKey<Integer> KILLFEED_CHAT_DIGEST_THRESHOLD =
+            ConfigKey.ofInt(PATH_KILLFEED_CHAT_DIGEST_THRESHOLD, DEFAULT_KILLFEED_CHAT_DIGEST_THRESHOLD);
+    public static final ConfigKey<String> KILLFEED_CHAT_DIGEST_KILLER =
+            ConfigKey.ofString(PATH_KILLFEED_CHAT_DIGEST_KILLER, DEFAULT_KILLFEED_CHAT_DIGEST_KILLER);
+    public static final ConfigKey<String> KILLFEED_CHAT_DIGEST_DIED =
+            ConfigKey.ofString(PATH_KILLFEED_CHAT_DIGEST_DIED, DEFAULT_KILLFEED_CHAT_DIGEST_DIED);
     public static final ConfigKey<Boolean> ALLOW_DEBUG_COMMANDS =
             ConfigKey.ofBooleanWithFallback(PATH_ALLOW_DEBUG_COMMANDS, LEGACY_PATH_ALLOW_DEBUG_COMMANDS, DEFAULT_ALLOW_DEBUG_COMMANDS);
     public static final ConfigKey<Boolean> ALLOW_ELITE_SPAWN_MODIFIER =
@@ -625,6 +676,10 @@ public final class DifficultyIO {
             ConfigKey.ofInt(PATH_ELITE_SPAWN_QUEUE_MAX_PER_DRAIN, DEFAULT_ELITE_SPAWN_QUEUE_MAX_PER_DRAIN);
     public static final ConfigKey<Double> ELITE_SPAWN_QUEUE_MAX_DRAIN_MS =
             ConfigKey.ofDouble(PATH_ELITE_SPAWN_QUEUE_MAX_DRAIN_MS, DEFAULT_ELITE_SPAWN_QUEUE_MAX_DRAIN_MS);
+    public static final ConfigKey<List<String>> DEBUG_LOGGING_CATEGORIES =
+            ConfigKey.ofStringList(PATH_DEBUG_LOGGING_CATEGORIES, DEFAULT_DEBUG_LOGGING_CATEGORIES);
+    public static final ConfigKey<Integer> DEBUG_LOGGING_QUEUE_SIZE =
+            ConfigKey.ofInt(PATH_DEBUG_LOGGING_QUEUE_SIZE, DEFAULT_DEBUG_LOGGING_QUEUE_SIZE);
     public static final ConfigKey<Boolean> INTEGRATION_ELITE_MOBS =
             ConfigKey.ofBoolean(PATH_INTEGRATION_ELITE_MOBS, DEFAULT_INTEGRATION_ELITE_MOBS);
     public static final ConfigKey<Boolean> INTEGRATION_ECOTALE =
@@ -640,6 +695,156 @@ public final class DifficultyIO {
     public static final ConfigKey<Double> INTEGRATION_MULTIPLIER_ECOTALE =
             ConfigKey.ofDouble(PATH_INTEGRATION_MULTIPLIER_ECOTALE, DEFAULT_INTEGRATION_MULTIPLIER_ECOTALE);
 
+    // Every key above, in id order; ConfigSnapshot resolves exactly these. New keys must be added here.
+    static final List<ConfigKey<?>> CONFIG_KEYS = ConfigKey.index(
+            DEFAULT_DIFFICULTY,
+            ALLOW_DIFFICULTY_CHANGE,
+            ALLOW_DIFFICULTY_CHANGE_IN_COMBAT,
+            ALLOW_BADGE,
+            UI_BADGE_START_DELAY_MS,
+            UI_TIER_VALUES_AS_PERCENT,
+            UI_REFRESH_DEBOUNCE_MS,
+            WORLD_TIER_ENABLED,
+            WORLD_TIER_MODE,
+            WORLD_TIER_FIXED_TIER,
+            WORLD_TIER_SCALED_FACTOR,
+            WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS,
+            DIFFICULTY_CHANGE_COOLDOWN_MS,
+            DIFFICULTY_CHANGE_COMBAT_TIMEOUT_MS,
+            MIN_DAMAGE_FACTOR,
+            PLAYER_DISTANCE_RADIUS_TO_CHECK,
+            HEALTH_SCALING_TOLERANCE,
+            MIN_HEALTH_SCALING_FACTOR,
+            MAX_HEALTH_SCALING_FACTOR,
+            CASH_VARIANCE_FACTOR,
+            ROUNDING_DIGITS,
+            HOT_RELOAD_ENABLED,
+            HOT_RELOAD_DEBOUNCE_MS,
+            PLAYER_SETTINGS_STORE,
+            PLAYER_SETTINGS_SHARED_PATH,
+            PLAYER_SETTINGS_SHARED_POLL_MS,
+            ALLOW_CASH_REWARD,
+            ALLOW_CASH_REWARD_EVEN_WITH_PHYSICAL,
+            ALLOW_XP_REWARD,
+            ALLOW_SPAWN_TIER_REWARD,
+            SPAWN_TIER_REWARD_OVER_FACTOR,
+            SPAWN_TIER_REWARD_UNDER_FACTOR,
+            ALLOW_CUSTOM_LEVELING,
+            CUSTOM_LEVELING_USE_MOST_DAMAGE,
+            CUSTOM_LEVELING_MOST_DAMAGE_MULTIPLIER,
+            CUSTOM_LEVELING_OTHER_ATTACKER_MULTIPLIER,
+            CUSTOM_LEVELING_REWARD_MOST_DAMAGE,
+            CUSTOM_LEVELING_INCLUDE_RANGE,
+            CUSTOM_LEVELING_INCLUDE_DEFAULT_STATS,
+            CUSTOM_LEVELING_INCLUDE_SCALED_DAMAGE,
+            CUSTOM_LEVELING_SCALED_DAMAGE_FACTOR,
+            CUSTOM_LEVELING_STATS_MANA_MULTIPLIER,
+            CUSTOM_LEVELING_STATS_AMMO_MULTIPLIER,
+            CUSTOM_LEVELING_STATS_SIGNATURE_MULTIPLIER,
+            CUSTOM_LEVELING_USE_ATTITUDE_MULTIPLIER,
+            CUSTOM_LEVELING_ATTITUDE_PLAYER_REVERED_SCORE,
+            CUSTOM_LEVELING_ATTITUDE_PLAYER_FRIENDLY_SCORE,
+            CUSTOM_LEVELING_ATTITUDE_PLAYER_HOSTILE_SCORE,
+            CUSTOM_LEVELING_ATTITUDE_NPC_HOSTILE_BONUS,
+            CUSTOM_LEVELING_ATTITUDE_THRESHOLD_LOW,
+            CUSTOM_LEVELING_ATTITUDE_THRESHOLD_MID,
+            CUSTOM_LEVELING_ATTITUDE_THRESHOLD_HIGH,
+            CUSTOM_LEVELING_ATTITUDE_MULTIPLIER_LOW,
+            CUSTOM_LEVELING_ATTITUDE_MULTIPLIER_MID,
+            CUSTOM_LEVELING_ATTITUDE_MULTIPLIER_HIGH,
+            CUSTOM_LEVELING_DOWNSCALE_BASE,
+            CUSTOM_LEVELING_DOWNSCALE_LEVEL_EXPONENT,
+            CUSTOM_LEVELING_DOWNSCALE_LEVEL_MULTIPLIER,
+            ALLOW_HEALTH_MODIFIER,
+            ALLOW_DAMAGE_MODIFIER,
+            ALLOW_DAMAGE_PHYSICAL,
+            ALLOW_DAMAGE_PROJECTILE,
+            ALLOW_DAMAGE_COMMAND,
+            ALLOW_DAMAGE_DROWNING,
+            ALLOW_DAMAGE_ENVIRONMENT,
+            ALLOW_DAMAGE_FALL,
+            ALLOW_DAMAGE_OUT_OF_WORLD,
+            ALLOW_DAMAGE_SUFFOCATION,
+            ALLOW_ARMOR_MODIFIER,
+            ALLOW_DROP_MODIFIER,
+            ALLOW_DEBUG_LOGGING,
+            ALLOW_SPAWN_TIER_NAMEPLATE,
+            ALLOW_SPAWN_COUNT_MULTIPLIER,
+            ALLOW_KILLFEED_TIER_TAG,
+            ALLOW_KILLFEED_TIER_CHAT,
+            ALLOW_CHAT_TIER_TAG,
+            ALLOW_SERVERLIST_TIER_TAG,
+            COMMAND_TIER_SELECT_NAME,
+            COMMAND_TIER_SELECT_ALIASES,
+            COMMAND_TIER_SELECT_PERMISSION,
+            COMMAND_BADGE_TOGGLE_NAME,
+            COMMAND_BADGE_TOGGLE_ALIASES,
+            COMMAND_BADGE_TOGGLE_PERMISSION,
+            COMMAND_RELOAD_NAME,
+            COMMAND_RELOAD_ALIASES,
+            COMMAND_RELOAD_PERMISSION,
+            COMMAND_WORLD_TIER_NAME,
+            COMMAND_WORLD_TIER_ALIASES,
+            COMMAND_WORLD_TIER_PERMISSION,
+            COMMAND_ADMIN_UI_NAME,
+            COMMAND_ADMIN_UI_ALIASES,
+            COMMAND_ADMIN_UI_PERMISSION,
+            COMMAND_DEBUG_CLEAR_ENTITIES_NAME,
+            COMMAND_DEBUG_CLEAR_ENTITIES_ALIASES,
+            COMMAND_DEBUG_CLEAR_ENTITIES_PERMISSION,
+            COMMAND_DEBUG_CLEAR_ITEMS_NAME,
+            COMMAND_DEBUG_CLEAR_ITEMS_ALIASES,
+            COMMAND_DEBUG_CLEAR_ITEMS_PERMISSION,
+            COMMAND_DEBUG_TEST_ATTACK_NAME,
+            COMMAND_DEBUG_TEST_ATTACK_ALIASES,
+            COMMAND_DEBUG_TEST_ATTACK_PERMISSION,
+            COMMAND_DEBUG_TEST_DAMAGE_NAME,
+            COMMAND_DEBUG_TEST_DAMAGE_ALIASES,
+            COMMAND_DEBUG_TEST_DAMAGE_PERMISSION,
+            COMMAND_DEBUG_SPAWN_WRAITH_NAME,
+            COMMAND_DEBUG_SPAWN_WRAITH_ALIASES,
+            COMMAND_DEBUG_SPAWN_WRAITH_PERMISSION,
+            COMMAND_DEBUG_TIER_LOWEST_NAME,
+            COMMAND_DEBUG_TIER_LOWEST_ALIASES,
+            COMMAND_DEBUG_TIER_LOWEST_PERMISSION,
+            COMMAND_DEBUG_TIER_HIGHEST_NAME,
+            COMMAND_DEBUG_TIER_HIGHEST_ALIASES,
+            COMMAND_DEBUG_TIER_HIGHEST_PERMISSION,
+            KILLFEED_CHAT_COLOR_PLAYER,
+            KILLFEED_CHAT_COLOR_MIDDLE,
+            KILLFEED_CHAT_COLOR_CAUSE,
+            KILLFEED_CHAT_MESSAGES_FALLBACK,
+            KILLFEED_CHAT_MESSAGES_COMMAND,
+            KILLFEED_CHAT_MESSAGES_DROWNING,
+            KILLFEED_CHAT_MESSAGES_SUFFOCATION,
+            KILLFEED_CHAT_MESSAGES_ENVIRONMENT,
+            KILLFEED_CHAT_MESSAGES_FALL,
+            KILLFEED_CHAT_MESSAGES_OUT_OF_WORLD,
+            KILLFEED_CHAT_MESSAGES_PHYSICAL_KILLER_ACTION,
+            KILLFEED_CHAT_MESSAGES_PHYSICAL_KILLER_CAUSE,
+            KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_CAUSE,
+            KILLFEED_CHAT_MESSAGES_PHYSICAL_VICTIM_DIED,
+            KILLFEED_CHAT_DELIVERY_SCOPE,
+            KILLFEED_CHAT_DELIVERY_RADIUS,
+            KILLFEED_CHAT_DIGEST_THRESHOLD,
+            KILLFEED_CHAT_DIGEST_KILLER,
+            KILLFEED_CHAT_DIGEST_DIED,
+            ALLOW_DEBUG_COMMANDS,
+            ALLOW_ELITE_SPAWN_MODIFIER,
+            ELITE_SPAWN_QUEUE_INTERVAL_MS,
+            ELITE_SPAWN_QUEUE_MAX_PER_DRAIN,
+            ELITE_SPAWN_QUEUE_MAX_DRAIN_MS,
+            DEBUG_LOGGING_CATEGORIES,
+            DEBUG_LOGGING_QUEUE_SIZE,
+            INTEGRATION_ELITE_MOBS,
+            INTEGRATION_ECOTALE,
+            INTEGRATION_LEVELING_CORE,
+            INTEGRATION_MMO_SKILLTREE,
+            INTEGRATION_MULTIPLIER_LEVELING_CORE,
+            INTEGRATION_MULTIPLIER_MMO_SKILLTREE,
+            INTEGRATION_MULTIPLIER_ECOTALE
+    );
+
     private DifficultyIO() {
     }
 
@@ -665,7 +870,13 @@ public final class DifficultyIO {
                 DifficultyDropIns.writeDefaultsFromResources(DIFFICULTY_DROPINS_PATH);
             }
         }
-        return DifficultyConfig.loadOrCreateWithDropIns(DEFAULT_CONFIG_PATH, DIFFICULTY_DROPINS_PATH, defaults);
+        JsonObject cached = StartupCache.loadConfig(DEFAULT_CONFIG_PATH, DIFFICULTY_DROPINS_PATH);
+        if (cached != null) {
+            return DifficultyConfig.fromMergedRoot(DEFAULT_CONFIG_PATH, DIFFICULTY_DROPINS_PATH, cached);
+        }
+        DifficultyConfig config = DifficultyConfig.loadOrCreateWithDropIns(DEFAULT_CONFIG_PATH, DIFFICULTY_DROPINS_PATH, defaults);
+        StartupCache.storeConfig(DEFAULT_CONFIG_PATH, DIFFICULTY_DROPINS_PATH, config.root());
+        return config;
     }
 
     private static void stripLegacySections(Path path, JsonObject root) {
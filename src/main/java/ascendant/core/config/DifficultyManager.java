@@ -1,5 +1,6 @@
 package ascendant.core.config;
 
+import ascendant.core.events.DifficultyEventBus;
 import com.google.gson.*;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
@@ -9,23 +10,61 @@ import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 public final class DifficultyManager {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
 
     private static final Object INIT_LOCK = new Object();
     private static final Map<UUID, PlayerSettings> playerSettings = new ConcurrentHashMap<>();
+    // Keeps map updates and store saves in the same order.
+    private static final Object PLAYER_SETTINGS_WRITE_LOCK = new Object();
+    // Chosen by base.playerSettings.store when settings are first loaded, unless set beforehand.
+    private static volatile PlayerSettingsStore playerSettingsStore;
+    private static volatile boolean playerSettingsStoreOpen = false;
+    // Players whose stored settings have been read; playerSettings holds only the non-default ones.
+    private static final Set<UUID> loadedPlayerSettings = ConcurrentHashMap.newKeySet();
+    private static final int RESIDENT_OFFLINE_PLAYER_SETTINGS = 256;
+    // Offline players still resident, least recently used first; guarded by PLAYER_SETTINGS_WRITE_LOCK.
+    private static final LinkedHashMap<UUID, Boolean> offlinePlayerSettings = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+            if (size() <= RESIDENT_OFFLINE_PLAYER_SETTINGS) {
+                return false;
+            }
+            UUID playerUuid = eldest.getKey();
+            if (!onlineTiers.contains(playerUuid)) {
+                playerSettings.remove(playerUuid);
+                loadedPlayerSettings.remove(playerUuid);
+                playerSettingsStore.evict(playerUuid);
+            }
+            return true;
+        }
+    };
+    private static final List<Consumer<ConfigSnapshot>> snapshotListeners = new CopyOnWriteArrayList<>();
+    private static final OnlineTierHistogram onlineTiers = new OnlineTierHistogram();
+    private static final AtomicLong worldTierVersion = new AtomicLong();
     private static final String PLAYER_SETTING_DIFFICULTY = "difficulty";
     private static final String PLAYER_SETTING_SHOW_BADGE = "showBadge";
     private static final String PLAYER_SETTING_SHOW_TIER_VALUES_AS_PERCENT = "showTierValuesAsPercent";
     private static final String WORLD_TIER_SETTING_FIXED_OVERRIDE = "fixedTierOverride";
     private static final boolean DEFAULT_SHOW_BADGE = true;
     private static volatile boolean initialized = false;
-    private static DifficultyConfig config;
-    private static DifficultySettings settings;
+    private static volatile ConfigSnapshot snapshot;
+    private static long snapshotVersion = 0L;
     private static volatile String worldTierAdminOverride;
+    private static volatile CachedWorldTier cachedWorldTier;
+    private static final Object WORLD_TIER_EVENT_LOCK = new Object();
+    private static String lastPublishedWorldTier;
+    private static final Object EFFECTIVE_TIER_LOCK = new Object();
+    // Copy-on-write effective tier per online player; read without locks from network threads.
+    private static volatile Map<UUID, EffectiveTier> effectiveTiers = Map.of();
 
     private DifficultyManager() {
     }
@@ -33,29 +72,48 @@ public final class DifficultyManager {
     public static void initialize(DifficultyConfig config, DifficultySettings settings) {
         Objects.requireNonNull(config, "config");
         synchronized (INIT_LOCK) {
-            DifficultyManager.config = config;
-            DifficultyManager.settings = (settings != null) ? settings : DifficultySettings.fromConfig(config);
+            publishSnapshot(config, (settings != null) ? settings : DifficultySettings.fromConfig(config));
             loadPlayerSettings();
             loadWorldTierSettings();
+            rebuildOnlineTiers();
             initialized = true;
+            lastPublishedWorldTier = currentWorldTierOrNull();
+            rebuildEffectiveTiers();
         }
     }
 
     // Exposed for systems that need to read raw config or computed settings.
     public static DifficultySettings getSettings() {
-        ensureInitialized();
-        return settings;
+        return getSnapshot().settings();
     }
 
     public static DifficultyConfig getConfig() {
-        ensureInitialized();
-        return config;
+        return getSnapshot().config();
+    }
+
+    public static TierPresentation getPresentation(String tierId) {
+        return getSnapshot().presentation(tierId);
     }
 
     public static <T> T getFromConfig(ConfigKey<T> key) {
         Objects.requireNonNull(key, "key");
+        return getSnapshot().get(key);
+    }
+
+    public static ConfigSnapshot getSnapshot() {
         ensureInitialized();
-        return key.read(config);
+        return snapshot;
+    }
+
+    // Listener is called with the current snapshot right away and again after every reload.
+    public static void subscribe(Consumer<ConfigSnapshot> listener) {
+        Objects.requireNonNull(listener, "listener");
+        snapshotListeners.add(listener);
+        notifyListener(listener, getSnapshot());
+    }
+
+    public static void unsubscribe(Consumer<ConfigSnapshot> listener) {
+        snapshotListeners.remove(listener);
     }
 
     // Global switch from config: base.allow.difficulty.change
@@ -67,6 +125,10 @@ public final class DifficultyManager {
     // Effective difficulty = world tier (if enabled) otherwise player tier.
     public static String getDifficulty(UUID playerUuid) {
         Objects.requireNonNull(playerUuid, "playerUuid");
+        EffectiveTier effective = effectiveTiers.get(playerUuid);
+        if (effective != null) {
+            return effective.tierId();
+        }
         ensureInitialized();
         if (isWorldTierActive()) {
             return resolveWorldTierOrDefault();
@@ -74,18 +136,28 @@ public final class DifficultyManager {
         return getPlayerDifficulty(playerUuid);
     }
 
+    // Precomputed effective tier of an online player, or null when the player is offline.
+    public static EffectiveTier getEffectiveTier(UUID playerUuid) {
+        Objects.requireNonNull(playerUuid, "playerUuid");
+        return effectiveTiers.get(playerUuid);
+    }
+
     // Player tier only (ignores world tier mode).
     public static String getPlayerDifficulty(UUID playerUuid) {
         Objects.requireNonNull(playerUuid, "playerUuid");
         ensureInitialized();
+        return resolvePlayerDifficulty(playerUuid);
+    }
 
-        PlayerSettings playerSetting = playerSettings.get(playerUuid);
+    // Also used while initializing, so it must not go through ensureInitialized().
+    private static String resolvePlayerDifficulty(UUID playerUuid) {
+        PlayerSettings playerSetting = residentPlayerSettings(playerUuid);
         String override = playerSetting != null ? playerSetting.difficultyOverride() : null;
         if (isValidTier(override)) {
             return override;
         }
 
-        String fallback = getFromConfig(DifficultyIO.DEFAULT_DIFFICULTY);
+        String fallback = snapshot.get(DifficultyIO.DEFAULT_DIFFICULTY);
         if (isValidTier(fallback)) {
             return fallback;
         }
@@ -111,28 +183,32 @@ public final class DifficultyManager {
 
     public static boolean setWorldTierAdminOverride(String tierId) {
         ensureInitialized();
+        String normalized = normalizeTierId(tierId);
+        if (normalized == null) {
+            clearWorldTierAdminOverride();
+            return true;
+        }
         synchronized (INIT_LOCK) {
-            String normalized = normalizeTierId(tierId);
-            if (normalized == null) {
-                clearWorldTierAdminOverride();
-                return true;
-            }
             String canonicalTierId = resolveCanonicalTierId(normalized);
             if (canonicalTierId == null) {
                 return false;
             }
             worldTierAdminOverride = canonicalTierId;
+            invalidateWorldTier();
             saveWorldTierSettings();
-            return true;
         }
+        publishWorldTierIfChanged();
+        return true;
     }
 
     public static void clearWorldTierAdminOverride() {
         ensureInitialized();
         synchronized (INIT_LOCK) {
             worldTierAdminOverride = null;
+            invalidateWorldTier();
             saveWorldTierSettings();
         }
+        publishWorldTierIfChanged();
     }
 
     public static WorldTierSnapshot getWorldTierSnapshot() {
@@ -155,6 +231,46 @@ public final class DifficultyManager {
         );
     }
 
+    // Called on join so world-tier modes can count this player.
+    public static void onPlayerOnline(UUID playerUuid) {
+        Objects.requireNonNull(playerUuid, "playerUuid");
+        ensureInitialized();
+        boolean changed = onlineTiers.set(playerUuid, playerTierOrdinal(playerUuid));
+        synchronized (PLAYER_SETTINGS_WRITE_LOCK) {
+            offlinePlayerSettings.remove(playerUuid);
+        }
+        if (changed) {
+            invalidateWorldTier();
+        }
+        updateEffectiveTier(playerUuid);
+        if (changed) {
+            publishWorldTierIfChanged();
+        }
+    }
+
+    // Called on connect so the settings are usually resident before the player is ready.
+    public static void preloadPlayerSettings(UUID playerUuid) {
+        Objects.requireNonNull(playerUuid, "playerUuid");
+        CompletableFuture.runAsync(() -> residentPlayerSettings(playerUuid));
+    }
+
+    public static void onPlayerOffline(UUID playerUuid) {
+        Objects.requireNonNull(playerUuid, "playerUuid");
+        boolean changed = onlineTiers.remove(playerUuid);
+        synchronized (PLAYER_SETTINGS_WRITE_LOCK) {
+            if (loadedPlayerSettings.contains(playerUuid)) {
+                offlinePlayerSettings.put(playerUuid, Boolean.TRUE);
+            }
+        }
+        if (changed) {
+            invalidateWorldTier();
+        }
+        updateEffectiveTier(playerUuid);
+        if (changed) {
+            publishWorldTierIfChanged();
+        }
+    }
+
     // Persist player override only if selection is enabled and tier exists.
     public static void setPlayerDifficultyOverride(UUID playerUuid, String tierId) {
         Objects.requireNonNull(playerUuid, "playerUuid");
@@ -184,6 +300,7 @@ public final class DifficultyManager {
         savePlayerSettings(playerUuid, updated);
     }
 
+    // Resident players only (online or recently offline); the rest stay on disk until needed.
     public static Map<UUID, String> getPlayerOverridesSnapshot() {
         ensureInitialized();
         Map<UUID, String> snapshot = new HashMap<>();
@@ -199,7 +316,7 @@ public final class DifficultyManager {
     public static boolean isBadgeVisible(UUID playerUuid) {
         Objects.requireNonNull(playerUuid, "playerUuid");
         ensureInitialized();
-        PlayerSettings settings = playerSettings.get(playerUuid);
+        PlayerSettings settings = residentPlayerSettings(playerUuid);
         return settings == null ? DEFAULT_SHOW_BADGE : settings.showBadge();
     }
 
@@ -215,7 +332,7 @@ public final class DifficultyManager {
     public static boolean isTierValuesAsPercent(UUID playerUuid) {
         Objects.requireNonNull(playerUuid, "playerUuid");
         ensureInitialized();
-        PlayerSettings settings = playerSettings.get(playerUuid);
+        PlayerSettings settings = residentPlayerSettings(playerUuid);
         return settings == null ? defaultShowTierValuesAsPercent() : settings.showTierValuesAsPercent();
     }
 
@@ -230,13 +347,23 @@ public final class DifficultyManager {
 
     // Reloads base difficulty.json and drop-ins without touching overrides.
     public static void reloadConfig() throws IOException {
+        ensureInitialized();
+        // a fresh copy; the current snapshot keeps pointing at the config it was resolved from
+        DifficultyConfig next = snapshot.config().reloadCopy();
+        swapConfig(next, next.toSettings());
+    }
+
+    // Swaps in a config that was parsed off-lock (used by DifficultyConfigWatcher).
+    static void swapConfig(DifficultyConfig config, DifficultySettings settings) {
+        Objects.requireNonNull(config, "config");
+        Objects.requireNonNull(settings, "settings");
         ensureInitialized();
         synchronized (INIT_LOCK) {
-            config.reload();
-            settings = config.toSettings();
-            loadWorldTierSettings();
-            RuntimeSettings.reload();
+            applyConfig(config, settings);
         }
+        rebuildEffectiveTiers();
+        notifyListeners();
+        publishWorldTierIfChanged();
     }
 
     private static void ensureInitialized() {
@@ -248,14 +375,46 @@ public final class DifficultyManager {
                 return;
             }
             try {
-                config = DifficultyIO.loadOrCreateConfig();
-                settings = config.toSettings();
+                DifficultyConfig config = DifficultyIO.loadOrCreateConfig();
+                publishSnapshot(config, config.toSettings());
             } catch (IOException e) {
                 throw new IllegalStateException("Failed to load difficulty config.", e);
             }
             loadPlayerSettings();
             loadWorldTierSettings();
+            rebuildOnlineTiers();
             initialized = true;
+            lastPublishedWorldTier = currentWorldTierOrNull();
+            rebuildEffectiveTiers();
+        }
+    }
+
+    // Caller holds INIT_LOCK.
+    private static void publishSnapshot(DifficultyConfig config, DifficultySettings settings) {
+        snapshot = ConfigSnapshot.capture(++snapshotVersion, config, settings);
+    }
+
+    // Caller holds INIT_LOCK.
+    private static void applyConfig(DifficultyConfig config, DifficultySettings settings) {
+        publishSnapshot(config, settings);
+        loadWorldTierSettings();
+        rebuildOnlineTiers();
+        RuntimeSettings.reload();
+    }
+
+    private static void notifyListeners() {
+        ConfigSnapshot current = snapshot;
+        for (Consumer<ConfigSnapshot> listener : snapshotListeners) {
+            notifyListener(listener, current);
+        }
+        DifficultyEventBus.publish(new DifficultyEventBus.ConfigReloaded(current));
+    }
+
+    private static void notifyListener(Consumer<ConfigSnapshot> listener, ConfigSnapshot current) {
+        try {
+            listener.accept(current);
+        } catch (RuntimeException e) {
+            System.err.println("[ascendant] Config listener failed: " + e.getMessage());
         }
     }
 
@@ -267,35 +426,112 @@ public final class DifficultyManager {
         if (tierId == null || tierId.isBlank()) {
             return null;
         }
-        Map<String, Map<String, Double>> tiers = settings.tiers();
-        if (tiers.containsKey(tierId)) {
-            return tierId;
-        }
-        for (String existing : tiers.keySet()) {
-            if (existing.equalsIgnoreCase(tierId)) {
-                return existing;
-            }
-        }
-        return null;
+        TierRegistry registry = snapshot.settings().registry();
+        return registry.tierId(registry.resolveOrdinal(tierId));
     }
 
     private static String pickAnyTierOrDefault() {
-        Set<String> ids = settings.tiers().keySet();
-        if (!ids.isEmpty()) {
-            return ids.iterator().next();
+        TierRegistry registry = snapshot.settings().registry();
+        if (registry.tierCount() > 0) {
+            return registry.tierId(0);
         }
         return DifficultyIO.DEFAULT_BASE_DIFFICULTY;
     }
 
     private static boolean defaultShowTierValuesAsPercent() {
-        DifficultyConfig currentConfig = config;
-        if (currentConfig == null) {
+        ConfigSnapshot current = snapshot;
+        if (current == null) {
             return DifficultyIO.DEFAULT_UI_TIER_VALUES_AS_PERCENT;
         }
-        return DifficultyIO.UI_TIER_VALUES_AS_PERCENT.read(currentConfig);
+        return current.get(DifficultyIO.UI_TIER_VALUES_AS_PERCENT);
     }
 
+    // Cached until the online histogram, admin override or config changes.
     private static String resolveWorldTierOrDefault() {
+        long version = worldTierVersion.get();
+        CachedWorldTier cached = cachedWorldTier;
+        if (cached != null && cached.version() == version) {
+            return cached.tierId();
+        }
+        String resolved = computeWorldTier();
+        if (worldTierVersion.get() == version) {
+            cachedWorldTier = new CachedWorldTier(version, resolved);
+        }
+        return resolved;
+    }
+
+    private static void invalidateWorldTier() {
+        worldTierVersion.incrementAndGet();
+    }
+
+    private static String currentWorldTierOrNull() {
+        return isWorldTierActive() ? resolveWorldTierOrDefault() : null;
+    }
+
+    // Fires WorldTierChanged only when the resolved world tier (null while disabled) actually moved.
+    private static void publishWorldTierIfChanged() {
+        String current = currentWorldTierOrNull();
+        String previous;
+        synchronized (WORLD_TIER_EVENT_LOCK) {
+            previous = lastPublishedWorldTier;
+            if (Objects.equals(previous, current)) {
+                return;
+            }
+            lastPublishedWorldTier = current;
+        }
+        rebuildEffectiveTiers();
+        DifficultyEventBus.publish(new DifficultyEventBus.WorldTierChanged(previous, current));
+    }
+
+    // Online players only; offline lookups go through the regular resolution path.
+    private static void updateEffectiveTier(UUID playerUuid) {
+        synchronized (EFFECTIVE_TIER_LOCK) {
+            Map<UUID, EffectiveTier> next = new HashMap<>(effectiveTiers);
+            if (onlineTiers.contains(playerUuid)) {
+                next.put(playerUuid, resolveEffectiveTier(playerUuid, currentWorldTierOrNull()));
+            } else if (next.remove(playerUuid) == null) {
+                return;
+            }
+            effectiveTiers = Map.copyOf(next);
+        }
+    }
+
+    private static void rebuildEffectiveTiers() {
+        synchronized (EFFECTIVE_TIER_LOCK) {
+            String worldTier = currentWorldTierOrNull();
+            Map<UUID, EffectiveTier> next = new HashMap<>();
+            for (UUID playerUuid : onlineTiers.players()) {
+                next.put(playerUuid, resolveEffectiveTier(playerUuid, worldTier));
+            }
+            effectiveTiers = Map.copyOf(next);
+        }
+    }
+
+    private static EffectiveTier resolveEffectiveTier(UUID playerUuid, String worldTier) {
+        String tierId = worldTier != null ? worldTier : resolvePlayerDifficulty(playerUuid);
+        return new EffectiveTier(snapshot.settings().registry().ordinal(tierId), tierId);
+    }
+
+    private static int playerTierOrdinal(UUID playerUuid) {
+        return snapshot.settings().registry().ordinal(resolvePlayerDifficulty(playerUuid));
+    }
+
+    // Caller holds INIT_LOCK. Tier ordinals change on reload, so every online player is re-bucketed.
+    private static void rebuildOnlineTiers() {
+        List<UUID> online = new ArrayList<>();
+        Universe universe = Universe.get();
+        if (universe != null) {
+            for (PlayerRef playerRef : universe.getPlayers()) {
+                if (playerRef != null && playerRef.isValid()) {
+                    online.add(playerRef.getUuid());
+                }
+            }
+        }
+        onlineTiers.rebuild(snapshot.settings().registry().tierCount(), online, DifficultyManager::playerTierOrdinal);
+        invalidateWorldTier();
+    }
+
+    private static String computeWorldTier() {
         String adminOverride = getWorldTierAdminOverride();
         if (adminOverride != null) {
             return adminOverride;
@@ -321,91 +557,32 @@ public final class DifficultyManager {
     }
 
     private static String resolveOnlineTierByMode(WorldTierMode mode) {
-        List<String> orderedTierIds = new ArrayList<>(settings.tiers().keySet());
-        if (orderedTierIds.isEmpty()) {
+        TierRegistry registry = snapshot.settings().registry();
+        if (registry.tierCount() == 0) {
             return DifficultyIO.DEFAULT_BASE_DIFFICULTY;
         }
 
-        Universe universe = Universe.get();
-        if (universe == null) {
-            return resolveFixedWorldTier();
-        }
-        List<PlayerRef> onlinePlayers = universe.getPlayers();
-        if (onlinePlayers.isEmpty()) {
-            return resolveFixedWorldTier();
-        }
-
-        Map<String, Integer> tierIndexById = new HashMap<>();
-        for (int i = 0; i < orderedTierIds.size(); i++) {
-            tierIndexById.put(orderedTierIds.get(i), i);
-        }
-
-        int min = Integer.MAX_VALUE;
-        int max = Integer.MIN_VALUE;
-        List<Integer> onlineTierIndices = new ArrayList<>();
-        for (PlayerRef playerRef : onlinePlayers) {
-            if (playerRef == null || !playerRef.isValid()) {
-                continue;
-            }
-            UUID uuid = playerRef.getUuid();
-            String playerTier = getPlayerDifficulty(uuid);
-            Integer idx = tierIndexById.get(playerTier);
-            if (idx == null) {
-                continue;
-            }
-            onlineTierIndices.add(idx);
-            if (idx < min) {
-                min = idx;
-            }
-            if (idx > max) {
-                max = idx;
-            }
-        }
-
-        if (onlineTierIndices.isEmpty() || min == Integer.MAX_VALUE || max == Integer.MIN_VALUE) {
-            return resolveFixedWorldTier();
-        }
-
         int resolvedIndex = switch (mode) {
-            case HIGHEST -> max;
-            case LOWEST -> min;
-            case SCALED -> resolveScaledTierIndex(min, max, onlineTierIndices);
-            case FIXED -> min;
+            case HIGHEST -> onlineTiers.highest();
+            case LOWEST, FIXED -> onlineTiers.lowest();
+            case SCALED -> resolveScaledTierIndex();
         };
+        if (resolvedIndex == TierRegistry.UNKNOWN) {
+            return resolveFixedWorldTier();
+        }
 
         if (resolvedIndex < 0) {
             resolvedIndex = 0;
-        } else if (resolvedIndex >= orderedTierIds.size()) {
-            resolvedIndex = orderedTierIds.size() - 1;
+        } else if (resolvedIndex >= registry.tierCount()) {
+            resolvedIndex = registry.tierCount() - 1;
         }
-        return orderedTierIds.get(resolvedIndex);
+        return registry.tierId(resolvedIndex);
     }
 
-    private static int resolveScaledTierIndex(int min, int max, List<Integer> onlineTierIndices) {
+    private static int resolveScaledTierIndex() {
         double factor = clamp01(getFromConfig(DifficultyIO.WORLD_TIER_SCALED_FACTOR));
         boolean useAllOnlinePlayers = getFromConfig(DifficultyIO.WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS);
-
-        if (!useAllOnlinePlayers || onlineTierIndices.size() <= 1) {
-            double scaled = min + ((max - min) * factor);
-            return (int) Math.round(scaled);
-        }
-
-        List<Integer> sorted = new ArrayList<>(onlineTierIndices);
-        sorted.sort(Integer::compareTo);
-
-        int size = sorted.size();
-        if (size == 1) {
-            return sorted.getFirst();
-        }
-
-        double position = factor * (size - 1);
-        int lowerIndex = (int) Math.floor(position);
-        int upperIndex = (int) Math.ceil(position);
-        double lowerValue = sorted.get(lowerIndex);
-        double upperValue = sorted.get(upperIndex);
-        double localT = position - lowerIndex;
-        double interpolated = lowerValue + ((upperValue - lowerValue) * localT);
-        return (int) Math.round(interpolated);
+        return onlineTiers.scaled(factor, useAllOnlinePlayers);
     }
 
     private static WorldTierMode resolveWorldTierMode() {
@@ -434,14 +611,121 @@ public final class DifficultyManager {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
+    // Settings are read per player on first use; this only recovers the journal and migrates old files.
     private static void loadPlayerSettings() {
-        playerSettings.clear();
-        boolean loaded = loadPlayerSettingsFromPath(DifficultyIO.PLAYER_SETTINGS_PATH);
-        if (loaded) {
+        synchronized (PLAYER_SETTINGS_WRITE_LOCK) {
+            playerSettings.clear();
+            loadedPlayerSettings.clear();
+            offlinePlayerSettings.clear();
+        }
+        if (playerSettingsStoreOpen) {
+            return;
+        }
+        if (playerSettingsStore == null) {
+            playerSettingsStore = createPlayerSettingsStore();
+        }
+        PlayerSettingsStore store = playerSettingsStore;
+        store.setInvalidationListener(DifficultyManager::onPlayerSettingsInvalidated);
+        store.open();
+        playerSettingsStoreOpen = true;
+        // a store that keeps nothing across restarts must never take over (and rename) the old files
+        if (store.isPersistent() && !store.exists()) {
+            migratePlayerSettings(DifficultyIO.PLAYER_SETTINGS_PATH);
+            migratePlayerSettings(DifficultyIO.LEGACY_PLAYER_OVERRIDES_PATH);
+        }
+    }
+
+    // Replaces the configured backend; only possible before player settings are first loaded.
+    public static void setPlayerSettingsStore(PlayerSettingsStore store) {
+        Objects.requireNonNull(store, "store");
+        synchronized (INIT_LOCK) {
+            if (playerSettingsStoreOpen) {
+                throw new IllegalStateException("Player settings store is already open.");
+            }
+            playerSettingsStore = store;
+        }
+    }
+
+    private static PlayerSettingsStore createPlayerSettingsStore() {
+        String kind = snapshot.get(DifficultyIO.PLAYER_SETTINGS_STORE);
+        if ("shared".equalsIgnoreCase(kind)) {
+            String sharedPath = snapshot.get(DifficultyIO.PLAYER_SETTINGS_SHARED_PATH);
+            if (sharedPath != null && !sharedPath.isBlank()) {
+                long pollMs = Math.round(snapshot.get(DifficultyIO.PLAYER_SETTINGS_SHARED_POLL_MS));
+                return new SharedPlayerSettingsStore(Path.of(sharedPath.trim()), pollMs);
+            }
+            System.err.println("[ascendant] " + DifficultyIO.PATH_PLAYER_SETTINGS_SHARED_PATH + " is empty; using local player settings.");
+        }
+        return new PlayerSettingsJournal(
+                DifficultyIO.PLAYER_SETTINGS_JOURNAL_PATH,
+                new PlayerSettingsShards(DifficultyIO.PLAYER_SETTINGS_SHARDS_PATH)
+        );
+    }
+
+    // Another node changed this player (null = possibly anyone); drop the resident copy and re-read it.
+    private static void onPlayerSettingsInvalidated(UUID playerUuid) {
+        if (!initialized) {
+            return;
+        }
+        List<UUID> affected = playerUuid != null ? List.of(playerUuid) : List.copyOf(loadedPlayerSettings);
+        for (UUID uuid : affected) {
+            if (!loadedPlayerSettings.contains(uuid)) {
+                continue;
+            }
+            String previousTier = resolvePlayerDifficulty(uuid);
+            synchronized (PLAYER_SETTINGS_WRITE_LOCK) {
+                playerSettings.remove(uuid);
+                loadedPlayerSettings.remove(uuid);
+            }
+            playerSettingsChanged(uuid, previousTier);
+        }
+    }
+
+    // One-time move of a single-file player settings store into the shards.
+    private static void migratePlayerSettings(Path path) {
+        if (!loadPlayerSettingsFromPath(path)) {
+            return;
+        }
+        synchronized (PLAYER_SETTINGS_WRITE_LOCK) {
+            for (Map.Entry<UUID, PlayerSettings> entry : playerSettings.entrySet()) {
+                playerSettingsStore.save(entry.getKey(), playerSettingsToJson(entry.getValue()));
+            }
+            playerSettings.clear();
+        }
+        if (!playerSettingsStore.flush()) {
+            // The store keeps the entries and retries; the old file stays as a backup.
             return;
         }
-        if (loadPlayerSettingsFromPath(DifficultyIO.LEGACY_PLAYER_OVERRIDES_PATH)) {
-            savePlayerSettings();
+        try {
+            Files.move(path, path.resolveSibling(path.getFileName() + ".migrated"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to rename " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static PlayerSettings residentPlayerSettings(UUID playerUuid) {
+        if (!loadedPlayerSettings.contains(playerUuid)) {
+            // Disk read happens outside the lock; a concurrent save wins over this result.
+            PlayerSettings stored = parsePlayerSettings(playerSettingsStore.load(playerUuid));
+            synchronized (PLAYER_SETTINGS_WRITE_LOCK) {
+                if (loadedPlayerSettings.add(playerUuid)) {
+                    if (stored != null && shouldStore(stored)) {
+                        playerSettings.put(playerUuid, stored);
+                    }
+                    if (!onlineTiers.contains(playerUuid)) {
+                        offlinePlayerSettings.put(playerUuid, Boolean.TRUE);
+                    }
+                }
+            }
+        }
+        return playerSettings.get(playerUuid);
+    }
+
+    // Flushes queued player settings into the store; called on plugin shutdown.
+    public static void shutdown() {
+        PlayerSettingsStore store = playerSettingsStore;
+        if (store != null) {
+            store.close();
         }
     }
 
@@ -475,7 +759,6 @@ public final class DifficultyManager {
         if (Files.notExists(path)) {
             return false;
         }
-        boolean needsSave = false;
         try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
             JsonElement parsed = JsonParser.parseReader(reader);
             if (!parsed.isJsonObject()) {
@@ -493,15 +776,6 @@ public final class DifficultyManager {
                 if (value == null || value.isJsonNull()) {
                     continue;
                 }
-                if (value.isJsonPrimitive()) {
-                    needsSave = true;
-                } else if (value.isJsonObject()) {
-                    JsonObject settingsObject = value.getAsJsonObject();
-                    if (!settingsObject.has(PLAYER_SETTING_SHOW_BADGE)
-                            || !settingsObject.has(PLAYER_SETTING_SHOW_TIER_VALUES_AS_PERCENT)) {
-                        needsSave = true;
-                    }
-                }
                 PlayerSettings settings = parsePlayerSettings(value);
                 if (settings == null) {
                     continue;
@@ -513,9 +787,6 @@ public final class DifficultyManager {
         } catch (IOException e) {
             System.err.println("[ascendant] Failed to read " + path + ": " + e.getMessage());
         }
-        if (needsSave && path.equals(DifficultyIO.PLAYER_SETTINGS_PATH)) {
-            savePlayerSettings();
-        }
         return true;
     }
 
@@ -564,7 +835,7 @@ public final class DifficultyManager {
     }
 
     private static PlayerSettings getPlayerSettings(UUID playerUuid) {
-        PlayerSettings existing = playerSettings.get(playerUuid);
+        PlayerSettings existing = residentPlayerSettings(playerUuid);
         if (existing != null) {
             return existing;
         }
@@ -572,12 +843,34 @@ public final class DifficultyManager {
     }
 
     private static void savePlayerSettings(UUID playerUuid, PlayerSettings settings) {
-        if (shouldStore(settings)) {
-            playerSettings.put(playerUuid, settings);
-        } else {
-            playerSettings.remove(playerUuid);
+        String previousTier = resolvePlayerDifficulty(playerUuid);
+        synchronized (PLAYER_SETTINGS_WRITE_LOCK) {
+            if (shouldStore(settings)) {
+                playerSettings.put(playerUuid, settings);
+                playerSettingsStore.save(playerUuid, playerSettingsToJson(settings));
+            } else {
+                playerSettings.remove(playerUuid);
+                playerSettingsStore.save(playerUuid, null);
+            }
+        }
+        playerSettingsChanged(playerUuid, previousTier);
+    }
+
+    // Refreshes the online histogram and effective tier, then announces a tier change.
+    private static void playerSettingsChanged(UUID playerUuid, String previousTier) {
+        boolean histogramChanged = onlineTiers.setIfTracked(playerUuid, playerTierOrdinal(playerUuid));
+        if (histogramChanged) {
+            invalidateWorldTier();
+        }
+        updateEffectiveTier(playerUuid);
+
+        String tier = resolvePlayerDifficulty(playerUuid);
+        if (!Objects.equals(previousTier, tier)) {
+            DifficultyEventBus.publish(new DifficultyEventBus.PlayerTierChanged(playerUuid, previousTier, tier));
+        }
+        if (histogramChanged) {
+            publishWorldTierIfChanged();
         }
-        savePlayerSettings();
     }
 
     private static boolean shouldStore(PlayerSettings settings) {
@@ -586,27 +879,14 @@ public final class DifficultyManager {
                 || settings.showTierValuesAsPercent() != defaultShowTierValuesAsPercent();
     }
 
-    private static void savePlayerSettings() {
-        try {
-            Files.createDirectories(DifficultyIO.PLAYER_SETTINGS_PATH.getParent());
-            JsonObject root = new JsonObject();
-            for (Map.Entry<UUID, PlayerSettings> entry : playerSettings.entrySet()) {
-                PlayerSettings settings = entry.getValue();
-                if (!shouldStore(settings)) {
-                    continue;
-                }
-                JsonObject playerNode = new JsonObject();
-                if (settings.difficultyOverride() != null) {
-                    playerNode.addProperty(PLAYER_SETTING_DIFFICULTY, settings.difficultyOverride());
-                }
-                playerNode.addProperty(PLAYER_SETTING_SHOW_BADGE, settings.showBadge());
-                playerNode.addProperty(PLAYER_SETTING_SHOW_TIER_VALUES_AS_PERCENT, settings.showTierValuesAsPercent());
-                root.add(entry.getKey().toString(), playerNode);
-            }
-            Files.writeString(DifficultyIO.PLAYER_SETTINGS_PATH, GSON.toJson(root), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            System.err.println("[ascendant] Failed to write " + DifficultyIO.PLAYER_SETTINGS_PATH + ": " + e.getMessage());
+    private static JsonObject playerSettingsToJson(PlayerSettings settings) {
+        JsonObject playerNode = new JsonObject();
+        if (settings.difficultyOverride() != null) {
+            playerNode.addProperty(PLAYER_SETTING_DIFFICULTY, settings.difficultyOverride());
         }
+        playerNode.addProperty(PLAYER_SETTING_SHOW_BADGE, settings.showBadge());
+        playerNode.addProperty(PLAYER_SETTING_SHOW_TIER_VALUES_AS_PERCENT, settings.showTierValuesAsPercent());
+        return playerNode;
     }
 
     private static void saveWorldTierSettings() {
@@ -658,6 +938,12 @@ public final class DifficultyManager {
         }
     }
 
+    public record EffectiveTier(int ordinal, String tierId) {
+    }
+
+    private record CachedWorldTier(long version, String tierId) {
+    }
+
     private record PlayerSettings(String difficultyOverride, boolean showBadge, boolean showTierValuesAsPercent) {
     }
 }
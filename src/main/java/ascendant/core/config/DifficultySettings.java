@@ -22,57 +22,21 @@ public final class DifficultySettings {
             "ascendant"
     );
 
-    public static final Set<String> KEYS = Set.of(
-            DifficultyIO.SETTING_BASE_DAMAGE_RANDOM_PERCENTAGE_MODIFIER,
-            DifficultyIO.SETTING_HEALTH_MULTIPLIER,
-            DifficultyIO.SETTING_MAX_SPEED,
-            DifficultyIO.SETTING_WANDER_RADIUS,
-            DifficultyIO.SETTING_VIEW_RANGE,
-            DifficultyIO.SETTING_HEARING_RANGE,
-            DifficultyIO.SETTING_COMBAT_RELATIVE_TURN_SPEED,
-            DifficultyIO.SETTING_ARMOR_MULTIPLIER,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_PHYSICAL,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_PROJECTILE,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_COMMAND,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_DROWNING,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_ENVIRONMENT,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_FALL,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_OUT_OF_WORLD,
-            DifficultyIO.SETTING_DAMAGE_MULTIPLIER_SUFFOCATION,
-            DifficultyIO.SETTING_KNOCKBACK_RESISTANCE,
-            DifficultyIO.SETTING_REGENERATION,
-            DifficultyIO.SETTING_DROP_RATE_MULTIPLIER,
-            DifficultyIO.SETTING_DROP_QUANTITY_MULTIPLIER,
-            DifficultyIO.SETTING_SPAWN_COUNT_MULTIPLIER,
-            DifficultyIO.SETTING_DROP_QUALITY_MULTIPLIER,
-            DifficultyIO.SETTING_XP_MULTIPLIER,
-            DifficultyIO.SETTING_CASH_MULTIPLIER,
-            DifficultyIO.SETTING_ELITE_MOBS_CHANCE_MULTIPLIER,
-            DifficultyIO.SETTING_ELITE_MOBS_CHANCE_UNCOMMON,
-            DifficultyIO.SETTING_ELITE_MOBS_CHANCE_RARE,
-            DifficultyIO.SETTING_ELITE_MOBS_CHANCE_LEGENDARY
-    );
+    public static final Set<String> KEYS = SettingKey.keys();
     private static final String KEY_IS_ALLOWED = DifficultyIO.SETTING_IS_ALLOWED;
     private static final String KEY_IS_HIDDEN = DifficultyIO.SETTING_IS_HIDDEN;
     private static final String KEY_ROUNDING_DIGITS = "roundingDigits";
 
     private final Map<String, Double> base;
     private final Map<String, Map<String, Double>> tiers;
-    private final boolean baseIsAllowed;
-    private final boolean baseIsHidden;
-    private final Map<String, Boolean> tiersIsAllowed;
-    private final Map<String, Boolean> tiersIsHidden;
     private final int roundingDigits;
+    private final TierRegistry registry;
 
     private DifficultySettings(Map<String, Double> base, Map<String, Map<String, Double>> tiers, boolean baseIsAllowed, boolean baseIsHidden, Map<String, Boolean> tiersIsAllowed, Map<String, Boolean> tiersIsHidden, int roundingDigits) {
         this.base = base;
         this.tiers = tiers;
-        this.baseIsAllowed = baseIsAllowed;
-        this.baseIsHidden = baseIsHidden;
-        this.tiersIsAllowed = tiersIsAllowed;
-        this.tiersIsHidden = tiersIsHidden;
         this.roundingDigits = Math.max(0, roundingDigits);
+        this.registry = TierRegistry.build(base, tiers, baseIsAllowed, baseIsHidden, tiersIsAllowed, tiersIsHidden, this.roundingDigits);
     }
 
     public static DifficultySettings fromConfig(DifficultyConfig config) {
@@ -254,23 +218,29 @@ public final class DifficultySettings {
         return Collections.unmodifiableMap(this.tiers);
     }
 
+    public TierRegistry registry() {
+        return this.registry;
+    }
+
     public double get(String tier, String key) {
-        if (!KEYS.contains(key)) {
+        SettingKey settingKey = SettingKey.fromKey(key);
+        if (settingKey == null) {
             return roundToAfterComma(this.base.getOrDefault(key, 1.0), this.roundingDigits);
         }
-        Map<String, Double> tierValues = this.tiers.get(tier);
-        if (tierValues != null && tierValues.containsKey(key)) {
-            return roundToAfterComma(tierValues.get(key), this.roundingDigits);
-        }
-        return roundToAfterComma(this.base.getOrDefault(key, 1.0), this.roundingDigits);
+        return get(tier, settingKey);
+    }
+
+    // One hash lookup per call; code reading several settings for one tier resolves registry().ordinal(...) once.
+    public double get(String tier, SettingKey key) {
+        return this.registry.get(this.registry.ordinal(tier), key);
     }
 
     public boolean getBoolean(String tier, String key) {
         if (KEY_IS_ALLOWED.equals(key)) {
-            return this.tiersIsAllowed.getOrDefault(tier, this.baseIsAllowed);
+            return this.registry.isAllowed(this.registry.ordinal(tier));
         }
         if (KEY_IS_HIDDEN.equals(key)) {
-            return this.tiersIsHidden.getOrDefault(tier, this.baseIsHidden);
+            return this.registry.isHidden(this.registry.ordinal(tier));
         }
         return false;
     }
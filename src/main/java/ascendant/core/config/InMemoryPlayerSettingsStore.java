@@ -0,0 +1,90 @@
+package ascendant.core.config;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Non-persistent PlayerSettingsStore. Stores created from a peer share its records and act as
+ * separate nodes: a save on one invalidates the player on all the others, which makes it a
+ * stand-in for the shared backend when trying out multi-node setups in one process. Not selectable
+ * from the config; inject it with DifficultyManager.setPlayerSettingsStore.
+ */
+public final class InMemoryPlayerSettingsStore implements PlayerSettingsStore {
+    private final ConcurrentHashMap<UUID, Versioned> records;
+    private final List<InMemoryPlayerSettingsStore> nodes;
+    private volatile Consumer<UUID> invalidationListener = _uuid -> {
+    };
+
+    public InMemoryPlayerSettingsStore() {
+        this.records = new ConcurrentHashMap<>();
+        this.nodes = new CopyOnWriteArrayList<>();
+        this.nodes.add(this);
+    }
+
+    public InMemoryPlayerSettingsStore(InMemoryPlayerSettingsStore peer) {
+        this.records = peer.records;
+        this.nodes = peer.nodes;
+        this.nodes.add(this);
+    }
+
+    @Override
+    public void open() {
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return false;
+    }
+
+    @Override
+    public boolean exists() {
+        return !records.isEmpty();
+    }
+
+    @Override
+    public JsonElement load(UUID playerUuid) {
+        Versioned record = records.get(playerUuid);
+        return record == null || record.settings() == null ? null : record.settings().deepCopy();
+    }
+
+    // Current record version, 0 when the player was never saved.
+    public long version(UUID playerUuid) {
+        Versioned record = records.get(playerUuid);
+        return record == null ? 0L : record.version();
+    }
+
+    @Override
+    public void save(UUID playerUuid, JsonObject settings) {
+        JsonObject copy = settings != null ? settings.deepCopy() : null;
+        records.compute(playerUuid, (_uuid, previous) -> new Versioned(previous == null ? 1L : previous.version() + 1L, copy));
+        for (InMemoryPlayerSettingsStore node : nodes) {
+            if (node != this) {
+                node.invalidationListener.accept(playerUuid);
+            }
+        }
+    }
+
+    @Override
+    public boolean flush() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        nodes.remove(this);
+    }
+
+    @Override
+    public void setInvalidationListener(Consumer<UUID> listener) {
+        this.invalidationListener = listener;
+    }
+
+    private record Versioned(long version, JsonObject settings) {
+    }
+}
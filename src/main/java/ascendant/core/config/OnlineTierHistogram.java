@@ -0,0 +1,127 @@
+package ascendant.core.config;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Online players per tier ordinal. Maintained on join, disconnect, tier change and reload so the
+ * world-tier modes (highest/lowest/scaled) resolve in O(tiers) without walking every player.
+ */
+final class OnlineTierHistogram {
+    private final Map<UUID, Integer> ordinalByPlayer = new HashMap<>();
+    private int[] counts = new int[0];
+    private int total;
+
+    // Re-buckets every tracked player; used after a reload changed the tier list.
+    synchronized void rebuild(int tierCount, Collection<UUID> extraPlayers, ToIntFunction<UUID> ordinalOf) {
+        Set<UUID> players = new HashSet<>(ordinalByPlayer.keySet());
+        players.addAll(extraPlayers);
+        ordinalByPlayer.clear();
+        counts = new int[Math.max(0, tierCount)];
+        total = 0;
+        for (UUID uuid : players) {
+            put(uuid, ordinalOf.applyAsInt(uuid));
+        }
+    }
+
+    // Returns true when the histogram changed.
+    synchronized boolean set(UUID uuid, int ordinal) {
+        Integer previous = ordinalByPlayer.get(uuid);
+        if (previous != null && previous == ordinal) {
+            return false;
+        }
+        removeCount(previous);
+        put(uuid, ordinal);
+        return true;
+    }
+
+    synchronized boolean setIfTracked(UUID uuid, int ordinal) {
+        if (!ordinalByPlayer.containsKey(uuid)) {
+            return false;
+        }
+        return set(uuid, ordinal);
+    }
+
+    synchronized boolean remove(UUID uuid) {
+        if (!ordinalByPlayer.containsKey(uuid)) {
+            return false;
+        }
+        removeCount(ordinalByPlayer.remove(uuid));
+        return true;
+    }
+
+    synchronized boolean contains(UUID uuid) {
+        return ordinalByPlayer.containsKey(uuid);
+    }
+
+    synchronized List<UUID> players() {
+        return new ArrayList<>(ordinalByPlayer.keySet());
+    }
+
+    synchronized int lowest() {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                return i;
+            }
+        }
+        return TierRegistry.UNKNOWN;
+    }
+
+    synchronized int highest() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return i;
+            }
+        }
+        return TierRegistry.UNKNOWN;
+    }
+
+    // Interpolates between min/max, or over all online players (percentile) when useAllOnlinePlayers is set.
+    synchronized int scaled(double factor, boolean useAllOnlinePlayers) {
+        if (total == 0) {
+            return TierRegistry.UNKNOWN;
+        }
+        int min = lowest();
+        int max = highest();
+        if (!useAllOnlinePlayers || total <= 1) {
+            double scaled = min + ((max - min) * factor);
+            return (int) Math.round(scaled);
+        }
+
+        double position = factor * (total - 1);
+        int lowerRank = (int) Math.floor(position);
+        int upperRank = (int) Math.ceil(position);
+        double lowerValue = ordinalAtRank(lowerRank);
+        double upperValue = ordinalAtRank(upperRank);
+        double localT = position - lowerRank;
+        double interpolated = lowerValue + ((upperValue - lowerValue) * localT);
+        return (int) Math.round(interpolated);
+    }
+
+    // Ordinal of the rank-th player when all online players are sorted by tier.
+    private int ordinalAtRank(int rank) {
+        int seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return i;
+            }
+        }
+        return counts.length - 1;
+    }
+
+    private void put(UUID uuid, int ordinal) {
+        ordinalByPlayer.put(uuid, ordinal);
+        if (ordinal >= 0 && ordinal < counts.length) {
+            counts[ordinal]++;
+            total++;
+        }
+    }
+
+    private void removeCount(Integer ordinal) {
+        if (ordinal != null && ordinal >= 0 && ordinal < counts.length) {
+            counts[ordinal]--;
+            total--;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package ascendant.core.config;
+
+import com.google.gson.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence for player settings. Mutations are queued and appended as JSON lines to
+ * a journal by a background thread; the journal is periodically folded into the affected
+ * {@link PlayerSettingsShards} buckets (temp file + atomic move) and truncated. Replaying the
+ * journal is idempotent, so a crash between the bucket writes and the truncate is harmless.
+ * This is the single-node PlayerSettingsStore.
+ */
+final class PlayerSettingsJournal implements PlayerSettingsStore {
+    private static final Gson LINE_GSON = new Gson();
+    private static final String KEY_UUID = "uuid";
+    private static final String KEY_SETTINGS = "settings";
+    // Never a valid journal line; tells the writer thread to finish.
+    private static final String STOP = "";
+    private static final int COMPACT_AFTER_ENTRIES = 1000;
+    private static final long COMPACT_INTERVAL_MS = 60_000L;
+    private static final long CLOSE_TIMEOUT_MS = 10_000L;
+
+    private final Path journalPath;
+    private final PlayerSettingsShards shards;
+    private final LinkedBlockingQueue<String> pending = new LinkedBlockingQueue<>();
+    // Latest value per player that is not in the shards yet (JsonNull = back to defaults).
+    private final ConcurrentHashMap<UUID, JsonElement> unflushed = new ConcurrentHashMap<>();
+    private Thread thread;
+    private BufferedWriter writer;
+    private int entriesSinceCompaction;
+
+    PlayerSettingsJournal(Path journalPath, PlayerSettingsShards shards) {
+        this.journalPath = journalPath;
+        this.shards = shards;
+    }
+
+    @Override
+    public void open() {
+        recover();
+        start();
+    }
+
+    @Override
+    public boolean exists() {
+        return shards.exists();
+    }
+
+    // Folds a journal left over from the last run into the shards.
+    private void recover() {
+        if (Files.notExists(journalPath)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                    UUID uuid = UUID.fromString(entry.get(KEY_UUID).getAsString());
+                    JsonElement settings = entry.get(KEY_SETTINGS);
+                    unflushed.put(uuid, settings != null ? settings : JsonNull.INSTANCE);
+                } catch (RuntimeException ignored) {
+                    // A torn last line after a crash; everything before it is still valid.
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to read " + journalPath + ": " + e.getMessage());
+            return;
+        }
+        flush();
+    }
+
+    private synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "ascendant-player-settings-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void save(UUID playerUuid, JsonObject settings) {
+        JsonElement value = settings != null ? settings : JsonNull.INSTANCE;
+        unflushed.put(playerUuid, value);
+        JsonObject entry = new JsonObject();
+        entry.addProperty(KEY_UUID, playerUuid.toString());
+        entry.add(KEY_SETTINGS, value);
+        pending.add(LINE_GSON.toJson(entry));
+    }
+
+    @Override
+    public JsonElement load(UUID playerUuid) {
+        JsonElement value = unflushed.get(playerUuid);
+        if (value != null) {
+            return value.isJsonNull() ? null : value;
+        }
+        return shards.load(playerUuid);
+    }
+
+    // Drains the queue, flushes everything into the shards and stops the writer thread.
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            current = thread;
+            thread = null;
+        }
+        if (current == null) {
+            flush();
+            return;
+        }
+        pending.add(STOP);
+        try {
+            current.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Folds all unflushed entries into the shards and truncates the journal; on failure they stay for the next try.
+    @Override
+    public synchronized boolean flush() {
+        if (unflushed.isEmpty()) {
+            return true;
+        }
+        // Every line already in the journal file is covered by this copy.
+        Map<UUID, JsonElement> flushing = new HashMap<>(unflushed);
+        try {
+            shards.write(flushing);
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to write player settings: " + e.getMessage());
+            return false;
+        }
+        for (Map.Entry<UUID, JsonElement> entry : flushing.entrySet()) {
+            unflushed.remove(entry.getKey(), entry.getValue());
+        }
+        try {
+            closeWriter();
+            Files.deleteIfExists(journalPath);
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to truncate " + journalPath + ": " + e.getMessage());
+        }
+        entriesSinceCompaction = 0;
+        return true;
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>();
+        long lastCompactionMs = System.currentTimeMillis();
+        boolean stop = false;
+        while (!stop) {
+            batch.clear();
+            try {
+                String first = pending.poll(COMPACT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    pending.drainTo(batch);
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+            stop = batch.remove(STOP);
+            write(batch);
+
+            long now = System.currentTimeMillis();
+            boolean due = now - lastCompactionMs >= COMPACT_INTERVAL_MS && entriesSinceCompaction > 0;
+            if (due || entriesSinceCompaction >= COMPACT_AFTER_ENTRIES) {
+                flush();
+                lastCompactionMs = now;
+            }
+        }
+        flush();
+    }
+
+    private synchronized void write(List<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                Files.createDirectories(journalPath.getParent());
+                writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.flush();
+            entriesSinceCompaction += lines.size();
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to append to " + journalPath + ": " + e.getMessage());
+            try {
+                closeWriter();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            BufferedWriter current = writer;
+            writer = null;
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package ascendant.core.config;
+
+import com.google.gson.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Player settings split into 256 bucket files by the first two hex digits of the UUID
+ * (config/ascendant/players/ab.json), so a single player can be read or written without touching
+ * everyone else. Each bucket uses the same object layout as the former players-settings.json.
+ */
+final class PlayerSettingsShards {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Path dir;
+
+    PlayerSettingsShards(Path dir) {
+        this.dir = dir;
+    }
+
+    boolean exists() {
+        return Files.isDirectory(dir);
+    }
+
+    // Stored node of one player, or null when the player has no stored settings.
+    JsonElement load(UUID playerUuid) {
+        Path file = bucketFile(playerUuid);
+        try {
+            JsonElement value = readBucket(file).get(playerUuid.toString());
+            return value == null || value.isJsonNull() ? null : value;
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to read " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Applies changes bucket by bucket; a JsonNull value removes the player.
+    void write(Map<UUID, JsonElement> changes) throws IOException {
+        Map<Path, Map<UUID, JsonElement>> byBucket = new HashMap<>();
+        for (Map.Entry<UUID, JsonElement> entry : changes.entrySet()) {
+            byBucket.computeIfAbsent(bucketFile(entry.getKey()), _p -> new HashMap<>()).put(entry.getKey(), entry.getValue());
+        }
+        Files.createDirectories(dir);
+        for (Map.Entry<Path, Map<UUID, JsonElement>> bucket : byBucket.entrySet()) {
+            Path file = bucket.getKey();
+            JsonObject root = readBucket(file);
+            for (Map.Entry<UUID, JsonElement> entry : bucket.getValue().entrySet()) {
+                JsonElement value = entry.getValue();
+                if (value == null || value.isJsonNull()) {
+                    root.remove(entry.getKey().toString());
+                } else {
+                    root.add(entry.getKey().toString(), value);
+                }
+            }
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(tmp, GSON.toJson(root), StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    // Throws instead of returning an empty bucket so a damaged file is never overwritten.
+    private JsonObject readBucket(Path file) throws IOException {
+        if (Files.notExists(file)) {
+            return new JsonObject();
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonElement parsed = JsonParser.parseReader(reader);
+            return parsed != null && parsed.isJsonObject() ? parsed.getAsJsonObject() : new JsonObject();
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed player settings bucket " + file, e);
+        }
+    }
+
+    private Path bucketFile(UUID playerUuid) {
+        return dir.resolve(playerUuid.toString().substring(0, 2) + ".json");
+    }
+}
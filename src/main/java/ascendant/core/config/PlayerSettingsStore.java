@@ -0,0 +1,44 @@
+package ascendant.core.config;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Backend behind DifficultyManager's player settings. Values are the per-player JSON nodes
+ * (difficulty, showBadge, showTierValuesAsPercent); null means the player is on defaults.
+ * Shared backends keep a version per record and report changes made by other nodes through
+ * the invalidation listener so the affected player is read again.
+ */
+public interface PlayerSettingsStore {
+    // Called once before the first load; recovers pending writes and starts background work.
+    void open();
+
+    // False until anything has been written; DifficultyManager then migrates the old single-file store.
+    boolean exists();
+
+    JsonElement load(UUID playerUuid);
+
+    // Must not block on I/O; settings == null puts the player back to defaults.
+    void save(UUID playerUuid, JsonObject settings);
+
+    // Writes everything pending; returns false when the backend could not be written.
+    boolean flush();
+
+    void close();
+
+    // False for stores that lose everything on restart; old single-file stores are never migrated into them.
+    default boolean isPersistent() {
+        return true;
+    }
+
+    // The player's settings left memory, so changes made elsewhere no longer need to be reported.
+    default void evict(UUID playerUuid) {
+    }
+
+    // Receives the player changed on another node, or null when everything has to be read again.
+    default void setInvalidationListener(Consumer<UUID> listener) {
+    }
+}
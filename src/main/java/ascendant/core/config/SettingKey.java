@@ -0,0 +1,78 @@
+package ascendant.core.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Numeric per-tier settings. The enum ordinal is the column index inside {@link TierRegistry}.
+ */
+public enum SettingKey {
+    BASE_DAMAGE_RANDOM_PERCENTAGE_MODIFIER(DifficultyIO.SETTING_BASE_DAMAGE_RANDOM_PERCENTAGE_MODIFIER),
+    HEALTH_MULTIPLIER(DifficultyIO.SETTING_HEALTH_MULTIPLIER),
+    MAX_SPEED(DifficultyIO.SETTING_MAX_SPEED),
+    WANDER_RADIUS(DifficultyIO.SETTING_WANDER_RADIUS),
+    VIEW_RANGE(DifficultyIO.SETTING_VIEW_RANGE),
+    HEARING_RANGE(DifficultyIO.SETTING_HEARING_RANGE),
+    COMBAT_RELATIVE_TURN_SPEED(DifficultyIO.SETTING_COMBAT_RELATIVE_TURN_SPEED),
+    ARMOR_MULTIPLIER(DifficultyIO.SETTING_ARMOR_MULTIPLIER),
+    DAMAGE_MULTIPLIER(DifficultyIO.SETTING_DAMAGE_MULTIPLIER),
+    DAMAGE_MULTIPLIER_PHYSICAL(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_PHYSICAL),
+    DAMAGE_MULTIPLIER_PROJECTILE(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_PROJECTILE),
+    DAMAGE_MULTIPLIER_COMMAND(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_COMMAND),
+    DAMAGE_MULTIPLIER_DROWNING(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_DROWNING),
+    DAMAGE_MULTIPLIER_ENVIRONMENT(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_ENVIRONMENT),
+    DAMAGE_MULTIPLIER_FALL(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_FALL),
+    DAMAGE_MULTIPLIER_OUT_OF_WORLD(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_OUT_OF_WORLD),
+    DAMAGE_MULTIPLIER_SUFFOCATION(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_SUFFOCATION),
+    KNOCKBACK_RESISTANCE(DifficultyIO.SETTING_KNOCKBACK_RESISTANCE),
+    REGENERATION(DifficultyIO.SETTING_REGENERATION),
+    DROP_RATE_MULTIPLIER(DifficultyIO.SETTING_DROP_RATE_MULTIPLIER),
+    DROP_QUANTITY_MULTIPLIER(DifficultyIO.SETTING_DROP_QUANTITY_MULTIPLIER),
+    SPAWN_COUNT_MULTIPLIER(DifficultyIO.SETTING_SPAWN_COUNT_MULTIPLIER),
+    DROP_QUALITY_MULTIPLIER(DifficultyIO.SETTING_DROP_QUALITY_MULTIPLIER),
+    XP_MULTIPLIER(DifficultyIO.SETTING_XP_MULTIPLIER),
+    CASH_MULTIPLIER(DifficultyIO.SETTING_CASH_MULTIPLIER),
+    ELITE_MOBS_CHANCE_MULTIPLIER(DifficultyIO.SETTING_ELITE_MOBS_CHANCE_MULTIPLIER),
+    ELITE_MOBS_CHANCE_UNCOMMON(DifficultyIO.SETTING_ELITE_MOBS_CHANCE_UNCOMMON),
+    ELITE_MOBS_CHANCE_RARE(DifficultyIO.SETTING_ELITE_MOBS_CHANCE_RARE),
+    ELITE_MOBS_CHANCE_LEGENDARY(DifficultyIO.SETTING_ELITE_MOBS_CHANCE_LEGENDARY);
+
+    private static final SettingKey[] VALUES = values();
+    private static final Map<String, SettingKey> BY_KEY = new HashMap<>();
+
+    static {
+        for (SettingKey settingKey : VALUES) {
+            BY_KEY.put(settingKey.key, settingKey);
+        }
+    }
+
+    private final String key;
+
+    SettingKey(String key) {
+        this.key = key;
+    }
+
+    public static SettingKey fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key);
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+
+    // Config keys of all settings, in declaration order.
+    static Set<String> keys() {
+        Set<String> keys = new LinkedHashSet<>(VALUES.length * 2);
+        for (SettingKey settingKey : VALUES) {
+            keys.add(settingKey.key);
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    public String key() {
+        return key;
+    }
+}
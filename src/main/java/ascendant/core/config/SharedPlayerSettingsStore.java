@@ -0,0 +1,364 @@
+package ascendant.core.config;
+
+import com.google.gson.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * PlayerSettingsStore on a directory shared by several server nodes. Records are kept in 256
+ * bucket files ({ "uuid": { "version": n, "settings": {...} } }) and every write bumps the
+ * record version under an exclusive lock on .lock. Writers also append "uuid version node" to
+ * changes.log; each node tails that log and invalidates players it has read at an older version,
+ * so nothing has to re-read whole buckets to notice a change. A write based on an older version
+ * than the one on disk is rejected and the player is read again, so nodes never overwrite each other.
+ */
+final class SharedPlayerSettingsStore implements PlayerSettingsStore {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson LINE_GSON = new Gson();
+    private static final String LOCK_FILE = ".lock";
+    private static final String CHANGES_FILE = "changes.log";
+    private static final String KEY_VERSION = "version";
+    private static final String KEY_SETTINGS = "settings";
+    private static final String KEY_UUID = "uuid";
+    private static final String KEY_NODE = "node";
+    // The log is restarted with a new generation header once it grows past this.
+    private static final long MAX_CHANGES_BYTES = 1L << 20;
+    private static final long CLOSE_TIMEOUT_MS = 10_000L;
+    // Never a real player; tells the worker thread to finish.
+    private static final UUID STOP = new UUID(0L, 0L);
+    // File locks are held per JVM, so stores in the same process also serialize here.
+    private static final Object PROCESS_LOCK = new Object();
+
+    private final Path dir;
+    private final long pollMs;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LinkedBlockingQueue<UUID> pending = new LinkedBlockingQueue<>();
+    // Saved on this node but not written yet (JsonNull = back to defaults).
+    private final ConcurrentHashMap<UUID, JsonElement> unwritten = new ConcurrentHashMap<>();
+    // Record version this node last read or wrote, for players it still holds in memory.
+    private final ConcurrentHashMap<UUID, Long> knownVersions = new ConcurrentHashMap<>();
+    private volatile Consumer<UUID> invalidationListener = _uuid -> {
+    };
+    private Thread thread;
+    // Tail position in changes.log; only touched by the worker thread (or open() before it starts).
+    private String changesGeneration;
+    private long changesOffset;
+
+    SharedPlayerSettingsStore(Path dir, long pollMs) {
+        this.dir = dir;
+        this.pollMs = Math.max(100L, pollMs);
+    }
+
+    @Override
+    public synchronized void open() {
+        if (thread != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(dir);
+            // Start tailing at the current end; older changes are already in the buckets.
+            Path log = dir.resolve(CHANGES_FILE);
+            if (Files.exists(log)) {
+                try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+                    changesGeneration = readGeneration(channel);
+                    changesOffset = channel.size();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to open shared player settings in " + dir + ": " + e.getMessage());
+        }
+        thread = new Thread(this::run, "ascendant-shared-player-settings");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.exists(dir.resolve(CHANGES_FILE));
+    }
+
+    @Override
+    public JsonElement load(UUID playerUuid) {
+        JsonElement value = unwritten.get(playerUuid);
+        if (value != null) {
+            return value.isJsonNull() ? null : value;
+        }
+        Path file = bucketFile(playerUuid);
+        try {
+            JsonElement record = readBucket(file).get(playerUuid.toString());
+            if (record == null || !record.isJsonObject()) {
+                knownVersions.put(playerUuid, 0L);
+                return null;
+            }
+            JsonObject obj = record.getAsJsonObject();
+            knownVersions.put(playerUuid, version(obj));
+            JsonElement settings = obj.get(KEY_SETTINGS);
+            return settings == null || settings.isJsonNull() ? null : settings;
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to read " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void save(UUID playerUuid, JsonObject settings) {
+        unwritten.put(playerUuid, settings != null ? settings : JsonNull.INSTANCE);
+        pending.add(playerUuid);
+    }
+
+    @Override
+    public synchronized boolean flush() {
+        if (unwritten.isEmpty()) {
+            return true;
+        }
+        Map<UUID, JsonElement> writing = new HashMap<>(unwritten);
+        List<UUID> rejected;
+        try {
+            rejected = write(writing);
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to write shared player settings: " + e.getMessage());
+            return false;
+        }
+        for (Map.Entry<UUID, JsonElement> entry : writing.entrySet()) {
+            unwritten.remove(entry.getKey(), entry.getValue());
+        }
+        for (UUID playerUuid : rejected) {
+            System.err.println("[ascendant] Dropped stale player settings write for " + playerUuid + "; another node changed it first.");
+            invalidationListener.accept(playerUuid);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            current = thread;
+            thread = null;
+        }
+        if (current == null) {
+            flush();
+            return;
+        }
+        pending.add(STOP);
+        try {
+            current.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void evict(UUID playerUuid) {
+        knownVersions.remove(playerUuid);
+    }
+
+    @Override
+    public void setInvalidationListener(Consumer<UUID> listener) {
+        this.invalidationListener = listener;
+    }
+
+    private void run() {
+        List<UUID> batch = new ArrayList<>();
+        boolean stop = false;
+        while (!stop) {
+            batch.clear();
+            try {
+                UUID first = pending.poll(pollMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    pending.drainTo(batch);
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+            stop = batch.remove(STOP);
+            // Also retries writes that failed on an earlier pass.
+            flush();
+            if (!stop) {
+                pollChanges();
+            }
+        }
+    }
+
+    // Caller holds this store's monitor; the file lock keeps other nodes out. Returns the stale writes it rejected.
+    private List<UUID> write(Map<UUID, JsonElement> changes) throws IOException {
+        Map<Path, Map<UUID, JsonElement>> byBucket = new HashMap<>();
+        for (Map.Entry<UUID, JsonElement> entry : changes.entrySet()) {
+            byBucket.computeIfAbsent(bucketFile(entry.getKey()), _p -> new HashMap<>()).put(entry.getKey(), entry.getValue());
+        }
+        Files.createDirectories(dir);
+        synchronized (PROCESS_LOCK) {
+            return writeLocked(byBucket);
+        }
+    }
+
+    private List<UUID> writeLocked(Map<Path, Map<UUID, JsonElement>> byBucket) throws IOException {
+        List<UUID> rejected = new ArrayList<>();
+        try (FileChannel lockChannel = FileChannel.open(dir.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lockChannel.lock()) {
+            StringBuilder lines = new StringBuilder();
+            for (Map.Entry<Path, Map<UUID, JsonElement>> bucket : byBucket.entrySet()) {
+                Path file = bucket.getKey();
+                JsonObject root = readBucket(file);
+                boolean changed = false;
+                for (Map.Entry<UUID, JsonElement> entry : bucket.getValue().entrySet()) {
+                    String key = entry.getKey().toString();
+                    JsonElement previous = root.get(key);
+                    long current = previous != null && previous.isJsonObject() ? version(previous.getAsJsonObject()) : 0L;
+                    // the settings were edited from an older record; writing them would undo the other node's change
+                    Long known = knownVersions.get(entry.getKey());
+                    if (known != null && known < current) {
+                        knownVersions.remove(entry.getKey());
+                        rejected.add(entry.getKey());
+                        continue;
+                    }
+                    long version = current + 1L;
+                    changed = true;
+                    JsonObject record = new JsonObject();
+                    record.addProperty(KEY_VERSION, version);
+                    // Removed players keep a tombstone so versions never go backwards.
+                    if (!entry.getValue().isJsonNull()) {
+                        record.add(KEY_SETTINGS, entry.getValue());
+                    }
+                    root.add(key, record);
+                    knownVersions.put(entry.getKey(), version);
+
+                    JsonObject line = new JsonObject();
+                    line.addProperty(KEY_UUID, key);
+                    line.addProperty(KEY_VERSION, version);
+                    line.addProperty(KEY_NODE, nodeId);
+                    lines.append(LINE_GSON.toJson(line)).append('\n');
+                }
+                if (!changed) {
+                    continue;
+                }
+                Path tmp = file.resolveSibling(file.getFileName() + "." + nodeId + ".tmp");
+                Files.writeString(tmp, GSON.toJson(root), StandardCharsets.UTF_8);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            if (!lines.isEmpty()) {
+                appendChanges(lines.toString());
+            }
+        }
+        return rejected;
+    }
+
+    // Caller holds the file lock.
+    private void appendChanges(String lines) throws IOException {
+        Path log = dir.resolve(CHANGES_FILE);
+        if (Files.notExists(log) || Files.size(log) > MAX_CHANGES_BYTES) {
+            Path tmp = log.resolveSibling(CHANGES_FILE + "." + nodeId + ".tmp");
+            Files.writeString(tmp, UUID.randomUUID() + "\n", StandardCharsets.UTF_8);
+            Files.move(tmp, log, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.writeString(log, lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private void pollChanges() {
+        Path log = dir.resolve(CHANGES_FILE);
+        if (Files.notExists(log)) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+            String generation = readGeneration(channel);
+            if (generation == null) {
+                return;
+            }
+            if (!generation.equals(changesGeneration)) {
+                // The log was restarted; changes since our last read may be gone.
+                boolean missed = changesGeneration != null;
+                changesGeneration = generation;
+                changesOffset = generation.length() + 1L;
+                if (missed) {
+                    invalidationListener.accept(null);
+                }
+            }
+            long size = channel.size();
+            if (size <= changesOffset) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size - changesOffset, MAX_CHANGES_BYTES * 2));
+            channel.read(buffer, changesOffset);
+            String chunk = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+            // Only consume complete lines; a writer may still be appending the last one.
+            int end = chunk.lastIndexOf('\n');
+            if (end < 0) {
+                return;
+            }
+            String complete = chunk.substring(0, end + 1);
+            changesOffset += complete.getBytes(StandardCharsets.UTF_8).length;
+            lines.addAll(complete.lines().toList());
+        } catch (IOException e) {
+            System.err.println("[ascendant] Failed to read " + log + ": " + e.getMessage());
+            return;
+        }
+
+        for (String line : lines) {
+            try {
+                JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                if (nodeId.equals(entry.get(KEY_NODE).getAsString())) {
+                    continue;
+                }
+                UUID playerUuid = UUID.fromString(entry.get(KEY_UUID).getAsString());
+                long version = entry.get(KEY_VERSION).getAsLong();
+                Long known = knownVersions.get(playerUuid);
+                if (known != null && known < version) {
+                    knownVersions.remove(playerUuid);
+                    invalidationListener.accept(playerUuid);
+                }
+            } catch (RuntimeException ignored) {
+                // Not a change line.
+            }
+        }
+    }
+
+    private static String readGeneration(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        channel.read(buffer, 0L);
+        String head = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        int end = head.indexOf('\n');
+        return end > 0 ? head.substring(0, end) : null;
+    }
+
+    private static long version(JsonObject record) {
+        JsonElement version = record.get(KEY_VERSION);
+        try {
+            return version != null && version.isJsonPrimitive() ? version.getAsLong() : 0L;
+        } catch (NumberFormatException ignored) {
+            return 0L;
+        }
+    }
+
+    // Throws instead of returning an empty bucket so a damaged file is never overwritten.
+    private JsonObject readBucket(Path file) throws IOException {
+        if (Files.notExists(file)) {
+            return new JsonObject();
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonElement parsed = JsonParser.parseReader(reader);
+            return parsed != null && parsed.isJsonObject() ? parsed.getAsJsonObject() : new JsonObject();
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed player settings bucket " + file, e);
+        }
+    }
+
+    private Path bucketFile(UUID playerUuid) {
+        return dir.resolve(playerUuid.toString().substring(0, 2) + ".json");
+    }
+}
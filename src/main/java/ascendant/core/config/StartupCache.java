@@ -0,0 +1,281 @@
+package ascendant.core.config;
+
+import com.google.gson.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshots of the merged config tree and the npc role table under config/ascendant/.cache.
+ * Each snapshot records size, mtime and CRC32C of its source files; when none of them changed the
+ * snapshot is decoded straight from one buffer instead of parsing every JSON file again. Snapshots are
+ * also keyed on the plugin manifest and the bundled defaults, so a new plugin jar never reuses them.
+ */
+public final class StartupCache {
+    private static final int MAGIC = 0x41534343; // "ASCC"
+    private static final int FORMAT_VERSION = 2;
+    private static final String CONFIG_CACHE_FILE = "config.bin";
+    private static final String NPC_ROLES_CACHE_FILE = "npc_roles.bin";
+    // manifest.json carries the plugin version
+    private static final List<String> BUNDLED_RESOURCES =
+            List.of("manifest.json", DifficultyIO.RESOURCE_DEFAULT_PATH, "npc_roles.json");
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_OBJECT = 1;
+    private static final byte TAG_ARRAY = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_NUMBER = 4;
+    private static final byte TAG_BOOLEAN = 5;
+
+    private StartupCache() {
+    }
+
+    static JsonObject loadConfig(Path baseFile, Path dropInsDir) {
+        ByteBuffer buffer = openValid(CONFIG_CACHE_FILE, configSources(baseFile, dropInsDir));
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            JsonElement root = readElement(buffer);
+            return root.isJsonObject() ? root.getAsJsonObject() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    static void storeConfig(Path baseFile, Path dropInsDir, JsonObject root) {
+        write(CONFIG_CACHE_FILE, configSources(baseFile, dropInsDir), out -> writeElement(out, root));
+    }
+
+    public static Map<String, Float> loadRoleTable(Path source) {
+        ByteBuffer buffer = openValid(NPC_ROLES_CACHE_FILE, List.of(source));
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            int count = buffer.getInt();
+            HashMap<String, Float> out = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                String role = readString(buffer);
+                out.put(role, buffer.getFloat());
+            }
+            return out.isEmpty() ? Map.of() : Map.copyOf(out);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public static void storeRoleTable(Path source, Map<String, Float> table) {
+        write(NPC_ROLES_CACHE_FILE, List.of(source), out -> {
+            out.writeInt(table.size());
+            for (Map.Entry<String, Float> entry : table.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeFloat(entry.getValue());
+            }
+        });
+    }
+
+    private static List<Path> configSources(Path baseFile, Path dropInsDir) {
+        List<Path> sources = new ArrayList<>();
+        sources.add(baseFile);
+        List<Path> dropIns = new ArrayList<>(DifficultyDropIns.listDropInFiles(dropInsDir));
+        dropIns.sort(Comparator.comparing(Path::toString));
+        sources.addAll(dropIns);
+        return sources;
+    }
+
+    // Returns a buffer positioned at the payload, or null when the snapshot is missing or stale.
+    private static ByteBuffer openValid(String cacheFile, List<Path> sources) {
+        Path path = DifficultyIO.STARTUP_CACHE_PATH.resolve(cacheFile);
+        if (Files.notExists(path)) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != BuildKey.VALUE) {
+                return null;
+            }
+            int count = buffer.getInt();
+            if (count != sources.size()) {
+                return null;
+            }
+            for (Path source : sources) {
+                String recordedPath = readString(buffer);
+                long size = buffer.getLong();
+                long modifiedMs = buffer.getLong();
+                long checksum = buffer.getLong();
+                if (!recordedPath.equals(source.toString()) || !matches(source, size, modifiedMs, checksum)) {
+                    return null;
+                }
+            }
+            return buffer;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Size and mtime are checked first; the checksum is only computed when the file was touched.
+    private static boolean matches(Path source, long size, long modifiedMs, long checksum) throws IOException {
+        if (Files.notExists(source) || Files.size(source) != size) {
+            return false;
+        }
+        if (Files.getLastModifiedTime(source).toMillis() == modifiedMs) {
+            return true;
+        }
+        return checksum(source) == checksum;
+    }
+
+    private static void write(String cacheFile, List<Path> sources, PayloadWriter payload) {
+        Path path = DifficultyIO.STARTUP_CACHE_PATH.resolve(cacheFile);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(BuildKey.VALUE);
+            out.writeInt(sources.size());
+            for (Path source : sources) {
+                writeString(out, source.toString());
+                out.writeLong(Files.size(source));
+                out.writeLong(Files.getLastModifiedTime(source).toMillis());
+                out.writeLong(checksum(source));
+            }
+            payload.write(out);
+            out.flush();
+
+            Files.createDirectories(path.getParent());
+            Path tmp = path.resolveSibling(cacheFile + ".tmp");
+            Files.write(tmp, bytes.toByteArray());
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[ascendant] Failed to write startup cache " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static long checksum(Path source) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] chunk = new byte[8192];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                crc.update(chunk, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static long bundledChecksum() {
+        CRC32C crc = new CRC32C();
+        ClassLoader loader = StartupCache.class.getClassLoader();
+        for (String resource : BUNDLED_RESOURCES) {
+            crc.update(resource.getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = loader.getResourceAsStream(resource)) {
+                if (in != null) {
+                    crc.update(in.readAllBytes());
+                }
+            } catch (IOException ignored) {
+                // a missing resource simply does not contribute
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void writeElement(DataOutputStream out, JsonElement element) throws IOException {
+        if (element == null || element.isJsonNull()) {
+            out.writeByte(TAG_NULL);
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            out.writeByte(TAG_OBJECT);
+            out.writeInt(object.size());
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                writeString(out, entry.getKey());
+                writeElement(out, entry.getValue());
+            }
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            out.writeByte(TAG_ARRAY);
+            out.writeInt(array.size());
+            for (JsonElement item : array) {
+                writeElement(out, item);
+            }
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                out.writeByte(TAG_BOOLEAN);
+                out.writeBoolean(primitive.getAsBoolean());
+            } else if (primitive.isNumber()) {
+                out.writeByte(TAG_NUMBER);
+                writeString(out, primitive.getAsString());
+            } else {
+                out.writeByte(TAG_STRING);
+                writeString(out, primitive.getAsString());
+            }
+        }
+    }
+
+    private static JsonElement readElement(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case TAG_NULL:
+                return JsonNull.INSTANCE;
+            case TAG_OBJECT: {
+                int size = buffer.getInt();
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(buffer);
+                    object.add(key, readElement(buffer));
+                }
+                return object;
+            }
+            case TAG_ARRAY: {
+                int size = buffer.getInt();
+                JsonArray array = new JsonArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(readElement(buffer));
+                }
+                return array;
+            }
+            case TAG_STRING:
+                return new JsonPrimitive(readString(buffer));
+            case TAG_NUMBER:
+                return new JsonPrimitive(new BigDecimal(readString(buffer)));
+            case TAG_BOOLEAN:
+                return new JsonPrimitive(buffer.get() != 0);
+            default:
+                throw new IllegalStateException("Unknown startup cache tag " + tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    // Computed on first use, once per plugin load.
+    private static final class BuildKey {
+        private static final long VALUE = bundledChecksum();
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,43 @@
+package ascendant.core.config;
+
+/**
+ * Everything a tier shows to players, resolved from its {@code meta.<tier>} block once per config load.
+ * Prefix templates are already formatted, so tags, nameplates and cards are plain field reads.
+ */
+public record TierPresentation(
+        String tierId,
+        String displayName,
+        String description,
+        String imagePath,
+        String iconPath,
+        String chatPrefix,
+        String killFeedPrefix,
+        String listPrefix,
+        String nameplateLabel
+) {
+    static TierPresentation of(DifficultyMeta.TierMeta meta) {
+        String tierId = meta.tierId();
+        String displayName = meta.displayName();
+        String tierName = (displayName == null || displayName.isBlank()) ? tierId : displayName;
+        String chatPrefix = DifficultyMeta.formatTierPrefix(meta.chatPrefix(), tierName, tierId);
+        String killFeedPrefix = DifficultyMeta.formatTierPrefix(meta.killFeedPrefix(), tierName, tierId);
+        String nameplateLabel = tierName.equalsIgnoreCase(tierId) ? tierName : tierName + " (" + tierId + ")";
+        // the player list uses the chat prefix template
+        return new TierPresentation(
+                tierId,
+                displayName,
+                meta.description(),
+                meta.imagePath(),
+                meta.iconPath(),
+                chatPrefix,
+                killFeedPrefix,
+                chatPrefix,
+                nameplateLabel
+        );
+    }
+
+    // Display name with the tier id as fallback, as used in prefixes and nameplates.
+    public String tierName() {
+        return (displayName == null || displayName.isBlank()) ? tierId : displayName;
+    }
+}
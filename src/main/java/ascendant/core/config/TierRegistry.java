@@ -0,0 +1,161 @@
+package ascendant.core.config;
+
+import java.util.*;
+
+/**
+ * Immutable tier table built once per config load.
+ * Tiers are interned to dense ordinals (config order) and every numeric setting is pre-rounded into
+ * a flat {@code double[tierCount * keyCount]}, so hot paths read a multiplier with a single array index.
+ */
+public final class TierRegistry {
+    public static final int UNKNOWN = -1;
+
+    private static final int KEY_COUNT = SettingKey.count();
+
+    private final String[] tierIds;
+    private final Map<String, Integer> ordinalById;
+    private final Map<String, Integer> ordinalByLowerId;
+    private final double[] values;
+    private final double[] baseValues;
+    private final boolean[] allowed;
+    private final boolean[] hidden;
+    private final boolean baseAllowed;
+    private final boolean baseHidden;
+
+    private TierRegistry(
+            String[] tierIds,
+            Map<String, Integer> ordinalById,
+            Map<String, Integer> ordinalByLowerId,
+            double[] values,
+            double[] baseValues,
+            boolean[] allowed,
+            boolean[] hidden,
+            boolean baseAllowed,
+            boolean baseHidden
+    ) {
+        this.tierIds = tierIds;
+        this.ordinalById = ordinalById;
+        this.ordinalByLowerId = ordinalByLowerId;
+        this.values = values;
+        this.baseValues = baseValues;
+        this.allowed = allowed;
+        this.hidden = hidden;
+        this.baseAllowed = baseAllowed;
+        this.baseHidden = baseHidden;
+    }
+
+    static TierRegistry build(
+            Map<String, Double> base,
+            Map<String, Map<String, Double>> tiers,
+            boolean baseAllowed,
+            boolean baseHidden,
+            Map<String, Boolean> tiersIsAllowed,
+            Map<String, Boolean> tiersIsHidden,
+            int roundingDigits
+    ) {
+        int tierCount = tiers.size();
+        String[] tierIds = new String[tierCount];
+        Map<String, Integer> ordinalById = new HashMap<>(tierCount * 2);
+        Map<String, Integer> ordinalByLowerId = new HashMap<>(tierCount * 2);
+        double[] values = new double[tierCount * KEY_COUNT];
+        double[] baseValues = new double[KEY_COUNT];
+        boolean[] allowed = new boolean[tierCount];
+        boolean[] hidden = new boolean[tierCount];
+
+        for (SettingKey key : SettingKey.values()) {
+            baseValues[key.ordinal()] = round(base.getOrDefault(key.key(), 1.0), roundingDigits);
+        }
+
+        int ordinal = 0;
+        for (Map.Entry<String, Map<String, Double>> entry : tiers.entrySet()) {
+            String tierId = entry.getKey();
+            Map<String, Double> tierValues = entry.getValue();
+            tierIds[ordinal] = tierId;
+            ordinalById.put(tierId, ordinal);
+            ordinalByLowerId.putIfAbsent(tierId.toLowerCase(Locale.ROOT), ordinal);
+            int row = ordinal * KEY_COUNT;
+            for (SettingKey key : SettingKey.values()) {
+                Double value = tierValues.get(key.key());
+                values[row + key.ordinal()] = value != null ? round(value, roundingDigits) : baseValues[key.ordinal()];
+            }
+            allowed[ordinal] = tiersIsAllowed.getOrDefault(tierId, baseAllowed);
+            hidden[ordinal] = tiersIsHidden.getOrDefault(tierId, baseHidden);
+            ordinal++;
+        }
+
+        return new TierRegistry(
+                tierIds,
+                Collections.unmodifiableMap(ordinalById),
+                Collections.unmodifiableMap(ordinalByLowerId),
+                values,
+                baseValues,
+                allowed,
+                hidden,
+                baseAllowed,
+                baseHidden
+        );
+    }
+
+    private static double round(double value, int digits) {
+        double factor = Math.pow(10, Math.max(0, digits));
+        return Math.round(value * factor) / factor;
+    }
+
+    public int tierCount() {
+        return tierIds.length;
+    }
+
+    // Exact lookup; returns UNKNOWN for ids that are not configured.
+    public int ordinal(String tierId) {
+        if (tierId == null) {
+            return UNKNOWN;
+        }
+        Integer ordinal = ordinalById.get(tierId);
+        return ordinal != null ? ordinal : UNKNOWN;
+    }
+
+    // Exact lookup first, then case-insensitive (first configured tier wins).
+    public int resolveOrdinal(String tierId) {
+        if (tierId == null || tierId.isBlank()) {
+            return UNKNOWN;
+        }
+        Integer ordinal = ordinalById.get(tierId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        ordinal = ordinalByLowerId.get(tierId.toLowerCase(Locale.ROOT));
+        return ordinal != null ? ordinal : UNKNOWN;
+    }
+
+    public String tierId(int ordinal) {
+        return isValid(ordinal) ? tierIds[ordinal] : null;
+    }
+
+    public boolean isValid(int ordinal) {
+        return ordinal >= 0 && ordinal < tierIds.length;
+    }
+
+    public List<String> tierIds() {
+        return List.of(tierIds);
+    }
+
+    // Unknown ordinals fall back to the base value, matching DifficultySettings.get(...).
+    public double get(int ordinal, SettingKey key) {
+        if (!isValid(ordinal)) {
+            return baseValues[key.ordinal()];
+        }
+        return values[ordinal * KEY_COUNT + key.ordinal()];
+    }
+
+    public double base(SettingKey key) {
+        return baseValues[key.ordinal()];
+    }
+
+    public boolean isAllowed(int ordinal) {
+        return isValid(ordinal) ? allowed[ordinal] : baseAllowed;
+    }
+
+    public boolean isHidden(int ordinal) {
+        return isValid(ordinal) ? hidden[ordinal] : baseHidden;
+    }
+}
@@ -0,0 +1,91 @@
+package ascendant.core.events;
+
+import ascendant.core.config.ConfigSnapshot;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Small typed event bus for tier and config changes. Listener lists are copy-on-write arrays, so
+ * publishing never locks; listeners run synchronously on the publishing thread.
+ */
+public final class DifficultyEventBus {
+    private static final ConcurrentHashMap<Class<?>, Channel<?>> CHANNELS = new ConcurrentHashMap<>();
+
+    private DifficultyEventBus() {
+    }
+
+    public static <E> void subscribe(Class<E> type, Consumer<? super E> listener) {
+        Objects.requireNonNull(listener, "listener");
+        channel(type).add(listener);
+    }
+
+    public static <E> void unsubscribe(Class<E> type, Consumer<? super E> listener) {
+        channel(type).remove(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> void publish(E event) {
+        Objects.requireNonNull(event, "event");
+        Channel<E> channel = (Channel<E>) CHANNELS.get(event.getClass());
+        if (channel != null) {
+            channel.publish(event);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Channel<E> channel(Class<E> type) {
+        Objects.requireNonNull(type, "type");
+        return (Channel<E>) CHANNELS.computeIfAbsent(type, _t -> new Channel<E>());
+    }
+
+    // Effective player tier changed (override set or cleared).
+    public record PlayerTierChanged(UUID playerUuid, String previousTierId, String tierId) {
+    }
+
+    // Resolved world tier changed; tier ids are null while world tier is disabled.
+    public record WorldTierChanged(String previousTierId, String tierId) {
+    }
+
+    public record ConfigReloaded(ConfigSnapshot snapshot) {
+    }
+
+    private static final class Channel<E> {
+        private static final Consumer<?>[] EMPTY = new Consumer<?>[0];
+        private volatile Consumer<?>[] listeners = EMPTY;
+
+        private synchronized void add(Consumer<? super E> listener) {
+            Consumer<?>[] current = listeners;
+            Consumer<?>[] next = new Consumer<?>[current.length + 1];
+            System.arraycopy(current, 0, next, 0, current.length);
+            next[current.length] = listener;
+            listeners = next;
+        }
+
+        private synchronized void remove(Consumer<? super E> listener) {
+            Consumer<?>[] current = listeners;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == listener) {
+                    Consumer<?>[] next = new Consumer<?>[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    listeners = next;
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void publish(E event) {
+            for (Consumer<?> listener : listeners) {
+                try {
+                    ((Consumer<? super E>) listener).accept(event);
+                } catch (RuntimeException e) {
+                    System.err.println("[ascendant] " + event.getClass().getSimpleName() + " listener failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -210,7 +210,9 @@ public class OnDeath extends DeathSystems.OnDeathSystem {
 
             float factor = (float) RuntimeSettings.customLevelingScaledDamageFactor();
             baseFactor += scaledDamage * factor;
-            Logging.debug("[ONDEATH] Entity " + entity.getRoleName() + " baseDamage is " + baseDamage + " scaledDamage" + scaledDamage);
+            if (Logging.isDebugEnabled(Logging.Category.DEATH)) {
+                Logging.debug(Logging.Category.DEATH, "[ONDEATH] Entity %s baseDamage is %s scaledDamage%s", entity.getRoleName(), baseDamage, scaledDamage);
+            }
         }
 
         PlayerRef attackerPlayerRef = attacker.getPlayerRef();
@@ -267,7 +269,9 @@ public class OnDeath extends DeathSystems.OnDeathSystem {
         if (xpToReward <= 0L) {
             return;
         }
-        Logging.debug("[ONDEATH] xpToReward=" + xpToReward + " finalFactor=" + finalFactor);
+        if (Logging.isDebugEnabled(Logging.Category.XP)) {
+            Logging.debug(Logging.Category.XP, "[ONDEATH] xpToReward=%s finalFactor=%s", xpToReward, finalFactor);
+        }
 
         levelService.addXp(uuidToReward, xpToReward);
         XPBarHud.updateHud(playerRefToReward);
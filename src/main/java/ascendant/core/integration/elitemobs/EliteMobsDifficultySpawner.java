@@ -9,6 +9,8 @@ import com.hypixel.hytale.server.npc.entities.NPCEntity;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -20,10 +22,15 @@ public final class EliteMobsDifficultySpawner {
     private static final ClassLoader CLASS_LOADER = EliteMobsDifficultySpawner.class.getClassLoader();
     private static final Map<Object, Object> SPAWN_SYSTEM_CACHE =
             Collections.synchronizedMap(new WeakHashMap<>());
-    private static volatile Field _fieldConfig;
-    private static volatile Field _fieldSpawning;
-    private static volatile Method _methodConfigGet;
-    private static volatile Method _methodTryRollElite;
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType TRY_ROLL_ELITE = MethodType.methodType(
+            void.class, Object.class, Ref.class, NPCEntity.class, Store.class, CommandBuffer.class);
+    // Handles are bound to the first EliteMobs classes seen; they are resolved once, not per roll.
+    private static volatile MethodHandle _getConfig;
+    private static volatile MethodHandle _getSpawning;
+    private static volatile MethodHandle _configGet;
+    private static volatile MethodHandle _tryRollElite;
+    private static volatile SpawnChanceFields _spawnChanceFields;
 
     private EliteMobsDifficultySpawner() {
     }
@@ -71,14 +78,14 @@ public final class EliteMobsDifficultySpawner {
             _applySpawnChances(spawning, useUncommon, useRare, useLegendary);
         }
 
-        Method tryRoll = _tryRollElite(spawnSystem.getClass());
+        MethodHandle tryRoll = _tryRollElite(spawnSystem.getClass());
         if (tryRoll == null) {
             _restoreSpawnChances(spawning, prev);
             return false;
         }
 
         try {
-            tryRoll.invoke(spawnSystem, ref, npc, store, commandBuffer);
+            tryRoll.invokeExact(spawnSystem, ref, npc, store, commandBuffer);
             return true;
         } catch (Throwable ignored) {
             return false;
@@ -174,12 +181,12 @@ public final class EliteMobsDifficultySpawner {
     }
 
     @Nullable
-    private static Method _tryRollElite(Class<?> spawnSystemClass) {
-        Method m = _methodTryRollElite;
-        if (m != null) {
-            return m;
+    private static MethodHandle _tryRollElite(Class<?> spawnSystemClass) {
+        MethodHandle h = _tryRollElite;
+        if (h != null) {
+            return h;
         }
-        m = ReflectionHelper.getAnyMethod(
+        Method m = ReflectionHelper.getAnyMethod(
                 spawnSystemClass,
                 "tryRollElite",
                 Ref.class,
@@ -187,29 +194,29 @@ public final class EliteMobsDifficultySpawner {
                 Store.class,
                 CommandBuffer.class
         );
-        _methodTryRollElite = m;
-        return m;
+        h = ReflectionHelper.unreflect(m, TRY_ROLL_ELITE);
+        _tryRollElite = h;
+        return h;
     }
 
     @Nullable
     private static Object _getMainConfig(Object spawnSystem) {
-        Field f = _fieldConfig;
-        if (f == null) {
-            f = ReflectionHelper.getDeclaredField(spawnSystem.getClass(), "config");
-            _fieldConfig = f;
+        MethodHandle h = _getConfig;
+        if (h == null) {
+            h = ReflectionHelper.unreflectGetter(ReflectionHelper.getDeclaredField(spawnSystem.getClass(), "config"), OBJECT_GETTER);
+            _getConfig = h;
         }
-        Object cfg = ReflectionHelper.getFieldValue(f, spawnSystem);
-        return _configGet(cfg);
+        return _configGet(_invokeGetter(h, spawnSystem));
     }
 
     @Nullable
     private static Object _getSpawning(Object mainConfig) {
-        Field f = _fieldSpawning;
-        if (f == null) {
-            f = ReflectionHelper.getDeclaredField(mainConfig.getClass(), "spawning");
-            _fieldSpawning = f;
+        MethodHandle h = _getSpawning;
+        if (h == null) {
+            h = ReflectionHelper.unreflectGetter(ReflectionHelper.getDeclaredField(mainConfig.getClass(), "spawning"), OBJECT_GETTER);
+            _getSpawning = h;
         }
-        return ReflectionHelper.getFieldValue(f, mainConfig);
+        return _invokeGetter(h, mainConfig);
     }
 
     @Nullable
@@ -217,47 +224,80 @@ public final class EliteMobsDifficultySpawner {
         if (cfg == null) {
             return null;
         }
-        Method m = _methodConfigGet;
-        if (m == null) {
-            m = ReflectionHelper.getMethod(cfg.getClass(), "get");
-            _methodConfigGet = m;
+        MethodHandle h = _configGet;
+        if (h == null) {
+            h = ReflectionHelper.unreflect(ReflectionHelper.getMethod(cfg.getClass(), "get"), OBJECT_GETTER);
+            _configGet = h;
         }
-        if (m == null) {
+        return _invokeGetter(h, cfg);
+    }
+
+    @Nullable
+    private static Object _invokeGetter(@Nullable MethodHandle getter, @Nullable Object target) {
+        if (getter == null || target == null) {
             return null;
         }
         try {
-            return m.invoke(cfg);
+            return (Object) getter.invokeExact(target);
         } catch (Throwable ignored) {
             return null;
         }
     }
 
+    @Nonnull
+    private static SpawnChanceFields _spawnChanceFields(Object spawning) {
+        SpawnChanceFields fields = _spawnChanceFields;
+        if (fields == null || fields.owner() != spawning.getClass()) {
+            fields = SpawnChanceFields.resolve(spawning.getClass());
+            _spawnChanceFields = fields;
+        }
+        return fields;
+    }
+
     private static SpawnChanceState _readSpawnChances(Object spawning) {
-        double prevUncommon = _getDoubleField(spawning, "uncommonChance");
-        double prevRare = _getDoubleField(spawning, "rareChance");
-        double prevLegendary = _getDoubleField(spawning, "legendaryChance");
+        SpawnChanceFields fields = _spawnChanceFields(spawning);
+        double prevUncommon = _getDouble(fields.getUncommon(), spawning);
+        double prevRare = _getDouble(fields.getRare(), spawning);
+        double prevLegendary = _getDouble(fields.getLegendary(), spawning);
         return new SpawnChanceState(prevUncommon, prevRare, prevLegendary);
     }
 
     private static void _applySpawnChances(Object spawning, double uncommon, double rare, double legendary) {
-        ReflectionHelper.setField(spawning, "uncommonChance", _clamp01(uncommon));
-        ReflectionHelper.setField(spawning, "rareChance", _clamp01(rare));
-        ReflectionHelper.setField(spawning, "legendaryChance", _clamp01(legendary));
+        SpawnChanceFields fields = _spawnChanceFields(spawning);
+        _setDouble(fields.setUncommon(), spawning, _clamp01(uncommon));
+        _setDouble(fields.setRare(), spawning, _clamp01(rare));
+        _setDouble(fields.setLegendary(), spawning, _clamp01(legendary));
     }
 
     private static void _restoreSpawnChances(Object spawning, SpawnChanceState prev) {
         if (spawning == null || prev == null) {
             return;
         }
-        ReflectionHelper.setField(spawning, "uncommonChance", prev.uncommon);
-        ReflectionHelper.setField(spawning, "rareChance", prev.rare);
-        ReflectionHelper.setField(spawning, "legendaryChance", prev.legendary);
+        SpawnChanceFields fields = _spawnChanceFields(spawning);
+        _setDouble(fields.setUncommon(), spawning, prev.uncommon);
+        _setDouble(fields.setRare(), spawning, prev.rare);
+        _setDouble(fields.setLegendary(), spawning, prev.legendary);
     }
 
-    private static double _getDoubleField(Object target, String name) {
-        Field f = ReflectionHelper.getDeclaredField(target.getClass(), name);
-        Object v = ReflectionHelper.getFieldValue(f, target);
-        return v instanceof Number n ? n.doubleValue() : 0.0;
+    private static double _getDouble(@Nullable MethodHandle getter, Object target) {
+        if (getter == null) {
+            return 0.0;
+        }
+        try {
+            return (double) getter.invokeExact(target);
+        } catch (Throwable ignored) {
+            return 0.0;
+        }
+    }
+
+    private static void _setDouble(@Nullable MethodHandle setter, Object target, double value) {
+        if (setter == null) {
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable ignored) {
+        }
     }
 
     private static double _clamp01(double v) {
@@ -281,6 +321,35 @@ public final class EliteMobsDifficultySpawner {
     private record SpawnChanceState(double uncommon, double rare, double legendary) {
     }
 
+    // Typed accessors for the chance fields of one spawning config class; a missing field leaves its handles null.
+    private record SpawnChanceFields(
+            Class<?> owner,
+            MethodHandle getUncommon,
+            MethodHandle getRare,
+            MethodHandle getLegendary,
+            MethodHandle setUncommon,
+            MethodHandle setRare,
+            MethodHandle setLegendary
+    ) {
+        private static final MethodType GETTER = MethodType.methodType(double.class, Object.class);
+        private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, double.class);
+
+        static SpawnChanceFields resolve(Class<?> owner) {
+            Field uncommon = ReflectionHelper.getDeclaredField(owner, "uncommonChance");
+            Field rare = ReflectionHelper.getDeclaredField(owner, "rareChance");
+            Field legendary = ReflectionHelper.getDeclaredField(owner, "legendaryChance");
+            return new SpawnChanceFields(
+                    owner,
+                    ReflectionHelper.unreflectGetter(uncommon, GETTER),
+                    ReflectionHelper.unreflectGetter(rare, GETTER),
+                    ReflectionHelper.unreflectGetter(legendary, GETTER),
+                    ReflectionHelper.unreflectSetter(uncommon, SETTER),
+                    ReflectionHelper.unreflectSetter(rare, SETTER),
+                    ReflectionHelper.unreflectSetter(legendary, SETTER)
+            );
+        }
+    }
+
     private record Node(Object obj, int depth) {
     }
 }
@@ -0,0 +1,56 @@
+package ascendant.core.scaling;
+
+import ascendant.core.util.ReflectionHelper;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+/**
+ * Standalone CommandBuffers for work done outside a system callback. The constructor and consume() are not
+ * public, so both go through handles resolved once. Callers collect a whole batch into one buffer and
+ * consume it once instead of creating a buffer per entity.
+ */
+final class CommandBuffers {
+    private static final MethodHandle CTOR = ReflectionHelper.unreflectConstructor(
+            ReflectionHelper.getDeclaredConstructor(CommandBuffer.class, Store.class),
+            MethodType.methodType(CommandBuffer.class, Store.class));
+    private static final MethodHandle CONSUME = ReflectionHelper.unreflect(
+            ReflectionHelper.getDeclaredMethod(CommandBuffer.class, "consume"),
+            MethodType.methodType(void.class, CommandBuffer.class));
+
+    private CommandBuffers() {
+    }
+
+    static boolean isAvailable() {
+        return CTOR != null && CONSUME != null;
+    }
+
+    @Nullable
+    static CommandBuffer<EntityStore> create(@Nonnull Store<EntityStore> store) {
+        if (CTOR == null) {
+            return null;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            CommandBuffer<EntityStore> buffer = (CommandBuffer<EntityStore>) CTOR.invokeExact(store);
+            return buffer;
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    static void consume(@Nullable CommandBuffer<?> buffer) {
+        if (buffer == null || CONSUME == null) {
+            return;
+        }
+        try {
+            CONSUME.invokeExact(buffer);
+        } catch (Throwable ignored) {
+        }
+    }
+}
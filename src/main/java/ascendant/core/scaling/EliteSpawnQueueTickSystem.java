@@ -1,10 +1,10 @@
 package ascendant.core.scaling;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
 import ascendant.core.integration.elitemobs.EliteMobsDifficultySpawner;
 import ascendant.core.util.Logging;
-import ascendant.core.util.ReflectionHelper;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -12,37 +12,32 @@ import com.hypixel.hytale.component.system.tick.TickingSystem;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
 import java.util.Locale;
 
 @SuppressWarnings("removal")
 public final class EliteSpawnQueueTickSystem extends TickingSystem<EntityStore> {
 
-    private static final Constructor<?> COMMAND_BUFFER_CTOR =
-            ReflectionHelper.getDeclaredConstructor(CommandBuffer.class, Store.class);
-    private static final Method COMMAND_BUFFER_CONSUME =
-            ReflectionHelper.getDeclaredMethod(CommandBuffer.class, "consume");
-
-    private final boolean _allowEliteSpawnModifier;
-    private final boolean _integrationEliteMobs;
-    private final boolean _debugLogging;
-    private final long _intervalNs;
-    private final long _maxDrainNs;
-    private final int _maxPerDrain;
+    private volatile boolean _allowEliteSpawnModifier;
+    private volatile boolean _integrationEliteMobs;
+    private volatile long _intervalNs;
+    private volatile long _maxDrainNs;
+    private volatile int _maxPerDrain;
 
     public EliteSpawnQueueTickSystem() {
-        _allowEliteSpawnModifier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_ELITE_SPAWN_MODIFIER);
-        _integrationEliteMobs = DifficultyManager.getFromConfig(DifficultyIO.INTEGRATION_ELITE_MOBS);
-        _debugLogging = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DEBUG_LOGGING);
+        DifficultyManager.subscribe(this::applyConfig);
+    }
+
+    private void applyConfig(ConfigSnapshot snapshot) {
+        _allowEliteSpawnModifier = snapshot.get(DifficultyIO.ALLOW_ELITE_SPAWN_MODIFIER);
+        _integrationEliteMobs = snapshot.get(DifficultyIO.INTEGRATION_ELITE_MOBS);
 
-        double intervalMs = DifficultyManager.getFromConfig(DifficultyIO.ELITE_SPAWN_QUEUE_INTERVAL_MS);
+        double intervalMs = snapshot.get(DifficultyIO.ELITE_SPAWN_QUEUE_INTERVAL_MS);
         _intervalNs = toNs(intervalMs);
 
-        double maxDrainMs = DifficultyManager.getFromConfig(DifficultyIO.ELITE_SPAWN_QUEUE_MAX_DRAIN_MS);
+        double maxDrainMs = snapshot.get(DifficultyIO.ELITE_SPAWN_QUEUE_MAX_DRAIN_MS);
         _maxDrainNs = maxDrainMs <= 0.0 ? Long.MAX_VALUE : toNs(maxDrainMs);
 
-        int maxPer = DifficultyManager.getFromConfig(DifficultyIO.ELITE_SPAWN_QUEUE_MAX_PER_DRAIN);
+        int maxPer = snapshot.get(DifficultyIO.ELITE_SPAWN_QUEUE_MAX_PER_DRAIN);
         _maxPerDrain = maxPer <= 0 ? Integer.MAX_VALUE : maxPer;
     }
 
@@ -70,30 +65,6 @@ public final class EliteSpawnQueueTickSystem extends TickingSystem<EntityStore>
         return v;
     }
 
-    private static CommandBuffer<EntityStore> newCommandBuffer(Store<EntityStore> store) {
-        if (COMMAND_BUFFER_CTOR == null) {
-            return null;
-        }
-        try {
-            Object created = COMMAND_BUFFER_CTOR.newInstance(store);
-            @SuppressWarnings("unchecked")
-            CommandBuffer<EntityStore> buffer = (CommandBuffer<EntityStore>) created;
-            return buffer;
-        } catch (Throwable ignored) {
-            return null;
-        }
-    }
-
-    private static void consume(CommandBuffer<?> buffer) {
-        if (buffer == null || COMMAND_BUFFER_CONSUME == null) {
-            return;
-        }
-        try {
-            COMMAND_BUFFER_CONSUME.invoke(buffer);
-        } catch (Throwable ignored) {
-        }
-    }
-
     private static void logTiming(
             EntityEliteSpawn.SpawnTask task,
             long rollStartNs,
@@ -119,7 +90,7 @@ public final class EliteSpawnQueueTickSystem extends TickingSystem<EntityStore>
                 mult,
                 rolled
         );
-        Logging.debug(msg);
+        Logging.debug(Logging.Category.ELITE, msg);
     }
 
     @Override
@@ -148,7 +119,7 @@ public final class EliteSpawnQueueTickSystem extends TickingSystem<EntityStore>
             return;
         }
 
-        CommandBuffer<EntityStore> commandBuffer = newCommandBuffer(store);
+        CommandBuffer<EntityStore> commandBuffer = CommandBuffers.create(store);
         if (commandBuffer == null) {
             return;
         }
@@ -191,13 +162,13 @@ public final class EliteSpawnQueueTickSystem extends TickingSystem<EntityStore>
             long rollEndNs = System.nanoTime();
             attemptedRoll = true;
 
-            if (_debugLogging) {
+            if (Logging.isDebugEnabled(Logging.Category.ELITE)) {
                 logTiming(task, rollStartNs, rollEndNs, mult, uncommon, rare, legendary, rolled);
             }
         }
 
         if (attemptedRoll) {
-            consume(commandBuffer);
+            CommandBuffers.consume(commandBuffer);
         }
 
         if (drainedAny) {
@@ -1,7 +1,9 @@
 package ascendant.core.scaling;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
+import ascendant.core.config.SettingKey;
 import ascendant.core.util.DamageRef;
 import ascendant.core.util.NearestPlayerFinder;
 import com.hypixel.hytale.component.ArchetypeChunk;
@@ -38,9 +40,9 @@ public final class EntityDamageReceiveMultiplier extends DamageEventSystem {
     private static final ConcurrentHashMap<UUID, Boolean> DEBUG_MAX_ATTACK = new ConcurrentHashMap<>();
 
     private final Set<Dependency<EntityStore>> _dependencies;
-    private final float _fallbackRadiusSq;
-    private final float _minDamageFactor;
-    private final boolean _allowArmorModifier;
+    private volatile float _fallbackRadiusSq;
+    private volatile float _minDamageFactor;
+    private volatile boolean _allowArmorModifier;
 
     public EntityDamageReceiveMultiplier() {
         _dependencies = Set.of(
@@ -49,12 +51,16 @@ public final class EntityDamageReceiveMultiplier extends DamageEventSystem {
                 new SystemGroupDependency(Order.BEFORE, DamageModule.get().getInspectDamageGroup()),
                 new SystemDependency(Order.BEFORE, DamageSystems.ApplyDamage.class)
         );
-        double radius = DifficultyManager.getFromConfig(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
+        DifficultyManager.subscribe(this::applyConfig);
+    }
+
+    private void applyConfig(ConfigSnapshot snapshot) {
+        double radius = snapshot.get(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
         float r = (float) Math.max(0.0, radius);
         _fallbackRadiusSq = r * r;
-        double minDamageFactor = DifficultyManager.getFromConfig(DifficultyIO.MIN_DAMAGE_FACTOR);
+        double minDamageFactor = snapshot.get(DifficultyIO.MIN_DAMAGE_FACTOR);
         _minDamageFactor = (float) Math.max(0.0, minDamageFactor);
-        _allowArmorModifier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_ARMOR_MODIFIER);
+        _allowArmorModifier = snapshot.get(DifficultyIO.ALLOW_ARMOR_MODIFIER);
     }
 
     public static boolean toggleDebugMaxAttack(@Nonnull UUID playerUuid) {
@@ -145,17 +151,12 @@ public final class EntityDamageReceiveMultiplier extends DamageEventSystem {
             return null;
         }
 
-        UUID playerUuid = NearestPlayerFinder.resolveRelevantPlayerUuid(damage, store, commandBuffer, victimRef, _fallbackRadiusSq);
-        if (playerUuid == null) {
-            return null;
-        }
-
-        String tierId = DifficultyManager.getDifficulty(playerUuid);
+        String tierId = NearestPlayerFinder.resolveRelevantPlayerTier(damage, store, commandBuffer, victimRef, _fallbackRadiusSq);
         if (tierId == null) {
             return null;
         }
 
-        double armorCfg = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_ARMOR_MULTIPLIER);
+        double armorCfg = DifficultyManager.getSettings().get(tierId, SettingKey.ARMOR_MULTIPLIER);
 
         return new DamageContext(
                 damage.getAmount(),
@@ -1,8 +1,11 @@
 package ascendant.core.scaling;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
 import ascendant.core.config.RuntimeSettings;
+import ascendant.core.config.SettingKey;
+import ascendant.core.config.TierRegistry;
 import ascendant.core.util.NearestPlayerFinder;
 import ascendant.core.util.ReflectionHelper;
 import com.hypixel.hytale.component.CommandBuffer;
@@ -30,10 +33,11 @@ import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 // NPCdamageSystems
@@ -43,14 +47,18 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
     @Nonnull
     private static final Query<EntityStore> QUERY = Query.and(NPCEntity.getComponentType(), TransformComponent.getComponentType(), HeadRotation.getComponentType(), Query.not(Player.getComponentType()));
 
-    private final float _fallbackRadiusSq;
-    private final boolean _allowDropModifier;
+    private volatile float _fallbackRadiusSq;
+    private volatile boolean _allowDropModifier;
 
     public EntityDropMultiplier() {
-        double radius = DifficultyManager.getFromConfig(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
+        DifficultyManager.subscribe(this::applyConfig);
+    }
+
+    private void applyConfig(ConfigSnapshot snapshot) {
+        double radius = snapshot.get(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
         float r = (float) Math.max(0.0, radius);
         _fallbackRadiusSq = r * r;
-        _allowDropModifier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DROP_MODIFIER);
+        _allowDropModifier = snapshot.get(DifficultyIO.ALLOW_DROP_MODIFIER);
     }
 
     @Nonnull
@@ -191,11 +199,7 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
             spawnTier = NearestPlayerHealthScaleSystem.getSpawnTier(store, ref);
         }
 
-        UUID playerUuid = _resolveRelevantPlayerUuid(store, ref);
-        String playerTier = null;
-        if (playerUuid != null) {
-            playerTier = DifficultyManager.getDifficulty(playerUuid);
-        }
+        String playerTier = _resolveRelevantPlayerTier(store, ref);
 
         String tierId = spawnTier;
         if (tierId == null) {
@@ -205,9 +209,11 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
             tierId = playerTier;
         }
 
-        double dropRateCfg = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_DROP_RATE_MULTIPLIER);
-        double dropQtyCfg = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_DROP_QUANTITY_MULTIPLIER);
-        double dropQualityCfg = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_DROP_QUALITY_MULTIPLIER);
+        TierRegistry registry = DifficultyManager.getSettings().registry();
+        int tierOrdinal = registry.ordinal(tierId);
+        double dropRateCfg = registry.get(tierOrdinal, SettingKey.DROP_RATE_MULTIPLIER);
+        double dropQtyCfg = registry.get(tierOrdinal, SettingKey.DROP_QUANTITY_MULTIPLIER);
+        double dropQualityCfg = registry.get(tierOrdinal, SettingKey.DROP_QUALITY_MULTIPLIER);
 
         double rewardScale = ExperienceAndCashMultiplier.computeTierMismatchScale(playerTier, spawnTier);
         float dropRateMult = (float) Math.max(0.0, dropRateCfg * rewardScale);
@@ -265,22 +271,21 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
     }
 
     @Nullable
-    private UUID _resolveRelevantPlayerUuid(@Nonnull Store<EntityStore> store, @Nonnull Ref<EntityStore> victimRef) {
+    private String _resolveRelevantPlayerTier(@Nonnull Store<EntityStore> store, @Nonnull Ref<EntityStore> victimRef) {
         if (_fallbackRadiusSq <= 0.0f) {
             return null;
         }
 
         World world = store.getExternalData().getWorld();
-        Player nearest = NearestPlayerFinder.findNearestPlayer(world, store, victimRef, _fallbackRadiusSq);
-        return nearest != null ? nearest.getUuid() : null;
+        return NearestPlayerFinder.findNearestPlayerTier(world, store, victimRef, _fallbackRadiusSq);
     }
 
     private static final class ReflectiveItemQualityBridge {
 
-        private static final Method GET_RARITY;
-        private static final Method WITH_RARITY;
-        private static final Method GET_QUALITY_INT;
-        private static final Method WITH_QUALITY_INT;
+        private static final MethodHandle GET_RARITY;
+        private static final MethodHandle WITH_RARITY;
+        private static final MethodHandle GET_QUALITY_INT;
+        private static final MethodHandle WITH_QUALITY_INT;
 
         static {
             Method getRarity = null;
@@ -313,10 +318,11 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
             } catch (Throwable ignored) {
             }
 
-            GET_RARITY = getRarity;
-            WITH_RARITY = withRarity;
-            GET_QUALITY_INT = getQualityInt;
-            WITH_QUALITY_INT = withQualityInt;
+            // Integer-typed quality accessors are boxed/unboxed by the handle adaptation
+            GET_RARITY = ReflectionHelper.unreflect(getRarity, MethodType.methodType(Object.class, ItemStack.class));
+            WITH_RARITY = ReflectionHelper.unreflect(withRarity, MethodType.methodType(Object.class, ItemStack.class, Object.class));
+            GET_QUALITY_INT = ReflectionHelper.unreflect(getQualityInt, MethodType.methodType(int.class, ItemStack.class));
+            WITH_QUALITY_INT = ReflectionHelper.unreflect(withQualityInt, MethodType.methodType(Object.class, ItemStack.class, int.class));
         }
 
         private ReflectiveItemQualityBridge() {
@@ -344,7 +350,7 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
             }
 
             try {
-                Object rarityObj = GET_RARITY.invoke(stack);
+                Object rarityObj = (Object) GET_RARITY.invokeExact(stack);
                 if (!(rarityObj instanceof Enum<?> e)) {
                     return null;
                 }
@@ -363,7 +369,7 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
                     return stack;
                 }
 
-                Object updated = WITH_RARITY.invoke(stack, values[target]);
+                Object updated = (Object) WITH_RARITY.invokeExact(stack, (Object) values[target]);
                 return updated instanceof ItemStack s ? s : null;
             } catch (Throwable ignored) {
                 return null;
@@ -377,16 +383,11 @@ public class EntityDropMultiplier extends DeathSystems.OnDeathSystem {
             }
 
             try {
-                Object qObj = GET_QUALITY_INT.invoke(stack);
-                if (!(qObj instanceof Number n)) {
-                    return null;
-                }
-
-                int q = n.intValue();
+                int q = (int) GET_QUALITY_INT.invokeExact(stack);
                 int scaled = Math.round(q * multiplier);
                 if (scaled < 0) scaled = 0;
 
-                Object updated = WITH_QUALITY_INT.invoke(stack, scaled);
+                Object updated = (Object) WITH_QUALITY_INT.invokeExact(stack, scaled);
                 return updated instanceof ItemStack s ? s : null;
             } catch (Throwable ignored) {
                 return null;
@@ -1,13 +1,14 @@
 package ascendant.core.scaling;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.config.DifficultySettings;
+import ascendant.core.config.SettingKey;
+import ascendant.core.config.TierRegistry;
 import ascendant.core.util.NearestPlayerFinder;
 import com.hypixel.hytale.component.*;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.RefSystem;
-import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.AllLegacyLivingEntityTypesQuery;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -23,12 +24,24 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 public final class EntityEliteSpawn extends RefSystem<EntityStore> {
 
     private static final ConcurrentHashMap<Store<EntityStore>, SpawnQueueState> QUEUES = new ConcurrentHashMap<>();
-    private final boolean _allowEliteSpawnModifier;
-    private final boolean _integrationEliteMobs;
+    private volatile boolean _allowEliteSpawnModifier;
+    private volatile boolean _integrationEliteMobs;
+    private volatile float _fallbackRadiusSq;
 
     public EntityEliteSpawn() {
-        _allowEliteSpawnModifier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_ELITE_SPAWN_MODIFIER);
-        _integrationEliteMobs = DifficultyManager.getFromConfig(DifficultyIO.INTEGRATION_ELITE_MOBS);
+        DifficultyManager.subscribe(this::applyConfig);
+    }
+
+    private void applyConfig(ConfigSnapshot snapshot) {
+        _allowEliteSpawnModifier = snapshot.get(DifficultyIO.ALLOW_ELITE_SPAWN_MODIFIER);
+        _integrationEliteMobs = snapshot.get(DifficultyIO.INTEGRATION_ELITE_MOBS);
+        double radius = snapshot.get(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
+        if (radius <= 0.0) {
+            _fallbackRadiusSq = Float.MAX_VALUE;
+        } else {
+            float r = (float) radius;
+            _fallbackRadiusSq = r * r;
+        }
     }
 
     static void enqueue(
@@ -76,6 +89,9 @@ public final class EntityEliteSpawn extends RefSystem<EntityStore> {
         if (!_allowEliteSpawnModifier || !_integrationEliteMobs || reason != AddReason.SPAWN) {
             return;
         }
+        if (SpawnCountMultiplierSystem.isVetoed(store, ref)) {
+            return;
+        }
         World world = store.getExternalData().getWorld();
 
         ComponentType<EntityStore, NPCEntity> npcEntityComponentType = NPCEntity.getComponentType();
@@ -98,31 +114,23 @@ public final class EntityEliteSpawn extends RefSystem<EntityStore> {
             return;
         }
 
-        String tierId;
+        TierRegistry registry = DifficultyManager.getSettings().registry();
+        int tierOrdinal;
         if (DifficultyManager.isWorldTierActive()) {
-            tierId = DifficultyManager.getWorldTier();
+            tierOrdinal = registry.ordinal(DifficultyManager.getWorldTier());
         } else {
-            double radius = DifficultyManager.getFromConfig(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
-            float fallbackRadiusSq;
-            if (radius <= 0.0) {
-                fallbackRadiusSq = Float.MAX_VALUE;
-            } else {
-                float r = (float) radius;
-                fallbackRadiusSq = r * r;
+            tierOrdinal = NearestPlayerFinder.findNearestPlayerTierOrdinal(
+                    world, store, registry, transform.getPosition(), _fallbackRadiusSq);
+            if (tierOrdinal == NearestPlayerFinder.NO_PLAYER) {
+                tierOrdinal = registry.ordinal(DifficultyManager.getFromConfig(DifficultyIO.DEFAULT_DIFFICULTY));
             }
-
-            Player nearest = NearestPlayerFinder.findNearestPlayer(world, store, transform.getPosition(), fallbackRadiusSq);
-            tierId = nearest != null
-                    ? DifficultyManager.getDifficulty(nearest.getUuid())
-                    : DifficultyManager.getFromConfig(DifficultyIO.DEFAULT_DIFFICULTY);
         }
 
-        DifficultySettings settings = DifficultyManager.getSettings();
-        double mult = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_MULTIPLIER);
+        double mult = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_MULTIPLIER);
         mult *= 100;
-        double uncommon = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_UNCOMMON);
-        double rare = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_RARE);
-        double legendary = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_LEGENDARY);
+        double uncommon = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_UNCOMMON);
+        double rare = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_RARE);
+        double legendary = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_LEGENDARY);
 
         if (uncommon <= 0.0 && rare <= 0.0 && legendary <= 0.0 && mult <= 0.0) {
             return;
@@ -1,8 +1,9 @@
 package ascendant.core.scaling;
 
-import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
 import ascendant.core.config.RuntimeSettings;
+import ascendant.core.config.SettingKey;
+import ascendant.core.config.TierRegistry;
 import ascendant.core.util.LibraryAvailability;
 import ascendant.core.util.Logging;
 import ascendant.core.util.PlayerWorldExecutor;
@@ -23,8 +24,6 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static ascendant.core.config.DifficultyIO.DEFAULT_BASE_DIFFICULTY;
-import static ascendant.core.config.DifficultyMeta.KEY_DISPLAY_NAME;
-import static ascendant.core.config.DifficultyMeta.META_PREFIX;
 
 public final class ExperienceAndCashMultiplier {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
@@ -55,7 +54,7 @@ public final class ExperienceAndCashMultiplier {
             return new MultiplierResult(amount, 0L, 0L, tierId);
         }
         double effectiveMultiplier = integrationMultiplier <= 0.0 ? 1.0 : integrationMultiplier;
-        double xpMultiplier = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_XP_MULTIPLIER);
+        double xpMultiplier = DifficultyManager.getSettings().get(tierId, SettingKey.XP_MULTIPLIER);
         double baseMultiplier = xpMultiplier - 1.0;
         if (baseMultiplier <= 0.0) {
             return new MultiplierResult(amount, 0L, 0L, tierId);
@@ -77,7 +76,7 @@ public final class ExperienceAndCashMultiplier {
             return new MultiplierResult(amount, 0L, 0L, tierId);
         }
         double effectiveMultiplier = integrationMultiplier <= 0.0 ? 1.0 : integrationMultiplier;
-        double cashMultiplier = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_CASH_MULTIPLIER);
+        double cashMultiplier = DifficultyManager.getSettings().get(tierId, SettingKey.CASH_MULTIPLIER);
         if (cashMultiplier <= 0.0) {
             return new MultiplierResult(amount, 0L, 0L, tierId);
         }
@@ -229,7 +228,7 @@ public final class ExperienceAndCashMultiplier {
                     XPBarHud.updateHud(playerRef);
                 };
                 if (!PlayerWorldExecutor.execute(playerRef, task)) {
-                    Logging.debug("[XP] Failed to schedule LevelingCore XP update for " + playerUuid);
+                    Logging.debug(Logging.Category.XP, () -> "[XP] Failed to schedule LevelingCore XP update for " + playerUuid);
                 }
                 //sendNotification(playerRef.getPacketHandler(), extraXp + "XP (+" + percent + "%)", NotificationStyle.Warning);
             });
@@ -364,8 +363,10 @@ public final class ExperienceAndCashMultiplier {
 
     public static String getDisplayNameFromMultiplierResult(ExperienceAndCashMultiplier.MultiplierResult multiplierResult) {
         String tierId = multiplierResult.tierId();
-        String base = META_PREFIX + tierId + ".";
-        return DifficultyManager.getConfig().getString(base + KEY_DISPLAY_NAME, tierId);
+        if (tierId == null) {
+            return null;
+        }
+        return DifficultyManager.getPresentation(tierId).displayName();
     }
 
     public static void queueRewardTierOverride(@Nonnull UUID playerUuid, @Nonnull String tierId) {
@@ -425,14 +426,8 @@ public final class ExperienceAndCashMultiplier {
     }
 
     private static int tierIndex(@Nonnull String tierId) {
-        int i = 0;
-        for (String id : DifficultyManager.getSettings().tiers().keySet()) {
-            if (id.equals(tierId)) {
-                return i;
-            }
-            i++;
-        }
-        return Integer.MAX_VALUE;
+        int ordinal = DifficultyManager.getSettings().registry().ordinal(tierId);
+        return ordinal == TierRegistry.UNKNOWN ? Integer.MAX_VALUE : ordinal;
     }
 
     private static String resolveTierOrDefault(@Nullable String tierId) {
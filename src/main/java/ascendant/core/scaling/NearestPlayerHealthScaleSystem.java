@@ -1,9 +1,11 @@
 package ascendant.core.scaling;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.config.DifficultyMeta;
 import ascendant.core.config.DifficultySettings;
+import ascendant.core.config.SettingKey;
+import ascendant.core.config.TierPresentation;
 import ascendant.core.util.NearestPlayerFinder;
 import ascendant.core.util.ReflectionHelper;
 import com.hypixel.hytale.codec.KeyedCodec;
@@ -30,10 +32,10 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 
 @SuppressWarnings("removal")
 public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.component.system.HolderSystem<EntityStore>
@@ -52,27 +54,31 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
             .build();
     private static ComponentType<EntityStore, SpawnTierComponent> SPAWN_TIER_COMPONENT_TYPE;
 
-    private final float _fallbackRadiusSq;
+    private volatile float _fallbackRadiusSq;
 
-    private final float _minFactor;
-    private final float _maxFactor;
-    private final float _healthScalingTolerance;
-    private final boolean _allowHealthModifier;
-    private final boolean _allowSpawnTierNameplate;
+    private volatile float _minFactor;
+    private volatile float _maxFactor;
+    private volatile float _healthScalingTolerance;
+    private volatile boolean _allowHealthModifier;
+    private volatile boolean _allowSpawnTierNameplate;
 
     public NearestPlayerHealthScaleSystem() {
-        double radius = DifficultyManager.getFromConfig(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
-        double minHealthScalingFactor = DifficultyManager.getFromConfig(DifficultyIO.MIN_HEALTH_SCALING_FACTOR);
-        double maxHealthScalingFactor = DifficultyManager.getFromConfig(DifficultyIO.MAX_HEALTH_SCALING_FACTOR);
-        double healthScalingTolerance = DifficultyManager.getFromConfig(DifficultyIO.HEALTH_SCALING_TOLERANCE);
-        _allowHealthModifier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_HEALTH_MODIFIER);
-        _allowSpawnTierNameplate = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_SPAWN_TIER_NAMEPLATE);
         ensureSpawnTierComponentType();
+        DifficultyManager.subscribe(this::applyConfig);
+    }
+
+    private void applyConfig(ConfigSnapshot snapshot) {
+        double radius = snapshot.get(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
         float r = (float) Math.max(0.0, radius);
         _fallbackRadiusSq = r * r;
+        double minHealthScalingFactor = snapshot.get(DifficultyIO.MIN_HEALTH_SCALING_FACTOR);
+        double maxHealthScalingFactor = snapshot.get(DifficultyIO.MAX_HEALTH_SCALING_FACTOR);
+        double healthScalingTolerance = snapshot.get(DifficultyIO.HEALTH_SCALING_TOLERANCE);
         _minFactor = (float) minHealthScalingFactor;
         _maxFactor = (float) maxHealthScalingFactor;
         _healthScalingTolerance = (float) healthScalingTolerance;
+        _allowHealthModifier = snapshot.get(DifficultyIO.ALLOW_HEALTH_MODIFIER);
+        _allowSpawnTierNameplate = snapshot.get(DifficultyIO.ALLOW_SPAWN_TIER_NAMEPLATE);
     }
 
     @Nullable
@@ -90,7 +96,7 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
     }
 
     @Nullable
-    private static String getSpawnTierFromHolder(@Nonnull Holder<EntityStore> holder) {
+    static String getSpawnTier(@Nonnull Holder<EntityStore> holder) {
         ComponentType<EntityStore, SpawnTierComponent> type = SPAWN_TIER_COMPONENT_TYPE;
         if (type == null) {
             return null;
@@ -123,19 +129,21 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
         if (maybePlayer != null) {
             return;
         }
+        // dropped by the spawn count multiplier; removed before it would ever be fought
+        if (SpawnCountMultiplierSystem.isVetoed(holder)) {
+            return;
+        }
 
-        String tier = getSpawnTierFromHolder(holder);
+        String tier = getSpawnTier(holder);
         if (tier == null) {
             if (DifficultyManager.isWorldTierActive()) {
                 tier = DifficultyManager.getWorldTier();
             } else {
                 World world = store.getExternalData().getWorld();
-                Player nearest = NearestPlayerFinder.findNearestPlayer(world, store, holder, _fallbackRadiusSq);
-                if (nearest == null) {
+                tier = NearestPlayerFinder.findNearestPlayerTier(world, store, holder, _fallbackRadiusSq);
+                if (tier == null) {
                     return;
                 }
-                UUID playerUuid = nearest.getUuid();
-                tier = DifficultyManager.getDifficulty(playerUuid);
             }
             if (tier == null || tier.isBlank()) {
                 tier = DifficultyIO.DEFAULT_BASE_DIFFICULTY;
@@ -164,7 +172,7 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
 
         DifficultySettings settings = DifficultyManager.getSettings();
 
-        float factor = _clampFactor((float) settings.get(tier, DifficultyIO.SETTING_HEALTH_MULTIPLIER));
+        float factor = _clampFactor((float) settings.get(tier, SettingKey.HEALTH_MULTIPLIER));
 
         EntityStatValue healthValue = statMap.get(healthIndex);
         if (healthValue == null) {
@@ -225,15 +233,9 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
         if (tierId.isBlank()) {
             return;
         }
-        DifficultyMeta.TierMeta meta = DifficultyMeta.resolve(DifficultyManager.getConfig(), tierId);
-        String displayName = meta.displayName();
-        if (displayName == null || displayName.isBlank()) {
-            displayName = tierId;
-        }
-        String label = displayName;
-        if (!displayName.equalsIgnoreCase(tierId)) {
-            label = displayName + " (" + tierId + ")";
-        }
+        TierPresentation presentation = DifficultyManager.getPresentation(tierId);
+        String displayName = presentation.tierName();
+        String label = presentation.nameplateLabel();
 
         Nameplate nameplate = holder.getComponent(Nameplate.getComponentType());
         if (nameplate == null) {
@@ -287,8 +289,8 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
     }
 
     private static final class ReflectiveStatModifierBridge {
-        private static final Method PUT;
-        private static final Method REMOVE;
+        private static final MethodHandle PUT;
+        private static final MethodHandle REMOVE;
 
         static {
             try {
@@ -299,8 +301,14 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
                 if (v == null) {
                     throw new ClassNotFoundException("com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue");
                 }
-                PUT = ReflectionHelper.getDeclaredMethod(v, "putModifier", String.class, Modifier.class);
-                REMOVE = ReflectionHelper.getDeclaredMethod(v, "removeModifier", String.class);
+                PUT = ReflectionHelper.unreflect(
+                        ReflectionHelper.getDeclaredMethod(v, "putModifier", String.class, Modifier.class),
+                        MethodType.methodType(void.class, Object.class, String.class, Modifier.class)
+                );
+                REMOVE = ReflectionHelper.unreflect(
+                        ReflectionHelper.getDeclaredMethod(v, "removeModifier", String.class),
+                        MethodType.methodType(void.class, Object.class, String.class)
+                );
                 if (PUT == null || REMOVE == null) {
                     throw new NoSuchMethodException("Missing EntityStatValue modifier methods");
                 }
@@ -317,7 +325,7 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
             Objects.requireNonNull(key, "key");
             Objects.requireNonNull(modifier, "modifier");
             try {
-                PUT.invoke(entityStatValue, key, modifier);
+                PUT.invokeExact(entityStatValue, key, modifier);
             } catch (Throwable ignored) {
                 // Intentionally silent: if this fails you’ll notice immediately by missing scaling.
             }
@@ -327,7 +335,7 @@ public final class NearestPlayerHealthScaleSystem extends com.hypixel.hytale.com
             Objects.requireNonNull(entityStatValue, "entityStatValue");
             Objects.requireNonNull(key, "key");
             try {
-                REMOVE.invoke(entityStatValue, key);
+                REMOVE.invokeExact(entityStatValue, key);
             } catch (Throwable ignored) {
             }
         }
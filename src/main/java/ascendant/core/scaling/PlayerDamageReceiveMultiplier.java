@@ -1,7 +1,10 @@
 package ascendant.core.scaling;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
+import ascendant.core.config.SettingKey;
+import ascendant.core.config.TierRegistry;
 import ascendant.core.util.DamageRef;
 import ascendant.core.util.Logging;
 import com.google.gson.JsonElement;
@@ -36,17 +39,33 @@ public final class PlayerDamageReceiveMultiplier extends DamageEventSystem {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final ConcurrentHashMap<UUID, Boolean> DEBUG_MAX_DAMAGE = new ConcurrentHashMap<>();
 
+    // Column 0 is the generic damage multiplier, the rest follow the specific damage causes below.
+    private static final int CAUSE_OTHER = 0;
+    private static final int CAUSE_PHYSICAL = 1;
+    private static final int CAUSE_PROJECTILE = 2;
+    private static final int CAUSE_COMMAND = 3;
+    private static final int CAUSE_DROWNING = 4;
+    private static final int CAUSE_ENVIRONMENT = 5;
+    private static final int CAUSE_FALL = 6;
+    private static final int CAUSE_OUT_OF_WORLD = 7;
+    private static final int CAUSE_SUFFOCATION = 8;
+    private static final int CAUSE_COUNT = 9;
+    private static final SettingKey[] CAUSE_KEYS = {
+            SettingKey.DAMAGE_MULTIPLIER,
+            SettingKey.DAMAGE_MULTIPLIER_PHYSICAL,
+            SettingKey.DAMAGE_MULTIPLIER_PROJECTILE,
+            SettingKey.DAMAGE_MULTIPLIER_COMMAND,
+            SettingKey.DAMAGE_MULTIPLIER_DROWNING,
+            SettingKey.DAMAGE_MULTIPLIER_ENVIRONMENT,
+            SettingKey.DAMAGE_MULTIPLIER_FALL,
+            SettingKey.DAMAGE_MULTIPLIER_OUT_OF_WORLD,
+            SettingKey.DAMAGE_MULTIPLIER_SUFFOCATION
+    };
+
     private final Set<Dependency<EntityStore>> _dependencies;
-    private final float _minDamageFactor;
-    private final boolean _allowDamageModifier;
-    private final boolean _allowDamagePhysical;
-    private final boolean _allowDamageProjectile;
-    private final boolean _allowDamageCommand;
-    private final boolean _allowDamageDrowning;
-    private final boolean _allowDamageEnvironment;
-    private final boolean _allowDamageFall;
-    private final boolean _allowDamageOutOfWorld;
-    private final boolean _allowDamageSuffocation;
+    private volatile float _minDamageFactor;
+    private volatile boolean _allowDamageModifier;
+    private volatile MultiplierTable _multipliers;
 
     public PlayerDamageReceiveMultiplier() {
         _dependencies = Set.of(
@@ -54,17 +73,14 @@ public final class PlayerDamageReceiveMultiplier extends DamageEventSystem {
                 new SystemGroupDependency(Order.AFTER, DamageModule.get().getFilterDamageGroup()),
                 new SystemDependency(Order.BEFORE, DamageSystems.ApplyDamage.class)
         );
-        double minDamageFactor = DifficultyManager.getFromConfig(DifficultyIO.MIN_DAMAGE_FACTOR);
+        DifficultyManager.subscribe(this::applyConfig);
+    }
+
+    private void applyConfig(ConfigSnapshot snapshot) {
+        double minDamageFactor = snapshot.get(DifficultyIO.MIN_DAMAGE_FACTOR);
         _minDamageFactor = (float) minDamageFactor;
-        _allowDamageModifier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_MODIFIER);
-        _allowDamagePhysical = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_PHYSICAL);
-        _allowDamageProjectile = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_PROJECTILE);
-        _allowDamageCommand = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_COMMAND);
-        _allowDamageDrowning = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_DROWNING);
-        _allowDamageEnvironment = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_ENVIRONMENT);
-        _allowDamageFall = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_FALL);
-        _allowDamageOutOfWorld = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_OUT_OF_WORLD);
-        _allowDamageSuffocation = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DAMAGE_SUFFOCATION);
+        _allowDamageModifier = snapshot.get(DifficultyIO.ALLOW_DAMAGE_MODIFIER);
+        _multipliers = MultiplierTable.build(snapshot);
     }
 
     public static boolean toggleDebugMaxDamage(@Nonnull UUID playerUuid) {
@@ -106,20 +122,20 @@ public final class PlayerDamageReceiveMultiplier extends DamageEventSystem {
             @Nonnull Damage damage
     ) {
 
-        Logging.debug("[DAMAGE RECEIVE] Damage entry: " + damage.getAmount());
+        Logging.debug(Logging.Category.DAMAGE, () -> "[DAMAGE RECEIVE] Damage entry: " + damage.getAmount());
         if (!DamageRef.checkInvalidDamage(damage)) {
-            Logging.debug("[DAMAGE RECEIVE] skip: invalid damage amount/cause");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] skip: invalid damage amount/cause");
             return;
         }
 
         UUID victimUuid = DamageRef.resolveVictimUUID(index, chunk, store);
         if (victimUuid == null) {
-            Logging.debug("[DAMAGE RECEIVE] skip: victim is not a player");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] skip: victim is not a player");
             return;
         }
 
         if (!_allowDamageModifier) {
-            Logging.debug("[DAMAGE RECEIVE] skip: damage modifier disabled");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] skip: damage modifier disabled");
             return;
         }
 
@@ -127,16 +143,16 @@ public final class PlayerDamageReceiveMultiplier extends DamageEventSystem {
         if (debugEnabled) {
             float debugDamage = resolveMaxReceiveDamage(index, chunk, store);
             if (debugDamage > 0.0f && Float.isFinite(debugDamage)) {
-                Logging.debug("[DAMAGE RECEIVE] debug max damage applied=" + debugDamage);
+                Logging.debug(Logging.Category.DAMAGE, () -> "[DAMAGE RECEIVE] debug max damage applied=" + debugDamage);
                 damage.setAmount(debugDamage);
                 return;
             }
-            Logging.debug("[DAMAGE RECEIVE] debug max damage unavailable, fallback to scaling");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] debug max damage unavailable, fallback to scaling");
         }
 
         DamageContext ctx = buildContext(victimUuid, damage);
         if (ctx == null) {
-            Logging.debug("[DAMAGE RECEIVE] skip: no damage context");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] skip: no damage context");
             return;
         }
         float afterMultiplier = applyDamageMultiplier(ctx.baseDamage, ctx.damageMultiplier);
@@ -150,19 +166,19 @@ public final class PlayerDamageReceiveMultiplier extends DamageEventSystem {
     ) {
         String tierId = DifficultyManager.getDifficulty(victimUUID);
         if (tierId == null) {
-            Logging.debug("[DAMAGE RECEIVE] context: missing tier for victim=" + victimUUID);
+            Logging.debug(Logging.Category.DAMAGE, () -> "[DAMAGE RECEIVE] context: missing tier for victim=" + victimUUID);
             return null;
         }
 
-        double damageMultiplierCfg = resolveDamageMultiplier(tierId, damage.getCause());
+        float damageMultiplierCfg = resolveDamageMultiplier(tierId, damage.getCause());
         if (damageMultiplierCfg <= 0) {
-            Logging.debug("[DAMAGE RECEIVE] context: multiplier <= 0 tier=" + tierId + " cause=" + damage.getCause());
+            Logging.debug(Logging.Category.DAMAGE, () -> "[DAMAGE RECEIVE] context: multiplier <= 0 tier=" + tierId + " cause=" + damage.getCause());
             return null;
         }
 
         return new DamageContext(
                 damage.getAmount(),
-                (float) Math.max(0.0, damageMultiplierCfg)
+                Math.max(0.0f, damageMultiplierCfg)
         );
     }
 
@@ -174,112 +190,75 @@ public final class PlayerDamageReceiveMultiplier extends DamageEventSystem {
     ) {
         Ref<EntityStore> victimRef = chunk.getReferenceTo(index);
         if (!victimRef.isValid()) {
-            Logging.debug("[DAMAGE RECEIVE] debug max damage: invalid victim ref");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] debug max damage: invalid victim ref");
             return -1.0f;
         }
         EntityStatMap statMap = store.getComponent(victimRef, EntityStatsModule.get().getEntityStatMapComponentType());
         if (statMap == null) {
-            Logging.debug("[DAMAGE RECEIVE] debug max damage: missing stat map");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] debug max damage: missing stat map");
             return -1.0f;
         }
         int healthIndex = DefaultEntityStatTypes.getHealth();
         if (healthIndex == Integer.MIN_VALUE) {
-            Logging.debug("[DAMAGE RECEIVE] debug max damage: invalid health stat index");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] debug max damage: invalid health stat index");
             return -1.0f;
         }
         EntityStatValue health = statMap.get(healthIndex);
         if (health == null) {
-            Logging.debug("[DAMAGE RECEIVE] debug max damage: missing health stat");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] debug max damage: missing health stat");
             return -1.0f;
         }
         float maxHealth = health.getMax();
         if (!Float.isFinite(maxHealth) || maxHealth <= 0.0f) {
-            Logging.debug("[DAMAGE RECEIVE] debug max damage: invalid max health=" + maxHealth);
+            Logging.debug(Logging.Category.DAMAGE, () -> "[DAMAGE RECEIVE] debug max damage: invalid max health=" + maxHealth);
             return -1.0f;
         }
         double raw = (double) maxHealth + 1.0;
         if (raw >= Float.MAX_VALUE) {
-            Logging.debug("[DAMAGE RECEIVE] debug max damage: overflow, clamped to Float.MAX");
+            Logging.debug(Logging.Category.DAMAGE, "[DAMAGE RECEIVE] debug max damage: overflow, clamped to Float.MAX");
             return Float.MAX_VALUE;
         }
-        Logging.debug("[DAMAGE RECEIVE] debug max damage resolved=" + raw);
+        Logging.debug(Logging.Category.DAMAGE, () -> "[DAMAGE RECEIVE] debug max damage resolved=" + raw);
         return (float) raw;
     }
 
-    private double resolveDamageMultiplier(String tierId, DamageCause cause) {
-        double baseMultiplier = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_DAMAGE_MULTIPLIER);
-        SpecificDamageMultiplier specific = resolveSpecificDamageMultiplier(cause);
-        if (specific == null) {
-            Logging.debug("[DAMAGE RECEIVE] multiplier: using base=" + baseMultiplier + " (no specific for cause=" + cause + ")");
-            return baseMultiplier;
-        }
-        if (!specific.allowed()) {
-            Logging.debug("[DAMAGE RECEIVE] multiplier: specific not allowed key=" + specific.key() + " cause=" + cause);
-            return -1.0;
-        }
-        if (!hasTierOrBaseKey(tierId, specific.key())) {
-            Logging.debug("[DAMAGE RECEIVE] multiplier: using base=" + baseMultiplier + " (missing key=" + specific.key() + " tier=" + tierId + ")");
-            return baseMultiplier;
-        }
-        double resolved = DifficultyManager.getSettings().get(tierId, specific.key());
-        Logging.debug("[DAMAGE RECEIVE] multiplier: using specific " + specific.key() + "=" + resolved + " tier=" + tierId);
+    private float resolveDamageMultiplier(String tierId, DamageCause cause) {
+        MultiplierTable table = _multipliers;
+        int causeIndex = resolveCauseIndex(cause);
+        float resolved = table.get(table.registry.ordinal(tierId), causeIndex);
+        Logging.debug(Logging.Category.DAMAGE, () -> "[DAMAGE RECEIVE] multiplier: " + CAUSE_KEYS[causeIndex] + "=" + resolved + " tier=" + tierId + " cause=" + cause);
         return resolved;
     }
 
-    @Nullable
-    private SpecificDamageMultiplier resolveSpecificDamageMultiplier(@Nullable DamageCause cause) {
+    private static int resolveCauseIndex(@Nullable DamageCause cause) {
         if (cause == null) {
-            return null;
+            return CAUSE_OTHER;
         }
         if (cause == DamageCause.PHYSICAL) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_PHYSICAL, _allowDamagePhysical);
+            return CAUSE_PHYSICAL;
         }
         if (cause == DamageCause.PROJECTILE) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_PROJECTILE, _allowDamageProjectile);
+            return CAUSE_PROJECTILE;
         }
         if (cause == DamageCause.COMMAND) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_COMMAND, _allowDamageCommand);
+            return CAUSE_COMMAND;
         }
         if (cause == DamageCause.DROWNING) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_DROWNING, _allowDamageDrowning);
+            return CAUSE_DROWNING;
         }
         if (cause == DamageCause.ENVIRONMENT) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_ENVIRONMENT, _allowDamageEnvironment);
+            return CAUSE_ENVIRONMENT;
         }
         if (cause == DamageCause.FALL) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_FALL, _allowDamageFall);
+            return CAUSE_FALL;
         }
         if (cause == DamageCause.OUT_OF_WORLD) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_OUT_OF_WORLD, _allowDamageOutOfWorld);
+            return CAUSE_OUT_OF_WORLD;
         }
         if (cause == DamageCause.SUFFOCATION) {
-            return new SpecificDamageMultiplier(DifficultyIO.SETTING_DAMAGE_MULTIPLIER_SUFFOCATION, _allowDamageSuffocation);
+            return CAUSE_SUFFOCATION;
         }
-        return null;
-    }
-
-    private boolean hasTierOrBaseKey(String tierId, String key) {
-        if (tierId == null || key == null) {
-            return false;
-        }
-        JsonObject base = DifficultyManager.getConfig().getSection("base");
-        if (hasPrimitiveKey(base, key)) {
-            return true;
-        }
-        JsonObject tiers = DifficultyManager.getConfig().getSection("tiers");
-        JsonElement tierElement = tiers.get(tierId);
-        if (tierElement != null && tierElement.isJsonObject()) {
-            return hasPrimitiveKey(tierElement.getAsJsonObject(), key);
-        }
-        return false;
-    }
-
-    private boolean hasPrimitiveKey(JsonObject obj, String key) {
-        if (obj == null) {
-            return false;
-        }
-        JsonElement element = obj.get(key);
-        return element != null && element.isJsonPrimitive();
+        return CAUSE_OTHER;
     }
 
     public float applyDamageMultiplier(float damage, float damageMultiplier) {
@@ -292,6 +271,71 @@ public final class PlayerDamageReceiveMultiplier extends DamageEventSystem {
     private record DamageContext(float baseDamage, float damageMultiplier) {
     }
 
-    private record SpecificDamageMultiplier(String key, boolean allowed) {
+    /**
+     * Damage multiplier per tier and cause with the allow.damage.* flags and the base/tier key fallback
+     * already applied. The last row serves tier ids that are not configured; -1 marks a disabled cause.
+     */
+    private static final class MultiplierTable {
+        private final TierRegistry registry;
+        private final float[] values;
+
+        private MultiplierTable(TierRegistry registry, float[] values) {
+            this.registry = registry;
+            this.values = values;
+        }
+
+        private float get(int ordinal, int causeIndex) {
+            int row = registry.isValid(ordinal) ? ordinal : registry.tierCount();
+            return values[row * CAUSE_COUNT + causeIndex];
+        }
+
+        private static MultiplierTable build(ConfigSnapshot snapshot) {
+            TierRegistry registry = snapshot.settings().registry();
+            boolean[] allowed = {
+                    true,
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_PHYSICAL),
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_PROJECTILE),
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_COMMAND),
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_DROWNING),
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_ENVIRONMENT),
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_FALL),
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_OUT_OF_WORLD),
+                    snapshot.get(DifficultyIO.ALLOW_DAMAGE_SUFFOCATION)
+            };
+            JsonObject base = snapshot.config().getSection("base");
+            JsonObject tiers = snapshot.config().getSection("tiers");
+
+            int rows = registry.tierCount() + 1;
+            float[] values = new float[rows * CAUSE_COUNT];
+            for (int row = 0; row < rows; row++) {
+                JsonObject tier = null;
+                if (row < registry.tierCount()) {
+                    JsonElement tierElement = tiers.get(registry.tierId(row));
+                    tier = tierElement != null && tierElement.isJsonObject() ? tierElement.getAsJsonObject() : null;
+                }
+                float generic = (float) registry.get(row, SettingKey.DAMAGE_MULTIPLIER);
+                values[row * CAUSE_COUNT + CAUSE_OTHER] = generic;
+                for (int cause = CAUSE_OTHER + 1; cause < CAUSE_COUNT; cause++) {
+                    float value;
+                    if (!allowed[cause]) {
+                        value = -1.0f;
+                    } else if (hasPrimitiveKey(base, CAUSE_KEYS[cause].key()) || hasPrimitiveKey(tier, CAUSE_KEYS[cause].key())) {
+                        value = (float) registry.get(row, CAUSE_KEYS[cause]);
+                    } else {
+                        value = generic;
+                    }
+                    values[row * CAUSE_COUNT + cause] = value;
+                }
+            }
+            return new MultiplierTable(registry, values);
+        }
+
+        private static boolean hasPrimitiveKey(@Nullable JsonObject obj, String key) {
+            if (obj == null) {
+                return false;
+            }
+            JsonElement element = obj.get(key);
+            return element != null && element.isJsonPrimitive();
+        }
     }
 }
@@ -0,0 +1,36 @@
+package ascendant.core.scaling;
+
+import ascendant.core.config.ConfigSnapshot;
+import ascendant.core.config.DifficultyIO;
+import ascendant.core.config.DifficultyManager;
+import ascendant.core.events.DifficultyEventBus;
+import ascendant.core.util.PlayerSpatialIndex;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+public final class PlayerSpatialIndexTickSystem extends TickingSystem<EntityStore> {
+    private volatile double _radius;
+
+    public PlayerSpatialIndexTickSystem() {
+        DifficultyManager.subscribe(this::applyConfig);
+        DifficultyEventBus.subscribe(DifficultyEventBus.PlayerTierChanged.class, _event -> PlayerSpatialIndex.invalidateTierFields());
+    }
+
+    private void applyConfig(ConfigSnapshot snapshot) {
+        _radius = Math.max(0.0, snapshot.get(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK));
+        PlayerSpatialIndex.invalidateTierFields();
+    }
+
+    @Override
+    public void tick(float dt, int tick, @Nonnull Store<EntityStore> store) {
+        World world = store.getExternalData().getWorld();
+        if (world == null) {
+            return;
+        }
+        PlayerSpatialIndex.rebuild(world, store, _radius);
+    }
+}
@@ -1,12 +1,18 @@
 package ascendant.core.scaling;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
+import ascendant.core.config.SettingKey;
 import ascendant.core.util.Logging;
 import ascendant.core.util.NearestPlayerFinder;
 import ascendant.core.util.ReflectionHelper;
 import com.hypixel.hytale.component.*;
+import com.hypixel.hytale.component.dependency.Dependency;
+import com.hypixel.hytale.component.dependency.Order;
+import com.hypixel.hytale.component.dependency.SystemDependency;
 import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.HolderSystem;
 import com.hypixel.hytale.component.system.RefSystem;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
@@ -21,7 +27,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -42,29 +47,40 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
     private static final Set<String> LOGGED_MISSING_MULTIPLIER = ConcurrentHashMap.newKeySet();
     private static final Set<String> LOGGED_FALLBACK_TIER = ConcurrentHashMap.newKeySet();
     private static final Set<String> LOGGED_FLOCK_ROLE_SKIP = ConcurrentHashMap.newKeySet();
-    private static final Set<String> LOGGED_FLOCK_REMOVE_SKIP = ConcurrentHashMap.newKeySet();
     private static final AtomicBoolean LOGGED_FLOCK_COMPONENT_MISSING = new AtomicBoolean(false);
+    private static final AtomicBoolean CONFIG_SUBSCRIBED = new AtomicBoolean(false);
     private static final ComponentType<EntityStore, ?> FLOCK_MEMBERSHIP_TYPE =
             resolveComponentType("com.hypixel.hytale.server.flock.FlockMembership");
     private static final ComponentType<EntityStore, ?> FLOCK_COMPONENT_TYPE = resolveFlockComponentType();
     private static final ConcurrentHashMap<World, ConcurrentLinkedQueue<PendingRemoval>> PENDING_REMOVALS =
             new ConcurrentHashMap<>();
-    private static final int REMOVAL_DELAY_TICKS = 5;
-    private static final Constructor<?> COMMAND_BUFFER_CTOR =
-            ReflectionHelper.getDeclaredConstructor(CommandBuffer.class, Store.class);
-    private static final Method COMMAND_BUFFER_CONSUME =
-            ReflectionHelper.getDeclaredMethod(CommandBuffer.class, "consume");
+    private static final ConcurrentHashMap<World, ConcurrentLinkedQueue<PendingSpawn>> PENDING_SPAWNS =
+            new ConcurrentHashMap<>();
+    // vetoed spawns skip scaling and elite rolls, so they only wait for the spawner to finish its own tick
+    private static final int REMOVAL_DELAY_TICKS = 1;
+    private static ComponentType<EntityStore, SpawnVetoComponent> SPAWN_VETO_COMPONENT_TYPE;
 
-    private final float _fallbackRadiusSq;
-    private final boolean _allowSpawnCountMultiplier;
+    // shared by VetoSystem and this system so both paths see the same config
+    private static volatile float _fallbackRadiusSq;
+    private static volatile boolean _allowSpawnCountMultiplier;
 
     public SpawnCountMultiplierSystem() {
-        double radius = DifficultyManager.getFromConfig(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
+        subscribeConfig();
+    }
+
+    private static void subscribeConfig() {
+        if (CONFIG_SUBSCRIBED.compareAndSet(false, true)) {
+            DifficultyManager.subscribe(SpawnCountMultiplierSystem::applyConfig);
+        }
+    }
+
+    private static void applyConfig(ConfigSnapshot snapshot) {
+        double radius = snapshot.get(DifficultyIO.PLAYER_DISTANCE_RADIUS_TO_CHECK);
         float r = (float) Math.max(0.0, radius);
         _fallbackRadiusSq = r * r;
-        _allowSpawnCountMultiplier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_SPAWN_COUNT_MULTIPLIER);
+        _allowSpawnCountMultiplier = snapshot.get(DifficultyIO.ALLOW_SPAWN_COUNT_MULTIPLIER);
         if (!_allowSpawnCountMultiplier && LOGGED_DISABLED.compareAndSet(false, true)) {
-            Logging.debug("[SPAWNCOUNT] disabled by config");
+            Logging.debug(Logging.Category.SPAWN_COUNT, "[SPAWNCOUNT] disabled by config");
         }
     }
 
@@ -74,6 +90,26 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         return guard || skipped;
     }
 
+    // True for spawns that VetoSystem dropped; they are always removed shortly and get no scaling or elite roll.
+    public static boolean isVetoed(@Nonnull Holder<EntityStore> holder) {
+        ComponentType<EntityStore, SpawnVetoComponent> type = SPAWN_VETO_COMPONENT_TYPE;
+        return type != null && holder.getComponent(type) != null;
+    }
+
+    public static boolean isVetoed(@Nonnull Store<EntityStore> store, @Nonnull Ref<EntityStore> ref) {
+        return getVetoedTier(store, ref) != null;
+    }
+
+    @Nullable
+    private static String getVetoedTier(@Nonnull Store<EntityStore> store, @Nonnull Ref<EntityStore> ref) {
+        ComponentType<EntityStore, SpawnVetoComponent> type = SPAWN_VETO_COMPONENT_TYPE;
+        if (type == null) {
+            return null;
+        }
+        SpawnVetoComponent component = store.getComponent(ref, type);
+        return component == null ? null : component.getTierId();
+    }
+
     private static int computeExtraCount(double multiplier) {
         if (!Double.isFinite(multiplier) || multiplier <= 1.0) {
             return 0;
@@ -167,43 +203,22 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         ComponentType<EntityStore, ?> type = FLOCK_MEMBERSHIP_TYPE;
         if (type == null) {
             if (LOGGED_FLOCK_COMPONENT_MISSING.compareAndSet(false, true)) {
-                Logging.debug("[SPAWNCOUNT] flock membership component not available; cannot skip flock spawns");
+                Logging.debug(Logging.Category.SPAWN_COUNT, "[SPAWNCOUNT] flock membership component not available; cannot skip flock spawns");
             }
             return false;
         }
         return hasComponent(ref, store, commandBuffer, type);
     }
 
-    private static boolean hasFlockComponent(
-            @Nonnull Ref<EntityStore> ref,
-            @Nonnull Store<EntityStore> store,
-            @Nonnull CommandBuffer<EntityStore> commandBuffer
-    ) {
-        return hasComponent(ref, store, commandBuffer, FLOCK_COMPONENT_TYPE);
-    }
-
-    private static boolean isFlockRelated(
-            @Nonnull Ref<EntityStore> ref,
-            @Nonnull Store<EntityStore> store,
-            @Nonnull CommandBuffer<EntityStore> commandBuffer
-    ) {
-        return getFlockFlags(ref, store, commandBuffer) != 0;
-    }
-
+    // Flock membership was already checked by VetoSystem; a marked entity is removed unconditionally.
     private static boolean tryRemoveEntity(
             @Nonnull Ref<EntityStore> ref,
             @Nonnull Store<EntityStore> store,
-            @Nonnull CommandBuffer<EntityStore> commandBuffer,
             @Nonnull String tierId
     ) {
         if (!ref.isValid() || store.isShutdown()) {
             return false;
         }
-        int flockFlags = getFlockFlags(ref, store, commandBuffer);
-        if (flockFlags != 0) {
-            maybeLogFlockRemoveSkip(ref, store, commandBuffer, tierId, flockFlags);
-            return false;
-        }
         enqueueRemoval(store, ref, tierId);
         return true;
     }
@@ -250,36 +265,29 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         return npc;
     }
 
-    private static void maybeLogFlockRemoveSkip(
-            @Nonnull Ref<EntityStore> ref,
-            @Nonnull Store<EntityStore> store,
-            @Nonnull CommandBuffer<EntityStore> commandBuffer,
-            @Nonnull String tierId,
-            int flockFlags
-    ) {
-        String roleName = resolveRoleName(ref, store, commandBuffer);
-        String key = roleName != null ? roleName : ref.toString();
-        if (LOGGED_FLOCK_REMOVE_SKIP.add(key)) {
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] tier=%s role=%s flock entity detected (%s); skipping removal",
-                    tierId, roleName != null ? roleName : "<unknown>", flockFlagsToString(flockFlags)));
-        }
-    }
-
     static void drainPendingRemovals(@Nonnull Store<EntityStore> store, int tick) {
         World world = store.getExternalData().getWorld();
         ConcurrentLinkedQueue<PendingRemoval> queue = PENDING_REMOVALS.get(world);
-        if (queue == null || queue.isEmpty() || store.isShutdown()) {
-            if (queue == null && !PENDING_REMOVALS.isEmpty()) {
-                Logging.debug(String.format(Locale.ROOT,
+        if (queue == null) {
+            if (!PENDING_REMOVALS.isEmpty() && Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                Logging.debug(Logging.Category.SPAWN_COUNT,
                         "[SPAWNCOUNT] removal drain: no queue for world=%s tick=%d mapSize=%d",
-                        world, tick, PENDING_REMOVALS.size()));
+                        world, tick, PENDING_REMOVALS.size());
             }
             return;
         }
-        Logging.debug(String.format(Locale.ROOT,
-                "[SPAWNCOUNT] removal drain start tick=%d world=%s queue=%d",
-                tick, world, queue.size()));
+        if (queue.isEmpty() || store.isShutdown()) {
+            // an unloaded world must not stay referenced by its queue
+            PENDING_REMOVALS.remove(world, queue);
+            return;
+        }
+        if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+            Logging.debug(Logging.Category.SPAWN_COUNT,
+                    "[SPAWNCOUNT] removal drain start tick=%d world=%s queue=%d",
+                    tick, world, queue.size());
+        }
+        // everything due this tick goes into one task and one CommandBuffer
+        List<PendingRemoval> due = null;
         while (true) {
             PendingRemoval pending = queue.peek();
             if (pending == null) {
@@ -290,25 +298,66 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
             }
             queue.poll();
             if (pending.ref == null || !pending.ref.isValid()) {
-                Logging.debug(String.format(Locale.ROOT,
-                        "[SPAWNCOUNT] removal skip invalid ref tier=%s ref=%s",
-                        pending.tierId, pending.ref));
+                if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                    Logging.debug(Logging.Category.SPAWN_COUNT,
+                            "[SPAWNCOUNT] removal skip invalid ref tier=%s ref=%s",
+                            pending.tierId, pending.ref);
+                }
                 continue;
             }
-            world.execute(() -> removeQueued(store, pending));
+            if (due == null) {
+                due = new ArrayList<>();
+            }
+            due.add(pending);
         }
         if (queue.isEmpty()) {
             PENDING_REMOVALS.remove(world, queue);
         }
+        if (due != null) {
+            List<PendingRemoval> batch = due;
+            world.execute(() -> removeQueued(store, batch));
+        }
+    }
+
+    // Spawns of one tick are applied together in one world task instead of one task per spawning entity.
+    static void drainPendingSpawns(@Nonnull Store<EntityStore> store) {
+        if (PENDING_SPAWNS.isEmpty()) {
+            return;
+        }
+        World world = store.getExternalData().getWorld();
+        ConcurrentLinkedQueue<PendingSpawn> queue = PENDING_SPAWNS.get(world);
+        if (queue == null) {
+            return;
+        }
+        if (queue.isEmpty() || store.isShutdown()) {
+            // an unloaded world must not stay referenced by its queue
+            PENDING_SPAWNS.remove(world, queue);
+            return;
+        }
+        List<PendingSpawn> batch = new ArrayList<>(queue.size());
+        PendingSpawn pending;
+        while ((pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        if (queue.isEmpty()) {
+            PENDING_SPAWNS.remove(world, queue);
+        }
+        world.execute(() -> {
+            for (PendingSpawn spawn : batch) {
+                spawnExtras(store, spawn.roleName, spawn.rotation, spawn.positions, spawn.tierId, spawn.source, spawn.multiplier);
+            }
+        });
     }
 
     static void logRemovalTick(@Nonnull Store<EntityStore> store, int tick) {
         World world = store.getExternalData().getWorld();
         ConcurrentLinkedQueue<PendingRemoval> queue = PENDING_REMOVALS.get(world);
         int size = queue == null ? 0 : queue.size();
-        Logging.debug(String.format(Locale.ROOT,
-                "[SPAWNCOUNT] removal tick=%d world=%s queue=%d",
-                tick, world, size));
+        if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+            Logging.debug(Logging.Category.SPAWN_COUNT,
+                    "[SPAWNCOUNT] removal tick=%d world=%s queue=%d",
+                    tick, world, size);
+        }
     }
 
     private static void enqueueRemoval(
@@ -320,7 +369,8 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         int tick = SpawnCountRemovalTickSystem.getCurrentTick();
         PendingRemoval pending = new PendingRemoval(ref, tierId, Math.max(0, tick));
         PENDING_REMOVALS.computeIfAbsent(world, ignored -> new ConcurrentLinkedQueue<>()).add(pending);
-        Logging.debug(String.format(Locale.ROOT,
+        // role lookup only when the line is actually written
+        Logging.debug(Logging.Category.SPAWN_COUNT, () -> String.format(Locale.ROOT,
                 "[SPAWNCOUNT] queued removal tier=%s role=%s tick=%d ref=%s world=%s",
                 tierId,
                 resolveRoleName(ref, store, null),
@@ -329,96 +379,39 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
                 world));
     }
 
-    @Nullable
-    private static CommandBuffer<EntityStore> newCommandBuffer(@Nonnull Store<EntityStore> store) {
-        if (COMMAND_BUFFER_CTOR == null) {
-            Logging.debug("[SPAWNCOUNT] CommandBuffer ctor not found; cannot remove queued entities");
-            return null;
-        }
-        try {
-            Object created = COMMAND_BUFFER_CTOR.newInstance(store);
-            @SuppressWarnings("unchecked")
-            CommandBuffer<EntityStore> buffer = (CommandBuffer<EntityStore>) created;
-            return buffer;
-        } catch (Throwable ignored) {
-            Logging.debug("[SPAWNCOUNT] CommandBuffer ctor failed; cannot remove queued entities");
-            return null;
-        }
-    }
-
-    private static void consume(@Nullable CommandBuffer<?> buffer) {
-        if (buffer == null || COMMAND_BUFFER_CONSUME == null) {
-            return;
-        }
-        try {
-            COMMAND_BUFFER_CONSUME.invoke(buffer);
-        } catch (Throwable ignored) {
-        }
-    }
-
-    private static int getFlockFlags(
-            @Nonnull Ref<EntityStore> ref,
-            @Nonnull Store<EntityStore> store,
-            @Nonnull CommandBuffer<EntityStore> commandBuffer
-    ) {
-        int flags = 0;
-        if (hasFlockMembership(ref, store, commandBuffer)) {
-            flags |= 1;
-        }
-        if (hasFlockComponent(ref, store, commandBuffer)) {
-            flags |= 2;
-        }
-        return flags;
-    }
-
-    private static String flockFlagsToString(int flags) {
-        if (flags == 0) {
-            return "none";
-        }
-        StringBuilder sb = new StringBuilder();
-        if ((flags & 1) != 0) {
-            sb.append("membership");
-        }
-        if ((flags & 2) != 0) {
-            if (!sb.isEmpty()) sb.append(",");
-            sb.append("component");
-        }
-        return sb.toString();
-    }
-
-    private static void removeQueued(@Nonnull Store<EntityStore> store, @Nonnull PendingRemoval pending) {
+    private static void removeQueued(@Nonnull Store<EntityStore> store, @Nonnull List<PendingRemoval> batch) {
         if (store.isShutdown()) {
             return;
         }
-        CommandBuffer<EntityStore> buffer = newCommandBuffer(store);
+        CommandBuffer<EntityStore> buffer = CommandBuffers.create(store);
         if (buffer == null) {
-            Logging.debug("[SPAWNCOUNT] removal task skipped: CommandBuffer unavailable");
+            // vetoed entities must not stay in the world; retry them on the next drain
+            Logging.debug(Logging.Category.SPAWN_COUNT, "[SPAWNCOUNT] removal task deferred: CommandBuffer unavailable");
+            PENDING_REMOVALS.computeIfAbsent(store.getExternalData().getWorld(), ignored -> new ConcurrentLinkedQueue<>())
+                    .addAll(batch);
             return;
         }
-        if (pending.ref == null || !pending.ref.isValid()) {
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] removal task skip invalid ref tier=%s ref=%s",
-                    pending.tierId, pending.ref));
-            return;
-        }
-        int flockFlags = getFlockFlags(pending.ref, store, buffer);
-        if (flockFlags != 0) {
-            maybeLogFlockRemoveSkip(pending.ref, store, buffer, pending.tierId, flockFlags);
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] removal task skip flock tier=%s role=%s flags=%s ref=%s",
+        int removed = 0;
+        for (PendingRemoval pending : batch) {
+            if (pending.ref == null || !pending.ref.isValid()) {
+                if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                    Logging.debug(Logging.Category.SPAWN_COUNT,
+                            "[SPAWNCOUNT] removal task skip invalid ref tier=%s ref=%s",
+                            pending.tierId, pending.ref);
+                }
+                continue;
+            }
+            Logging.debug(Logging.Category.SPAWN_COUNT, () -> String.format(Locale.ROOT,
+                    "[SPAWNCOUNT] removed queued tier=%s role=%s ref=%s",
                     pending.tierId,
                     resolveRoleName(pending.ref, store, buffer),
-                    flockFlagsToString(flockFlags),
                     pending.ref));
-            return;
+            buffer.removeEntity(pending.ref, RemoveReason.REMOVE);
+            removed++;
+        }
+        if (removed > 0) {
+            CommandBuffers.consume(buffer);
         }
-        buffer.removeEntity(pending.ref, RemoveReason.REMOVE);
-        consume(buffer);
-        Logging.debug(String.format(Locale.ROOT,
-                "[SPAWNCOUNT] removed queued tier=%s role=%s ref=%s",
-                pending.tierId,
-                resolveRoleName(pending.ref, store, buffer),
-                pending.ref));
     }
 
     private static void spawnExtras(
@@ -451,9 +444,11 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         } finally {
             SPAWN_GUARD.set(Boolean.FALSE);
         }
-        Logging.debug(String.format(Locale.ROOT,
-                "[SPAWNCOUNT] tier=%s source=%s multiplier=%.3f spawned=%d/%d extras",
-                tierId, source, multiplier, spawned, positions.size()));
+        if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+            Logging.debug(Logging.Category.SPAWN_COUNT,
+                    "[SPAWNCOUNT] tier=%s source=%s multiplier=%.3f spawned=%d/%d extras",
+                    tierId, source, multiplier, spawned, positions.size());
+        }
     }
 
     @Nonnull
@@ -476,6 +471,18 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         if (reason != AddReason.SPAWN) {
             return;
         }
+        // VetoSystem made the keep/drop decision before the entity was committed; honour it even if the
+        // config or the nearest player changed since, so a marked entity never stays in the world
+        String vetoedTier = getVetoedTier(store, ref);
+        if (vetoedTier != null) {
+            boolean queued = tryRemoveEntity(ref, store, vetoedTier);
+            if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                Logging.debug(Logging.Category.SPAWN_COUNT,
+                        "[SPAWNCOUNT] tier=%s vetoed spawn action=%s ref=%s",
+                        vetoedTier, queued ? "queue" : "skip", ref);
+            }
+            return;
+        }
         if (!_allowSpawnCountMultiplier) {
             return;
         }
@@ -483,48 +490,40 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
             return;
         }
 
-        TierResolution tierResolution = resolveTier(store, ref);
+        TierResolution tierResolution = resolveTier(
+                store,
+                NearestPlayerHealthScaleSystem.getSpawnTier(store, ref),
+                positionOf(store.getComponent(ref, TransformComponent.getComponentType())));
         String tierId = tierResolution.tierId;
         if (tierId == null || tierId.isBlank()) {
             return;
         }
         if ("default".equals(tierResolution.source) && LOGGED_FALLBACK_TIER.add(tierId)) {
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] using default tier=%s (no player within radius)",
-                    tierId));
+            if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                Logging.debug(Logging.Category.SPAWN_COUNT,
+                        "[SPAWNCOUNT] using default tier=%s (no player within radius)",
+                        tierId);
+            }
         }
 
-        double multiplier = DifficultyManager.getSettings().get(tierId, DifficultyIO.SETTING_SPAWN_COUNT_MULTIPLIER);
+        double multiplier = DifficultyManager.getSettings().get(tierId, SettingKey.SPAWN_COUNT_MULTIPLIER);
         if (!hasExplicitMultiplier(tierId) && LOGGED_MISSING_MULTIPLIER.add(tierId)) {
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] missing spawn_count_multiplier for tier=%s; defaulting to %.3f",
-                    tierId, multiplier));
+            if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                Logging.debug(Logging.Category.SPAWN_COUNT,
+                        "[SPAWNCOUNT] missing spawn_count_multiplier for tier=%s; defaulting to %.3f",
+                        tierId, multiplier);
+            }
         }
         if (!Double.isFinite(multiplier)) {
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] tier=%s multiplier=NaN; skipping",
-                    tierId));
-            return;
-        }
-        if (multiplier <= 0.0) {
-            boolean queued = tryRemoveEntity(ref, store, commandBuffer, tierId);
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] tier=%s multiplier=%.3f action=%s ref=%s",
-                    tierId, multiplier, queued ? "queue" : "skip", ref));
+            if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                Logging.debug(Logging.Category.SPAWN_COUNT,
+                        "[SPAWNCOUNT] tier=%s multiplier=NaN; skipping",
+                        tierId);
+            }
             return;
         }
         if (multiplier < 1.0) {
-            double roll = ThreadLocalRandom.current().nextDouble();
-            boolean keep = roll < multiplier;
-            String action;
-            if (keep) {
-                action = "keep";
-            } else {
-                action = tryRemoveEntity(ref, store, commandBuffer, tierId) ? "queue" : "skip";
-            }
-            Logging.debug(String.format(Locale.ROOT,
-                    "[SPAWNCOUNT] tier=%s multiplier=%.3f roll=%.3f action=%s ref=%s",
-                    tierId, multiplier, roll, action, ref));
+            // kept by VetoSystem's roll
             return;
         }
 
@@ -551,15 +550,19 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         }
         if (isFlockMember(ref, store, commandBuffer)) {
             if (LOGGED_FLOCK_ROLE_SKIP.add(roleName)) {
-                Logging.debug(String.format(Locale.ROOT,
-                        "[SPAWNCOUNT] role=%s flock member detected; skipping spawn multiplier",
-                        roleName));
+                if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                    Logging.debug(Logging.Category.SPAWN_COUNT,
+                            "[SPAWNCOUNT] role=%s flock member detected; skipping spawn multiplier",
+                            roleName);
+                }
             }
             return;
         }
-        Logging.debug(String.format(Locale.ROOT,
-                "[SPAWNCOUNT] tier=%s source=%s multiplier=%.3f extra=%d role=%s",
-                tierId, tierResolution.source, multiplier, extraCount, roleName));
+        if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+            Logging.debug(Logging.Category.SPAWN_COUNT,
+                    "[SPAWNCOUNT] tier=%s source=%s multiplier=%.3f extra=%d role=%s",
+                    tierId, tierResolution.source, multiplier, extraCount, roleName);
+        }
 
         TransformComponent transform = commandBuffer.getComponent(ref, TransformComponent.getComponentType());
         if (transform == null) {
@@ -587,7 +590,8 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
 
         World world = store.getExternalData().getWorld();
         Vector3f rotationCopy = new Vector3f(rotation.getX(), rotation.getY(), rotation.getZ());
-        world.execute(() -> spawnExtras(store, roleName, rotationCopy, spawnPositions, tierId, tierResolution.source, multiplier));
+        PENDING_SPAWNS.computeIfAbsent(world, ignored -> new ConcurrentLinkedQueue<>())
+                .add(new PendingSpawn(roleName, rotationCopy, spawnPositions, tierId, tierResolution.source, multiplier));
     }
 
     @Override
@@ -595,27 +599,32 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
 
     }
 
-    private TierResolution resolveTier(@Nonnull Store<EntityStore> store, @Nonnull Ref<EntityStore> ref) {
+    // Used by the veto (Holder) and the multiplier (Ref) path alike, so both roll against the same tier.
+    @Nonnull
+    private static TierResolution resolveTier(
+            @Nonnull Store<EntityStore> store,
+            @Nullable String spawnTier,
+            @Nullable Vector3d position
+    ) {
         if (DifficultyManager.isWorldTierActive()) {
             return new TierResolution(DifficultyManager.getWorldTier(), "world");
         }
 
-        String tierId = NearestPlayerHealthScaleSystem.getSpawnTier(store, ref);
-        if (tierId != null && !tierId.isBlank()) {
-            return new TierResolution(tierId, "component");
+        if (spawnTier != null && !spawnTier.isBlank()) {
+            return new TierResolution(spawnTier, "component");
         }
 
         World world = store.getExternalData().getWorld();
-        Player nearest = NearestPlayerFinder.findNearestPlayer(world, store, ref, _fallbackRadiusSq);
-        if (nearest != null) {
-            String nearestTier = DifficultyManager.getDifficulty(nearest.getUuid());
-            return new TierResolution(nearestTier, "nearest");
-        }
-        if (!world.getPlayers().isEmpty()) {
-            Player nearestAny = NearestPlayerFinder.findNearestPlayer(world, store, ref, Float.MAX_VALUE);
-            if (nearestAny != null) {
-                String nearestTier = DifficultyManager.getDifficulty(nearestAny.getUuid());
-                return new TierResolution(nearestTier, "nearestAny");
+        if (position != null) {
+            String nearestTier = NearestPlayerFinder.findNearestPlayerTier(world, store, position, _fallbackRadiusSq);
+            if (nearestTier != null) {
+                return new TierResolution(nearestTier, "nearest");
+            }
+            if (!world.getPlayers().isEmpty()) {
+                Player nearestAny = NearestPlayerFinder.findNearestPlayer(world, store, position, Float.MAX_VALUE);
+                if (nearestAny != null) {
+                    return new TierResolution(DifficultyManager.getDifficulty(nearestAny.getUuid()), "nearestAny");
+                }
             }
         }
 
@@ -623,6 +632,149 @@ public final class SpawnCountMultiplierSystem extends RefSystem<EntityStore> {
         return new TierResolution(fallback, "default");
     }
 
+    @Nullable
+    private static Vector3d positionOf(@Nullable TransformComponent transform) {
+        return transform == null ? null : transform.getPosition();
+    }
+
+    /**
+     * Decides the drop roll for multipliers below 1 while the entity is still a Holder. Runs before
+     * NearestPlayerHealthScaleSystem; a dropped spawn gets the veto marker, which the health and elite systems
+     * check, and SpawnCountMultiplierSystem queues it for removal once it has a Ref.
+     */
+    public static final class VetoSystem extends HolderSystem<EntityStore> {
+        public VetoSystem() {
+            ensureSpawnVetoComponentType();
+            subscribeConfig();
+        }
+
+        @Nonnull
+        @Override
+        public Query<EntityStore> getQuery() {
+            return Query.and(
+                    NPCEntity.getComponentType(),
+                    TransformComponent.getComponentType(),
+                    Query.not(Player.getComponentType())
+            );
+        }
+
+        @Nonnull
+        @Override
+        public Set<Dependency<EntityStore>> getDependencies() {
+            return Set.of(new SystemDependency(Order.BEFORE, NearestPlayerHealthScaleSystem.class));
+        }
+
+        @Override
+        public void onEntityAdd(@Nonnull Holder<EntityStore> holder,
+                                @Nonnull AddReason reason,
+                                @Nonnull Store<EntityStore> store) {
+            if (reason != AddReason.SPAWN || !_allowSpawnCountMultiplier) {
+                return;
+            }
+            // extras spawned by this system are never dropped
+            if (Boolean.TRUE.equals(SPAWN_GUARD.get())) {
+                return;
+            }
+            // without a standalone CommandBuffer the removal could never run, so nothing is vetoed
+            ComponentType<EntityStore, SpawnVetoComponent> type = SPAWN_VETO_COMPONENT_TYPE;
+            if (type == null || !CommandBuffers.isAvailable()) {
+                return;
+            }
+
+            String tierId = resolveTier(
+                    store,
+                    NearestPlayerHealthScaleSystem.getSpawnTier(holder),
+                    positionOf(holder.getComponent(TransformComponent.getComponentType()))).tierId;
+            if (tierId == null || tierId.isBlank()) {
+                return;
+            }
+            double multiplier = DifficultyManager.getSettings().get(tierId, SettingKey.SPAWN_COUNT_MULTIPLIER);
+            if (!Double.isFinite(multiplier) || multiplier >= 1.0) {
+                return;
+            }
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (multiplier > 0.0 && roll < multiplier) {
+                return;
+            }
+            if (hasHolderComponent(holder, FLOCK_MEMBERSHIP_TYPE) || hasHolderComponent(holder, FLOCK_COMPONENT_TYPE)) {
+                if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                    Logging.debug(Logging.Category.SPAWN_COUNT,
+                            "[SPAWNCOUNT] tier=%s multiplier=%.3f flock spawn; veto skipped",
+                            tierId, multiplier);
+                }
+                return;
+            }
+            holder.ensureAndGetComponent(type).setTierId(tierId);
+            if (Logging.isDebugEnabled(Logging.Category.SPAWN_COUNT)) {
+                Logging.debug(Logging.Category.SPAWN_COUNT,
+                        "[SPAWNCOUNT] tier=%s multiplier=%.3f roll=%.3f action=veto",
+                        tierId, multiplier, roll);
+            }
+        }
+
+        @Override
+        public void onEntityRemoved(@Nonnull Holder<EntityStore> holder, @Nonnull RemoveReason reason, @Nonnull Store<EntityStore> store) {
+        }
+
+        private static boolean hasHolderComponent(
+                @Nonnull Holder<EntityStore> holder,
+                @Nullable ComponentType<EntityStore, ?> type
+        ) {
+            if (type == null) {
+                return false;
+            }
+            try {
+                return holder.getComponent(type) != null;
+            } catch (Throwable ignored) {
+                return false;
+            }
+        }
+
+        private void ensureSpawnVetoComponentType() {
+            if (SPAWN_VETO_COMPONENT_TYPE != null) {
+                return;
+            }
+            // no codec: the marker must never be saved with the chunk
+            SPAWN_VETO_COMPONENT_TYPE = registerComponent(SpawnVetoComponent.class, SpawnVetoComponent::new);
+        }
+    }
+
+    // Marker for a spawn the multiplier dropped; remembers the tier it was rolled against.
+    public static final class SpawnVetoComponent implements Component<EntityStore> {
+        private String tierId = "";
+
+        public SpawnVetoComponent() {
+        }
+
+        public SpawnVetoComponent(@Nullable String tierId) {
+            setTierId(tierId);
+        }
+
+        @Nonnull
+        public String getTierId() {
+            return tierId;
+        }
+
+        public void setTierId(@Nullable String tierId) {
+            this.tierId = tierId == null ? "" : tierId;
+        }
+
+        @Override
+        public @Nullable Component<EntityStore> clone() {
+            return new SpawnVetoComponent(this.tierId);
+        }
+    }
+
+    private record PendingSpawn(
+            String roleName,
+            Vector3f rotation,
+            List<Vector3d> positions,
+            String tierId,
+            String source,
+            double multiplier
+    ) {
+    }
+
     private record PendingRemoval(
             Ref<EntityStore> ref,
             String tierId,
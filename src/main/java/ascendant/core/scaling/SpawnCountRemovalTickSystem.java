@@ -7,6 +7,7 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import javax.annotation.Nonnull;
 import java.util.concurrent.atomic.AtomicInteger;
 
+// Drains the spawn-count queues once per world tick: due removals and queued extra spawns, each as one batch.
 public final class SpawnCountRemovalTickSystem extends TickingSystem<EntityStore> {
     private static final AtomicInteger CURRENT_TICK = new AtomicInteger(0);
 
@@ -21,5 +22,6 @@ public final class SpawnCountRemovalTickSystem extends TickingSystem<EntityStore
             SpawnCountMultiplierSystem.logRemovalTick(store, current);
         }
         SpawnCountMultiplierSystem.drainPendingRemovals(store, current);
+        SpawnCountMultiplierSystem.drainPendingSpawns(store);
     }
 }
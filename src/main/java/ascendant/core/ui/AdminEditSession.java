@@ -0,0 +1,95 @@
+package ascendant.core.ui;
+
+import ascendant.core.config.DifficultyAdminConfigEditor;
+import com.google.gson.JsonElement;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pending admin edits of one player. Clicks only change this session; apply() hands everything
+ * to DifficultyAdminConfigEditor as one batch, which means one write per file, one reload and
+ * one UI refresh no matter how many values were touched.
+ */
+final class AdminEditSession {
+    private final Map<String, Edit> edits = new LinkedHashMap<>();
+
+    JsonElement base(String path) {
+        Edit edit = edits.get(baseKey(path));
+        return edit != null ? edit.value() : null;
+    }
+
+    JsonElement tier(String tierId, String key) {
+        Edit edit = edits.get(tierKey(tierId, key));
+        return edit != null ? edit.value() : null;
+    }
+
+    // original is the live value; staging it again drops the edit.
+    void stageBase(String path, String label, JsonElement original, JsonElement value) {
+        stage(baseKey(path), new Edit(null, path, label, original, value));
+    }
+
+    void stageTier(String tierId, String key, String label, JsonElement original, JsonElement value) {
+        stage(tierKey(tierId, key), new Edit(tierId, key, label, original, value));
+    }
+
+    int size() {
+        return edits.size();
+    }
+
+    boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    void clear() {
+        edits.clear();
+    }
+
+    List<Edit> edits() {
+        return new ArrayList<>(edits.values());
+    }
+
+    // Stages every edit in the editor and starts the write; the future completes after the reload.
+    // All or nothing: when a target cannot be resolved nothing is staged and the edits stay pending.
+    CompletableFuture<Void> apply() throws IOException {
+        Map<String, JsonElement> baseValues = new LinkedHashMap<>();
+        Map<String, Map<String, JsonElement>> tierValues = new LinkedHashMap<>();
+        for (Edit edit : edits.values()) {
+            if (edit.tierId() == null) {
+                baseValues.put(edit.key(), edit.value());
+            } else {
+                tierValues.computeIfAbsent(edit.tierId(), ignored -> new LinkedHashMap<>()).put(edit.key(), edit.value());
+            }
+        }
+        DifficultyAdminConfigEditor.setValues(baseValues, tierValues);
+        edits.clear();
+        return DifficultyAdminConfigEditor.writeNow();
+    }
+
+    private void stage(String id, Edit edit) {
+        Edit existing = edits.get(id);
+        JsonElement original = existing != null ? existing.original() : edit.original();
+        if (edit.value().equals(original)) {
+            edits.remove(id);
+            return;
+        }
+        edits.put(id, new Edit(edit.tierId(), edit.key(), edit.label(), original, edit.value()));
+    }
+
+    private static String baseKey(String path) {
+        return "base:" + path;
+    }
+
+    private static String tierKey(String tierId, String key) {
+        return "tier:" + tierId.trim().toLowerCase(Locale.ROOT) + ":" + key;
+    }
+
+    // tierId == null for difficulty.json paths; key is then the dotted path.
+    record Edit(String tierId, String key, String label, JsonElement original, JsonElement value) {
+    }
+}
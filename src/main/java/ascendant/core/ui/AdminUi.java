@@ -3,12 +3,13 @@ package ascendant.core.ui;
 import ascendant.core.config.DifficultyAdminConfigEditor;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.config.DifficultyMeta;
 import ascendant.core.config.DifficultySettings;
+import ascendant.core.config.TierPresentation;
 import ascendant.core.util.EventNotificationWrapper;
-import ascendant.core.util.WorldTierUiSync;
 import au.ellie.hyui.builders.PageBuilder;
 import au.ellie.hyui.html.TemplateProcessor;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.packets.interface_.CustomPageLifetime;
 import com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType;
@@ -23,12 +24,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class AdminUi {
     private static final String PAGE_HTML = "Pages/DifficultyAdmin.html";
     private static final int ROWS_PER_PAGE = 15;
     private static final List<String> WORLD_MODES = List.of("fixed", "highest", "lowest", "scaled");
+    private static final List<Double> BULK_FACTORS = List.of(0.9, 0.95, 1.05, 1.1);
 
     private static final Map<UUID, UiState> uiStateByPlayer = new ConcurrentHashMap<>();
 
@@ -122,10 +126,10 @@ public final class AdminUi {
 
         DifficultySettings settings = DifficultyManager.getSettings();
         String selectedTierId = tierIds.get(state.tierIndex);
-        DifficultyMeta.TierMeta selectedMeta = DifficultyMeta.resolve(DifficultyManager.getConfig(), selectedTierId);
+        TierPresentation selectedPresentation = DifficultyManager.getPresentation(selectedTierId);
         DifficultyManager.WorldTierSnapshot worldSnapshot = DifficultyManager.getWorldTierSnapshot();
 
-        int pageIndexMax = pageIndexMax(state.section);
+        int pageIndexMax = pageIndexMax(state);
         if (state.pageIndex > pageIndexMax) {
             state.pageIndex = pageIndexMax;
         }
@@ -142,12 +146,17 @@ public final class AdminUi {
         List<TierNumberSettingDefinition> tierDefsPage = state.section == AdminSection.TIERS
                 ? page(TIER_NUMBER_SETTINGS, state.pageIndex, ROWS_PER_PAGE)
                 : List.of();
+        List<DiffRow> diffRowsPage = state.section == AdminSection.PENDING
+                ? page(buildDiffRows(state), state.pageIndex, ROWS_PER_PAGE)
+                : List.of();
+        TierNumberSettingDefinition bulkDefinition = TIER_NUMBER_SETTINGS.get(wrapIndex(state.bulkKeyIndex, TIER_NUMBER_SETTINGS.size()));
 
         TemplateProcessor template = new TemplateProcessor()
                 .setVariable("sectionWorld", state.section == AdminSection.WORLD)
                 .setVariable("sectionToggles", state.section == AdminSection.TOGGLES)
                 .setVariable("sectionNumbers", state.section == AdminSection.NUMBERS)
                 .setVariable("sectionTiers", state.section == AdminSection.TIERS)
+                .setVariable("sectionPending", state.section == AdminSection.PENDING)
                 .setVariable("sectionLabel", state.section.label)
                 .setVariable("pageEnabled", state.section != AdminSection.WORLD)
                 .setVariable("pageIndex", state.pageIndex)
@@ -155,20 +164,25 @@ public final class AdminUi {
                 .setVariable("pageCurrent", state.pageIndex + 1)
                 .setVariable("pageTotal", pageIndexMax + 1)
                 .setVariable("selectedTierId", selectedTierId)
-                .setVariable("selectedTierName", selectedMeta.displayName())
-                .setVariable("selectedTierDescription", selectedMeta.description())
-                .setVariable("selectedTierAllowed", settings.getBoolean(selectedTierId, DifficultyIO.SETTING_IS_ALLOWED))
-                .setVariable("selectedTierHidden", settings.getBoolean(selectedTierId, DifficultyIO.SETTING_IS_HIDDEN))
+                .setVariable("selectedTierName", selectedPresentation.displayName())
+                .setVariable("selectedTierDescription", selectedPresentation.description())
+                .setVariable("selectedTierAllowed", readTierBoolean(state, settings, selectedTierId, DifficultyIO.SETTING_IS_ALLOWED))
+                .setVariable("selectedTierHidden", readTierBoolean(state, settings, selectedTierId, DifficultyIO.SETTING_IS_HIDDEN))
                 .setVariable("worldActive", worldSnapshot.active())
-                .setVariable("worldMode", worldSnapshot.mode())
+                .setVariable("worldMode", readStagedString(state, DifficultyIO.PATH_WORLD_TIER_MODE, worldSnapshot.mode()))
                 .setVariable("worldResolvedTier", worldSnapshot.resolvedTier())
-                .setVariable("worldFixedTier", worldSnapshot.fixedTier())
+                .setVariable("worldFixedTier", readStagedString(state, DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, worldSnapshot.fixedTier()))
                 .setVariable("worldAdminOverride", worldSnapshot.adminOverrideTier() == null ? "<none>" : worldSnapshot.adminOverrideTier())
-                .setVariable("worldScaledFactor", formatDouble(worldSnapshot.scaledFactor()))
-                .setVariable("worldScaledUseAllOnlinePlayers", worldSnapshot.scaledUseAllOnlinePlayers())
-                .setVariable("toggleRows", buildToggleRows(toggleDefsPage))
-                .setVariable("numberRows", buildNumberRows(numberDefsPage))
-                .setVariable("tierRows", buildTierRows(tierDefsPage, selectedTierId));
+                .setVariable("worldScaledFactor", formatDouble(readStagedDouble(state, DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, worldSnapshot.scaledFactor())))
+                .setVariable("worldScaledUseAllOnlinePlayers", readStagedBoolean(state, DifficultyIO.PATH_WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS, worldSnapshot.scaledUseAllOnlinePlayers()))
+                .setVariable("toggleRows", buildToggleRows(state, toggleDefsPage))
+                .setVariable("numberRows", buildNumberRows(state, numberDefsPage))
+                .setVariable("tierRows", buildTierRows(state, tierDefsPage, selectedTierId))
+                .setVariable("bulkKeyLabel", bulkDefinition.label)
+                .setVariable("bulkScales", buildBulkScales())
+                .setVariable("diffRows", diffRowsPage)
+                .setVariable("pendingCount", state.edits.size())
+                .setVariable("hasPending", !state.edits.isEmpty());
 
         PageBuilder builder = PageBuilder.pageForPlayer(playerRef)
                 .loadHtml(PAGE_HTML, template)
@@ -179,9 +193,11 @@ public final class AdminUi {
         registerNavigationEvents(builder, playerRef, store, playerUuid, commandContext, state, tierIds.size(), pageEnabled);
         switch (state.section) {
             case WORLD -> registerWorldEvents(builder, playerRef, store, playerUuid, commandContext, state);
-            case TOGGLES -> registerToggleEvents(builder, playerRef, store, playerUuid, commandContext, toggleDefsPage);
-            case NUMBERS -> registerNumberEvents(builder, playerRef, store, playerUuid, commandContext, numberDefsPage);
+            case TOGGLES -> registerToggleEvents(builder, playerRef, store, playerUuid, commandContext, state, toggleDefsPage);
+            case NUMBERS -> registerNumberEvents(builder, playerRef, store, playerUuid, commandContext, state, numberDefsPage);
             case TIERS -> registerTierEvents(builder, playerRef, store, playerUuid, commandContext, state, tierDefsPage);
+            case PENDING -> {
+            }
         }
 
         builder.open(store);
@@ -203,7 +219,6 @@ public final class AdminUi {
         builder.addEventListener("reloadConfigNow", CustomUIEventBindingType.Activating, (ignored, _) -> {
             try {
                 DifficultyManager.reloadConfig();
-                WorldTierUiSync.refreshAllPlayers();
                 EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Configuration reloaded.");
             } catch (IOException e) {
                 EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Reload failed: " + e.getMessage());
@@ -211,6 +226,22 @@ public final class AdminUi {
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
+        // Edits stay in the session until applied; apply writes every touched file once and reloads once,
+        // the ConfigReloaded event then refreshes HUDs and the player list.
+        builder.addEventListener("applyEdits", CustomUIEventBindingType.Activating, (ignored, _) -> {
+            applyEdits(playerRef, commandContext, state);
+            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+        });
+
+        builder.addEventListener("discardEdits", CustomUIEventBindingType.Activating, (ignored, _) -> {
+            int discarded = state.edits.size();
+            state.edits.clear();
+            if (discarded > 0) {
+                EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Discarded " + discarded + " pending changes.");
+            }
+            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+        });
+
         builder.addEventListener("sectionPrev", CustomUIEventBindingType.Activating, (ignored, _) -> {
             state.section = state.section.previous();
             state.pageIndex = 0;
@@ -232,7 +263,7 @@ public final class AdminUi {
             });
 
             builder.addEventListener("listNext", CustomUIEventBindingType.Activating, (ignored, _) -> {
-                int max = pageIndexMax(state.section);
+                int max = pageIndexMax(state);
                 if (state.pageIndex < max) {
                     state.pageIndex++;
                 }
@@ -260,101 +291,62 @@ public final class AdminUi {
             UiState state
     ) {
         builder.addEventListener("worldToggleEnabled", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            boolean current = readBoolean(DifficultyIO.PATH_WORLD_TIER_ENABLED, DifficultyIO.DEFAULT_WORLD_TIER_ENABLED);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseBoolean(DifficultyIO.PATH_WORLD_TIER_ENABLED, !current),
-                    "World tier " + (!current ? "enabled" : "disabled") + "."
-            );
+            boolean current = readBoolean(state, DifficultyIO.PATH_WORLD_TIER_ENABLED, DifficultyIO.DEFAULT_WORLD_TIER_ENABLED);
+            stageBaseBoolean(state, DifficultyIO.PATH_WORLD_TIER_ENABLED, "World tier active", DifficultyIO.DEFAULT_WORLD_TIER_ENABLED, !current);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
         builder.addEventListener("worldModePrev", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            String current = readString(DifficultyIO.PATH_WORLD_TIER_MODE, DifficultyIO.DEFAULT_WORLD_TIER_MODE);
+            String current = readString(state, DifficultyIO.PATH_WORLD_TIER_MODE, DifficultyIO.DEFAULT_WORLD_TIER_MODE);
             String target = cycleWorldMode(current, -1);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseString(DifficultyIO.PATH_WORLD_TIER_MODE, target),
-                    "World mode set to " + target + "."
-            );
+            stageBaseString(state, DifficultyIO.PATH_WORLD_TIER_MODE, "World mode", DifficultyIO.DEFAULT_WORLD_TIER_MODE, target);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
         builder.addEventListener("worldModeNext", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            String current = readString(DifficultyIO.PATH_WORLD_TIER_MODE, DifficultyIO.DEFAULT_WORLD_TIER_MODE);
+            String current = readString(state, DifficultyIO.PATH_WORLD_TIER_MODE, DifficultyIO.DEFAULT_WORLD_TIER_MODE);
             String target = cycleWorldMode(current, 1);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseString(DifficultyIO.PATH_WORLD_TIER_MODE, target),
-                    "World mode set to " + target + "."
-            );
+            stageBaseString(state, DifficultyIO.PATH_WORLD_TIER_MODE, "World mode", DifficultyIO.DEFAULT_WORLD_TIER_MODE, target);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
         builder.addEventListener("worldFixedPrev", CustomUIEventBindingType.Activating, (ignored, _) -> {
             List<String> tierIds = orderedTierIds();
-            String current = readString(DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, DifficultyIO.DEFAULT_WORLD_TIER_FIXED_TIER);
+            String current = readString(state, DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, DifficultyIO.DEFAULT_WORLD_TIER_FIXED_TIER);
             String target = cycleTierId(current, tierIds, -1);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseString(DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, target),
-                    "World fixed tier set to " + target + "."
-            );
+            stageBaseString(state, DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, "World fixed tier", DifficultyIO.DEFAULT_WORLD_TIER_FIXED_TIER, target);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
         builder.addEventListener("worldFixedNext", CustomUIEventBindingType.Activating, (ignored, _) -> {
             List<String> tierIds = orderedTierIds();
-            String current = readString(DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, DifficultyIO.DEFAULT_WORLD_TIER_FIXED_TIER);
+            String current = readString(state, DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, DifficultyIO.DEFAULT_WORLD_TIER_FIXED_TIER);
             String target = cycleTierId(current, tierIds, 1);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseString(DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, target),
-                    "World fixed tier set to " + target + "."
-            );
+            stageBaseString(state, DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, "World fixed tier", DifficultyIO.DEFAULT_WORLD_TIER_FIXED_TIER, target);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
         builder.addEventListener("worldScaledDown", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            double current = readDouble(DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, DifficultyIO.DEFAULT_WORLD_TIER_SCALED_FACTOR);
+            double current = readDouble(state, DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, DifficultyIO.DEFAULT_WORLD_TIER_SCALED_FACTOR);
             double target = clamp(round(current - 0.05, 3), 0.0, 1.0);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseNumber(DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, target, false),
-                    "World scaled factor set to " + formatDouble(target) + "."
-            );
+            stageBaseNumber(state, DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, "World scaled factor", DifficultyIO.DEFAULT_WORLD_TIER_SCALED_FACTOR, target, false);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
         builder.addEventListener("worldScaledUp", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            double current = readDouble(DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, DifficultyIO.DEFAULT_WORLD_TIER_SCALED_FACTOR);
+            double current = readDouble(state, DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, DifficultyIO.DEFAULT_WORLD_TIER_SCALED_FACTOR);
             double target = clamp(round(current + 0.05, 3), 0.0, 1.0);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseNumber(DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, target, false),
-                    "World scaled factor set to " + formatDouble(target) + "."
-            );
+            stageBaseNumber(state, DifficultyIO.PATH_WORLD_TIER_SCALED_FACTOR, "World scaled factor", DifficultyIO.DEFAULT_WORLD_TIER_SCALED_FACTOR, target, false);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
         builder.addEventListener("worldToggleScaledUseAll", CustomUIEventBindingType.Activating, (ignored, _) -> {
             boolean current = readBoolean(
+                    state,
                     DifficultyIO.PATH_WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS,
                     DifficultyIO.DEFAULT_WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS
             );
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseBoolean(DifficultyIO.PATH_WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS, !current),
-                    "Scaled world tier player source set to " + (!current ? "all online players" : "min/max players") + "."
-            );
+            stageBaseBoolean(state, DifficultyIO.PATH_WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS, "Scaled uses all online players", DifficultyIO.DEFAULT_WORLD_TIER_SCALED_USE_ALL_ONLINE_PLAYERS, !current);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
@@ -369,7 +361,6 @@ public final class AdminUi {
             if (!changed) {
                 EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Invalid tier: " + selectedTier);
             } else {
-                WorldTierUiSync.refreshAllPlayers();
                 EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "World override set to " + selectedTier + ".");
             }
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
@@ -377,7 +368,6 @@ public final class AdminUi {
 
         builder.addEventListener("worldOverrideClear", CustomUIEventBindingType.Activating, (ignored, _) -> {
             DifficultyManager.clearWorldTierAdminOverride();
-            WorldTierUiSync.refreshAllPlayers();
             EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "World override cleared.");
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
@@ -389,18 +379,14 @@ public final class AdminUi {
             Store<EntityStore> store,
             UUID playerUuid,
             CommandContext commandContext,
+            UiState state,
             List<ToggleSettingDefinition> definitions
     ) {
         for (ToggleSettingDefinition definition : definitions) {
             builder.addEventListener(toggleEventId(definition), CustomUIEventBindingType.Activating, (ignored, _) -> {
-                boolean current = readBoolean(definition.path, definition.fallback);
+                boolean current = readBoolean(state, definition.path, definition.fallback);
                 boolean next = !current;
-                mutateAndReload(
-                        playerRef,
-                        commandContext,
-                        () -> DifficultyAdminConfigEditor.setBaseBoolean(definition.path, next),
-                        definition.label + " set to " + (next ? "ON" : "OFF") + "."
-                );
+                stageBaseBoolean(state, definition.path, definition.label, definition.fallback, next);
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
             });
         }
@@ -412,30 +398,21 @@ public final class AdminUi {
             Store<EntityStore> store,
             UUID playerUuid,
             CommandContext commandContext,
+            UiState state,
             List<NumberSettingDefinition> definitions
     ) {
         for (NumberSettingDefinition definition : definitions) {
             builder.addEventListener(numberDecreaseEventId(definition), CustomUIEventBindingType.Activating, (ignored, _) -> {
-                double current = readDouble(definition.path, definition.fallback);
+                double current = readDouble(state, definition.path, definition.fallback);
                 double next = clamp(round(current - definition.step, 6), definition.min, definition.max);
-                mutateAndReload(
-                        playerRef,
-                        commandContext,
-                        () -> DifficultyAdminConfigEditor.setBaseNumber(definition.path, next, definition.integer),
-                        definition.label + " set to " + formatNumber(next, definition.integer) + "."
-                );
+                stageBaseNumber(state, definition.path, definition.label, definition.fallback, next, definition.integer);
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
             });
 
             builder.addEventListener(numberIncreaseEventId(definition), CustomUIEventBindingType.Activating, (ignored, _) -> {
-                double current = readDouble(definition.path, definition.fallback);
+                double current = readDouble(state, definition.path, definition.fallback);
                 double next = clamp(round(current + definition.step, 6), definition.min, definition.max);
-                mutateAndReload(
-                        playerRef,
-                        commandContext,
-                        () -> DifficultyAdminConfigEditor.setBaseNumber(definition.path, next, definition.integer),
-                        definition.label + " set to " + formatNumber(next, definition.integer) + "."
-                );
+                stageBaseNumber(state, definition.path, definition.label, definition.fallback, next, definition.integer);
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
             });
         }
@@ -456,13 +433,8 @@ public final class AdminUi {
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
                 return;
             }
-            boolean current = DifficultyManager.getSettings().getBoolean(tierId, DifficultyIO.SETTING_IS_ALLOWED);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setTierBoolean(tierId, DifficultyIO.SETTING_IS_ALLOWED, !current),
-                    "Tier " + tierId + " allowed set to " + (!current ? "ON" : "OFF") + "."
-            );
+            boolean current = readTierBoolean(state, DifficultyManager.getSettings(), tierId, DifficultyIO.SETTING_IS_ALLOWED);
+            stageTierBoolean(state, tierId, DifficultyIO.SETTING_IS_ALLOWED, "Allowed", !current);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
@@ -472,13 +444,8 @@ public final class AdminUi {
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
                 return;
             }
-            boolean current = DifficultyManager.getSettings().getBoolean(tierId, DifficultyIO.SETTING_IS_HIDDEN);
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setTierBoolean(tierId, DifficultyIO.SETTING_IS_HIDDEN, !current),
-                    "Tier " + tierId + " hidden set to " + (!current ? "ON" : "OFF") + "."
-            );
+            boolean current = readTierBoolean(state, DifficultyManager.getSettings(), tierId, DifficultyIO.SETTING_IS_HIDDEN);
+            stageTierBoolean(state, tierId, DifficultyIO.SETTING_IS_HIDDEN, "Hidden", !current);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
@@ -488,12 +455,7 @@ public final class AdminUi {
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
                 return;
             }
-            mutateAndReload(
-                    playerRef,
-                    commandContext,
-                    () -> DifficultyAdminConfigEditor.setBaseString(DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, tierId),
-                    "World fixed tier set to " + tierId + "."
-            );
+            stageBaseString(state, DifficultyIO.PATH_WORLD_TIER_FIXED_TIER, "World fixed tier", DifficultyIO.DEFAULT_WORLD_TIER_FIXED_TIER, tierId);
             openOrUpdateUi(playerRef, store, playerUuid, commandContext);
         });
 
@@ -505,7 +467,6 @@ public final class AdminUi {
             }
             boolean changed = DifficultyManager.setWorldTierAdminOverride(tierId);
             if (changed) {
-                WorldTierUiSync.refreshAllPlayers();
                 EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "World override set to " + tierId + ".");
             } else {
                 EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Failed to set world override.");
@@ -520,14 +481,9 @@ public final class AdminUi {
                     openOrUpdateUi(playerRef, store, playerUuid, commandContext);
                     return;
                 }
-                double current = DifficultyManager.getSettings().get(tierId, definition.key);
+                double current = readTierDouble(state, DifficultyManager.getSettings(), tierId, definition.key);
                 double next = clamp(round(current - definition.step, 6), definition.min, definition.max);
-                mutateAndReload(
-                        playerRef,
-                        commandContext,
-                        () -> DifficultyAdminConfigEditor.setTierNumber(tierId, definition.key, next, definition.integer),
-                        tierId + ": " + definition.label + " set to " + formatNumber(next, definition.integer) + "."
-                );
+                stageTierNumber(state, tierId, definition.key, definition.label, next, definition.integer);
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
             });
 
@@ -537,45 +493,77 @@ public final class AdminUi {
                     openOrUpdateUi(playerRef, store, playerUuid, commandContext);
                     return;
                 }
-                double current = DifficultyManager.getSettings().get(tierId, definition.key);
+                double current = readTierDouble(state, DifficultyManager.getSettings(), tierId, definition.key);
                 double next = clamp(round(current + definition.step, 6), definition.min, definition.max);
-                mutateAndReload(
-                        playerRef,
-                        commandContext,
-                        () -> DifficultyAdminConfigEditor.setTierNumber(tierId, definition.key, next, definition.integer),
-                        tierId + ": " + definition.label + " set to " + formatNumber(next, definition.integer) + "."
-                );
+                stageTierNumber(state, tierId, definition.key, definition.label, next, definition.integer);
+                openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+            });
+        }
+
+        builder.addEventListener("bulkKeyPrev", CustomUIEventBindingType.Activating, (ignored, _) -> {
+            state.bulkKeyIndex = wrapIndex(state.bulkKeyIndex - 1, TIER_NUMBER_SETTINGS.size());
+            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+        });
+
+        builder.addEventListener("bulkKeyNext", CustomUIEventBindingType.Activating, (ignored, _) -> {
+            state.bulkKeyIndex = wrapIndex(state.bulkKeyIndex + 1, TIER_NUMBER_SETTINGS.size());
+            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+        });
+
+        for (int i = 0; i < BULK_FACTORS.size(); i++) {
+            double factor = BULK_FACTORS.get(i);
+            builder.addEventListener(bulkScaleEventId(i), CustomUIEventBindingType.Activating, (ignored, _) -> {
+                TierNumberSettingDefinition definition = TIER_NUMBER_SETTINGS.get(wrapIndex(state.bulkKeyIndex, TIER_NUMBER_SETTINGS.size()));
+                DifficultySettings settings = DifficultyManager.getSettings();
+                for (String tierId : orderedTierIds()) {
+                    double current = readTierDouble(state, settings, tierId, definition.key);
+                    double next = clamp(round(current * factor, 6), definition.min, definition.max);
+                    stageTierNumber(state, tierId, definition.key, definition.label, next, definition.integer);
+                }
                 openOrUpdateUi(playerRef, store, playerUuid, commandContext);
             });
         }
     }
 
-    private static void mutateAndReload(PlayerRef playerRef, CommandContext commandContext, IoMutation mutation, String successMessage) {
+    private static void applyEdits(PlayerRef playerRef, CommandContext commandContext, UiState state) {
+        int count = state.edits.size();
+        if (count == 0) {
+            EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "No pending changes.");
+            return;
+        }
+        CompletableFuture<Void> written;
         try {
-            mutation.run();
-            DifficultyManager.reloadConfig();
-            WorldTierUiSync.refreshAllPlayers();
-            EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, successMessage);
+            written = state.edits.apply();
         } catch (IOException e) {
             EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Admin update failed: " + e.getMessage());
+            return;
         }
+        written.whenComplete((ignored, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Admin update failed: " + cause.getMessage());
+                return;
+            }
+            EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Applied " + count + " changes.");
+        });
     }
 
-    private static List<ToggleRow> buildToggleRows(List<ToggleSettingDefinition> definitions) {
+    private static List<ToggleRow> buildToggleRows(UiState state, List<ToggleSettingDefinition> definitions) {
         List<ToggleRow> rows = new ArrayList<>(definitions.size());
         for (ToggleSettingDefinition definition : definitions) {
-            boolean value = readBoolean(definition.path, definition.fallback);
-            rows.add(new ToggleRow(definition.label, toggleEventId(definition), value));
+            boolean value = readBoolean(state, definition.path, definition.fallback);
+            String label = pendingLabel(definition.label, state.edits.base(definition.path) != null);
+            rows.add(new ToggleRow(label, toggleEventId(definition), value));
         }
         return rows;
     }
 
-    private static List<NumberRow> buildNumberRows(List<NumberSettingDefinition> definitions) {
+    private static List<NumberRow> buildNumberRows(UiState state, List<NumberSettingDefinition> definitions) {
         List<NumberRow> rows = new ArrayList<>(definitions.size());
         for (NumberSettingDefinition definition : definitions) {
-            double value = readDouble(definition.path, definition.fallback);
+            double value = readDouble(state, definition.path, definition.fallback);
             rows.add(new NumberRow(
-                    definition.label,
+                    pendingLabel(definition.label, state.edits.base(definition.path) != null),
                     numberDecreaseEventId(definition),
                     numberIncreaseEventId(definition),
                     formatNumber(value, definition.integer),
@@ -585,13 +573,13 @@ public final class AdminUi {
         return rows;
     }
 
-    private static List<NumberRow> buildTierRows(List<TierNumberSettingDefinition> definitions, String tierId) {
+    private static List<NumberRow> buildTierRows(UiState state, List<TierNumberSettingDefinition> definitions, String tierId) {
         DifficultySettings settings = DifficultyManager.getSettings();
         List<NumberRow> rows = new ArrayList<>(definitions.size());
         for (TierNumberSettingDefinition definition : definitions) {
-            double value = settings.get(tierId, definition.key);
+            double value = readTierDouble(state, settings, tierId, definition.key);
             rows.add(new NumberRow(
-                    definition.label,
+                    pendingLabel(definition.label, state.edits.tier(tierId, definition.key) != null),
                     tierDecreaseEventId(definition),
                     tierIncreaseEventId(definition),
                     formatNumber(value, definition.integer),
@@ -601,6 +589,27 @@ public final class AdminUi {
         return rows;
     }
 
+    private static List<DiffRow> buildDiffRows(UiState state) {
+        List<AdminEditSession.Edit> edits = state.edits.edits();
+        List<DiffRow> rows = new ArrayList<>(edits.size());
+        for (AdminEditSession.Edit edit : edits) {
+            rows.add(new DiffRow(edit.label(), formatValue(edit.original()), formatValue(edit.value())));
+        }
+        return rows;
+    }
+
+    private static List<BulkScale> buildBulkScales() {
+        List<BulkScale> scales = new ArrayList<>(BULK_FACTORS.size());
+        for (int i = 0; i < BULK_FACTORS.size(); i++) {
+            scales.add(new BulkScale(bulkScaleEventId(i), "x" + formatDouble(BULK_FACTORS.get(i))));
+        }
+        return scales;
+    }
+
+    private static String pendingLabel(String label, boolean pending) {
+        return pending ? label + " *" : label;
+    }
+
     private static String selectedTierId(UiState state) {
         List<String> tierIds = orderedTierIds();
         if (tierIds.isEmpty()) {
@@ -628,7 +637,8 @@ public final class AdminUi {
         return all.subList(from, to);
     }
 
-    private static int pageIndexMax(AdminSection section) {
+    private static int pageIndexMax(UiState state) {
+        AdminSection section = state.section;
         final int rowsPerPage = ROWS_PER_PAGE +
                 ((section == AdminSection.TOGGLES || section == AdminSection.NUMBERS) ? 3 : 0);
 
@@ -637,6 +647,7 @@ public final class AdminUi {
             case TOGGLES -> TOGGLE_SETTINGS.size();
             case NUMBERS -> NUMBER_SETTINGS.size();
             case TIERS -> TIER_NUMBER_SETTINGS.size();
+            case PENDING -> state.edits.size();
         };
 
         return size <= 0 ? 0 : (size - 1) / rowsPerPage;
@@ -649,7 +660,7 @@ public final class AdminUi {
             return;
         }
         state.tierIndex = wrapIndex(state.tierIndex, tierCount);
-        int max = pageIndexMax(state.section);
+        int max = pageIndexMax(state);
         if (state.pageIndex > max) {
             state.pageIndex = max;
         }
@@ -694,16 +705,93 @@ public final class AdminUi {
         return tierIds.get(wrapIndex(index + delta, tierIds.size()));
     }
 
-    private static boolean readBoolean(String path, boolean fallback) {
-        return DifficultyManager.getConfig().getBoolean(path, fallback);
+    // Reads prefer this admin's pending edits, then edits still being written, then the live config.
+    private static boolean readBoolean(UiState state, String path, boolean fallback) {
+        return readStagedBoolean(state, path, DifficultyManager.getConfig().getBoolean(path, fallback));
+    }
+
+    private static double readDouble(UiState state, String path, double fallback) {
+        return readStagedDouble(state, path, DifficultyManager.getConfig().getDouble(path, fallback));
+    }
+
+    private static String readString(UiState state, String path, String fallback) {
+        return readStagedString(state, path, DifficultyManager.getConfig().getString(path, fallback));
+    }
+
+    private static boolean readStagedBoolean(UiState state, String path, boolean current) {
+        JsonElement staged = stagedBase(state, path);
+        return staged != null ? staged.getAsBoolean() : current;
+    }
+
+    private static double readStagedDouble(UiState state, String path, double current) {
+        JsonElement staged = stagedBase(state, path);
+        return staged != null ? staged.getAsDouble() : current;
+    }
+
+    private static String readStagedString(UiState state, String path, String current) {
+        JsonElement staged = stagedBase(state, path);
+        return staged != null ? staged.getAsString() : current;
+    }
+
+    private static boolean readTierBoolean(UiState state, DifficultySettings settings, String tierId, String key) {
+        JsonElement staged = stagedTier(state, tierId, key);
+        return staged != null ? staged.getAsBoolean() : settings.getBoolean(tierId, key);
+    }
+
+    private static double readTierDouble(UiState state, DifficultySettings settings, String tierId, String key) {
+        JsonElement staged = stagedTier(state, tierId, key);
+        return staged != null ? staged.getAsDouble() : settings.get(tierId, key);
+    }
+
+    // state == null skips the pending edits and reads what is (about to be) live.
+    private static JsonElement stagedBase(UiState state, String path) {
+        JsonElement pending = state != null ? state.edits.base(path) : null;
+        return pending != null ? pending : DifficultyAdminConfigEditor.stagedBaseValue(path);
+    }
+
+    private static JsonElement stagedTier(UiState state, String tierId, String key) {
+        JsonElement pending = state != null ? state.edits.tier(tierId, key) : null;
+        return pending != null ? pending : DifficultyAdminConfigEditor.stagedTierValue(tierId, key);
     }
 
-    private static double readDouble(String path, double fallback) {
-        return DifficultyManager.getConfig().getDouble(path, fallback);
+    private static void stageBaseBoolean(UiState state, String path, String label, boolean fallback, boolean value) {
+        state.edits.stageBase(path, label, new JsonPrimitive(readBoolean(null, path, fallback)), new JsonPrimitive(value));
     }
 
-    private static String readString(String path, String fallback) {
-        return DifficultyManager.getConfig().getString(path, fallback);
+    private static void stageBaseString(UiState state, String path, String label, String fallback, String value) {
+        state.edits.stageBase(path, label, new JsonPrimitive(readString(null, path, fallback)), new JsonPrimitive(value));
+    }
+
+    private static void stageBaseNumber(UiState state, String path, String label, double fallback, double value, boolean integer) {
+        state.edits.stageBase(path, label, numberValue(readDouble(null, path, fallback), integer), numberValue(value, integer));
+    }
+
+    private static void stageTierBoolean(UiState state, String tierId, String key, String label, boolean value) {
+        boolean live = readTierBoolean(null, DifficultyManager.getSettings(), tierId, key);
+        state.edits.stageTier(tierId, key, tierId + ": " + label, new JsonPrimitive(live), new JsonPrimitive(value));
+    }
+
+    private static void stageTierNumber(UiState state, String tierId, String key, String label, double value, boolean integer) {
+        double live = readTierDouble(null, DifficultyManager.getSettings(), tierId, key);
+        state.edits.stageTier(tierId, key, tierId + ": " + label, numberValue(live, integer), numberValue(value, integer));
+    }
+
+    private static JsonPrimitive numberValue(double value, boolean integer) {
+        return integer ? new JsonPrimitive((int) Math.round(value)) : new JsonPrimitive(value);
+    }
+
+    private static String formatValue(JsonElement value) {
+        if (value == null || !value.isJsonPrimitive()) {
+            return "-";
+        }
+        JsonPrimitive primitive = value.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean() ? "ON" : "OFF";
+        }
+        if (primitive.isNumber()) {
+            return formatDouble(primitive.getAsDouble());
+        }
+        return primitive.getAsString();
     }
 
     private static double clamp(double value, double min, double max) {
@@ -760,6 +848,10 @@ public final class AdminUi {
         return "tier-inc-" + definition.id;
     }
 
+    private static String bulkScaleEventId(int index) {
+        return "bulk-scale-" + index;
+    }
+
     private record ToggleSettingDefinition(String id, String label, String path, boolean fallback) {
     }
 
@@ -798,11 +890,18 @@ public final class AdminUi {
     ) {
     }
 
+    private record DiffRow(String label, String fromText, String toText) {
+    }
+
+    private record BulkScale(String eventId, String label) {
+    }
+
     private enum AdminSection {
         WORLD("World Tier"),
         TOGGLES("Feature Toggles"),
         NUMBERS("Base Numbers"),
-        TIERS("Tier Editor");
+        TIERS("Tier Editor"),
+        PENDING("Pending Changes");
 
         private static final AdminSection[] VALUES = values();
         private final String label;
@@ -826,6 +925,8 @@ public final class AdminUi {
         private AdminSection section;
         private int pageIndex;
         private int tierIndex;
+        private int bulkKeyIndex;
+        private final AdminEditSession edits = new AdminEditSession();
 
         private static UiState createDefault() {
             UiState state = new UiState();
@@ -835,9 +936,4 @@ public final class AdminUi {
             return state;
         }
     }
-
-    @FunctionalInterface
-    private interface IoMutation {
-        void run() throws IOException;
-    }
 }
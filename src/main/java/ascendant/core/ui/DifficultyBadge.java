@@ -2,38 +2,38 @@ package ascendant.core.ui;
 
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.config.DifficultyMeta;
-import ascendant.core.util.WorldTierUiSync;
+import ascendant.core.config.TierPresentation;
+import ascendant.core.util.PlayerWorldExecutor;
 import au.ellie.hyui.builders.HudBuilder;
 import au.ellie.hyui.builders.HyUIHud;
 import au.ellie.hyui.html.TemplateProcessor;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * Tier badge HUD. The HUD is not cached: every show renders the template into a builder of its own.
+ * What is remembered per player are the resolved render inputs (icon, scope label, offset), so a player
+ * whose inputs did not change, also across config reloads, is left alone. Delayed first shows wait for a world tick.
+ */
 public final class DifficultyBadge {
-    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final String HUD_HTML = "Pages/DifficultyBadge.html";
-    private static final ScheduledExecutorService HUD_SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread t = new Thread(r, "ascendant-difficulty-badge-delay");
-        t.setDaemon(true);
-        return t;
-    });
 
-    private static final ConcurrentHashMap<UUID, HudBuilder> _hudByPlayer = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<UUID, BadgeInputs> _shownByPlayer = new ConcurrentHashMap<>();
     private static final ConcurrentHashMap<UUID, HyUIHud> _hyUIHudByPlayer = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<UUID, PendingShow> _pendingShows = new ConcurrentHashMap<>();
+
+    private DifficultyBadge() {
+    }
 
     @SuppressWarnings("removal")
     public static void onPlayerReady(PlayerReadyEvent _event) {
@@ -41,34 +41,57 @@ public final class DifficultyBadge {
             return;
         }
         Player player = _event.getPlayer();
+        PlayerRef playerRef = player.getPlayerRef();
+        if (playerRef == null || !playerRef.isValid()) {
+            return;
+        }
         double delayMsCfg = DifficultyManager.getFromConfig(DifficultyIO.UI_BADGE_START_DELAY_MS);
         long delayMs = Math.max(0L, Math.round(delayMsCfg));
         if (delayMs == 0L) {
-            _showForPlayer(player);
-            if (DifficultyManager.isWorldTierActive()) {
-                WorldTierUiSync.refreshAllPlayers();
-            }
+            _showForPlayer(playerRef);
             return;
         }
-        PlayerRef playerRef = player.getPlayerRef();
-        if (playerRef == null) {
+        _pendingShows.put(playerRef.getUuid(), new PendingShow(playerRef, System.nanoTime() + delayMs * 1_000_000L));
+    }
+
+    // Called by DifficultyBadgeTickSystem on the world thread; shows every delayed badge of that world that is due.
+    static void drainPendingShows(Store<EntityStore> store) {
+        if (_pendingShows.isEmpty()) {
             return;
         }
-        HUD_SCHEDULER.schedule(() -> {
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<UUID, PendingShow>> it = _pendingShows.entrySet().iterator(); it.hasNext(); ) {
+            PendingShow pending = it.next().getValue();
+            PlayerRef playerRef = pending.playerRef();
             if (!playerRef.isValid()) {
-                return;
+                it.remove();
+                continue;
             }
-            _showForPlayer(playerRef);
-            if (DifficultyManager.isWorldTierActive()) {
-                WorldTierUiSync.refreshAllPlayers();
+            if (now - pending.dueNanos() < 0L) {
+                continue;
+            }
+            Ref<EntityStore> storeRef = playerRef.getReference();
+            if (storeRef == null || storeRef.getStore() != store) {
+                continue;
             }
-        }, delayMs, TimeUnit.MILLISECONDS);
+            it.remove();
+            _showOnWorldThread(playerRef, store);
+        }
     }
 
     public static void updateForPlayer(PlayerRef _playerRef) {
         UUID playerUuid = _playerRef.getUuid();
-        if (_hudByPlayer.containsKey(playerUuid) || _hyUIHudByPlayer.containsKey(playerUuid)) {
+        if (!allowBadge(playerUuid)) {
             removeUIForPlayerUUID(playerUuid);
+            return;
+        }
+        if (_pendingShows.containsKey(playerUuid)) {
+            // the delayed show reads the current tier when it fires
+            return;
+        }
+        BadgeInputs shown = _shownByPlayer.get(playerUuid);
+        if (shown != null && shown.equals(currentInputs(playerUuid)) && _hyUIHudByPlayer.containsKey(playerUuid)) {
+            return;
         }
         _showForPlayer(_playerRef);
     }
@@ -80,10 +103,8 @@ public final class DifficultyBadge {
         }
         PlayerRef playerRef = _event.getPlayerRef();
         UUID uuid = playerRef.getUuid();
+        _pendingShows.remove(uuid);
         removeUIForPlayerUUID(uuid);
-        if (DifficultyManager.isWorldTierActive()) {
-            WorldTierUiSync.refreshAllPlayers();
-        }
     }
 
     public static void removeUIForPlayerUUID(UUID uuid) {
@@ -91,58 +112,67 @@ public final class DifficultyBadge {
         if (hud != null) {
             hud.remove();
         }
-        _hudByPlayer.remove(uuid);
+        _shownByPlayer.remove(uuid);
     }
 
-    @SuppressWarnings("removal")
-    private static void _showForPlayer(Player _player) {
-        if (_player == null) {
-            return;
-        }
-
-        PlayerRef playerRef = _player.getPlayerRef();
-        if (playerRef == null || !playerRef.isValid()) {
-            return;
-        }
-        _showForPlayer(playerRef);
+    private static void _showForPlayer(PlayerRef playerRef) {
+        PlayerWorldExecutor.execute(playerRef, () -> {
+            Ref<EntityStore> storeRef = playerRef.getReference();
+            if (storeRef != null && storeRef.isValid()) {
+                _showOnWorldThread(playerRef, storeRef.getStore());
+            }
+        });
     }
 
-    @SuppressWarnings("removal")
-    private static void _showForPlayer(PlayerRef playerRef) {
+    private static void _showOnWorldThread(PlayerRef playerRef, Store<EntityStore> store) {
         UUID playerUuid = playerRef.getUuid();
         if (!allowBadge(playerUuid)) {
+            removeUIForPlayerUUID(playerUuid);
             return;
         }
 
-        String tierId = DifficultyManager.getDifficulty(playerUuid);
-        DifficultyMeta.TierMeta meta = DifficultyMeta.resolve(DifficultyManager.getConfig(), tierId);
-
-        TemplateProcessor template = new TemplateProcessor();
-        template.setVariable("badgeImagePath", meta.iconPath());
-        template.setVariable("tierScopeLabel", DifficultyManager.isWorldTierActive() ? "Images/LabelBadges/world_tier.png" : "Images/LabelBadges/player_tier.png");
-        template.setVariable("tierScopeLabelRightCorrection", DifficultyManager.isWorldTierActive() ? 7 : 8);
-
-
-        HudBuilder hud = _hudByPlayer.computeIfAbsent(playerUuid, _uuid -> HudBuilder.detachedHud());
-
-        Ref<EntityStore> storeRef = playerRef.getReference();
-        if (storeRef == null) {
+        BadgeInputs inputs = currentInputs(playerUuid);
+        if (inputs.equals(_shownByPlayer.get(playerUuid)) && _hyUIHudByPlayer.containsKey(playerUuid)) {
             return;
         }
-        Store<EntityStore> store = storeRef.getStore();
-        World world = store.getExternalData().getWorld();
-
-        world.execute(() -> {
-            try {
-                hud.loadHtml(HUD_HTML, template);
-                _hyUIHudByPlayer.computeIfAbsent(playerUuid, _uuid -> hud.show(playerRef, store));
-            } catch (Throwable _) {
-            }
-        });
+        try {
+            HudBuilder hud = inputs.newHud();
+            removeUIForPlayerUUID(playerUuid);
+            _hyUIHudByPlayer.put(playerUuid, hud.show(playerRef, store));
+            _shownByPlayer.put(playerUuid, inputs);
+        } catch (Throwable t) {
+            System.err.println("[ascendant] Failed to show difficulty badge for " + playerUuid + ": " + t);
+        }
+    }
+
+    private static BadgeInputs currentInputs(UUID playerUuid) {
+        TierPresentation presentation = DifficultyManager.getPresentation(DifficultyManager.getDifficulty(playerUuid));
+        boolean worldTier = DifficultyManager.isWorldTierActive();
+        return new BadgeInputs(
+                presentation.iconPath(),
+                worldTier ? "Images/LabelBadges/world_tier.png" : "Images/LabelBadges/player_tier.png",
+                worldTier ? 7 : 8
+        );
     }
 
     private static boolean allowBadge(UUID playerUuid) {
         return DifficultyManager.getFromConfig(DifficultyIO.ALLOW_BADGE)
                 && DifficultyManager.isBadgeVisible(playerUuid);
     }
+
+    // Everything the template reads; HudBuilder instances are not shared between players.
+    private record BadgeInputs(String badgeImagePath, String tierScopeLabel, int tierScopeLabelRightCorrection) {
+        HudBuilder newHud() {
+            TemplateProcessor template = new TemplateProcessor();
+            template.setVariable("badgeImagePath", badgeImagePath);
+            template.setVariable("tierScopeLabel", tierScopeLabel);
+            template.setVariable("tierScopeLabelRightCorrection", tierScopeLabelRightCorrection);
+            HudBuilder hud = HudBuilder.detachedHud();
+            hud.loadHtml(HUD_HTML, template);
+            return hud;
+        }
+    }
+
+    private record PendingShow(PlayerRef playerRef, long dueNanos) {
+    }
 }
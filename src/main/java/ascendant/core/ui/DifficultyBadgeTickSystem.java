@@ -0,0 +1,15 @@
+package ascendant.core.ui;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+// Fires delayed badge shows from the world tick instead of a separate scheduler thread.
+public final class DifficultyBadgeTickSystem extends TickingSystem<EntityStore> {
+    @Override
+    public void tick(float dt, int tick, @Nonnull Store<EntityStore> store) {
+        DifficultyBadge.drainPendingShows(store);
+    }
+}
@@ -1,9 +1,7 @@
 package ascendant.core.ui;
 
-import ascendant.core.adapter.ServerPlayerListAdapter;
 import ascendant.core.config.*;
 import ascendant.core.util.EventNotificationWrapper;
-import ascendant.core.util.WorldTierUiSync;
 import au.ellie.hyui.builders.PageBuilder;
 import au.ellie.hyui.html.TemplateProcessor;
 import com.hypixel.hytale.component.Ref;
@@ -20,6 +18,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -30,104 +29,82 @@ public class TierSelect {
     private static final int TIERS_PER_PAGE = 4;
     private static final Map<UUID, Integer> pageIndexByPlayer = new ConcurrentHashMap<>();
     private static final Map<UUID, Long> lastDifficultyChangeByPlayer = new ConcurrentHashMap<>();
+    private static final Map<ViewKey, List<DifficultyTier>> tierViewsByKey = new ConcurrentHashMap<>();
     private static final boolean _allowEliteSpawnModifier = DifficultyManager.getFromConfig(DifficultyIO.ALLOW_ELITE_SPAWN_MODIFIER);
 
     public static void openOrUpdateUi(@NonNullDecl PlayerRef playerRef, @NonNullDecl Store<EntityStore> store, @NonNullDecl UUID playerUuid, @NonNullDecl CommandContext commandContext) {
+        long configVersion = DifficultyManager.getSnapshot().version();
         TemplateProcessor template = new TemplateProcessor();
-        List<String> tierIds = visibleTierIds();
-        String currentTierId = DifficultyManager.getDifficulty(playerUuid);
-        boolean showTierValuesAsPercent = DifficultyManager.isTierValuesAsPercent(playerUuid);
-        boolean showBadge = DifficultyManager.isBadgeVisible(playerUuid);
-        int pageIndex = pageIndexByPlayer.getOrDefault(playerUuid, 0);
-        int maxPage = Math.max(0, (tierIds.size() - 1) / TIERS_PER_PAGE);
-        if (pageIndex > maxPage) {
-            pageIndex = maxPage;
-            pageIndexByPlayer.put(playerUuid, pageIndex);
-        }
-
-        List<DifficultyTier> tiersPage = buildDifficultyTiersPage(tierIds, pageIndex, showTierValuesAsPercent);
-        template.setVariable("difficulty-tiers", tiersPage)
-                .setVariable("currentTierId", currentTierId)
-                .setVariable("eliteSpawn", _allowEliteSpawnModifier)
-                .setVariable("tierValuesAsPercent", showTierValuesAsPercent)
-                .setVariable("badgeVisible", showBadge)
-                .setVariable("pageIndex", pageIndex)
-                .setVariable("pageIndexMax", maxPage);
+        PageState state = new PageState();
+        applyVariables(template, state, playerUuid);
+        // only the rendered page has tier buttons; another page gets a rebuilt page with its own listeners
+        int openedPage = state.pageIndex;
+        List<DifficultyTier> pageTiers = page(tierViews(state.tierValuesAsPercent), openedPage);
+        template.setVariable("eliteSpawn", _allowEliteSpawnModifier);
 
         PageBuilder builder = PageBuilder.pageForPlayer(playerRef)
                 .loadHtml(PAGE_HTML, template)
                 .enableRuntimeTemplateUpdates(true)
                 .withLifetime(CustomPageLifetime.CanDismiss);
 
+        // Pushes only the variables that changed; a reload or page flip since opening needs new listeners and rebuilds.
+        Runnable update = () -> {
+            if (DifficultyManager.getSnapshot().version() != configVersion) {
+                openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+                return;
+            }
+            applyVariables(template, state, playerUuid);
+            if (state.pageIndex != openedPage) {
+                openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+                return;
+            }
+            builder.open(store);
+        };
+
         builder.addEventListener("tierPrev", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            List<String> currentTierIds = visibleTierIds();
             int currentPage = pageIndexByPlayer.getOrDefault(playerUuid, 0);
             if (currentPage > 0) {
                 currentPage--;
             }
             pageIndexByPlayer.put(playerUuid, currentPage);
-            boolean currentShowAsPercent = DifficultyManager.isTierValuesAsPercent(playerUuid);
-            template.setVariable("difficulty-tiers", buildDifficultyTiersPage(currentTierIds, currentPage, currentShowAsPercent));
-            template.setVariable("tierValuesAsPercent", currentShowAsPercent);
-            template.setVariable("badgeVisible", DifficultyManager.isBadgeVisible(playerUuid));
-            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+            update.run();
         });
 
         builder.addEventListener("tierNext", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            List<String> currentTierIds = visibleTierIds();
-            int maxPageIndex = Math.max(0, (currentTierIds.size() - 1) / TIERS_PER_PAGE);
             int currentPage = pageIndexByPlayer.getOrDefault(playerUuid, 0);
-            if (currentPage < maxPageIndex) {
-                currentPage++;
-            }
-            pageIndexByPlayer.put(playerUuid, currentPage);
-            boolean currentShowAsPercent = DifficultyManager.isTierValuesAsPercent(playerUuid);
-            template.setVariable("difficulty-tiers", buildDifficultyTiersPage(currentTierIds, currentPage, currentShowAsPercent));
-            template.setVariable("tierValuesAsPercent", currentShowAsPercent);
-            template.setVariable("badgeVisible", DifficultyManager.isBadgeVisible(playerUuid));
-            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+            pageIndexByPlayer.put(playerUuid, currentPage + 1);
+            update.run();
         });
 
         builder.addEventListener("toggleTierValuesFormat", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            boolean newValue = DifficultyManager.togglePlayerTierValuesAsPercent(playerUuid);
-            List<String> currentTierIds = visibleTierIds();
-            int currentPage = pageIndexByPlayer.getOrDefault(playerUuid, 0);
-            template.setVariable("difficulty-tiers", buildDifficultyTiersPage(currentTierIds, currentPage, newValue));
-            template.setVariable("tierValuesAsPercent", newValue);
-            template.setVariable("badgeVisible", DifficultyManager.isBadgeVisible(playerUuid));
-            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+            DifficultyManager.togglePlayerTierValuesAsPercent(playerUuid);
+            update.run();
         });
 
         builder.addEventListener("toggleBadgeVisibility", CustomUIEventBindingType.Activating, (ignored, _) -> {
-            boolean newValue = DifficultyManager.togglePlayerBadgeVisibility(playerUuid);
+            DifficultyManager.togglePlayerBadgeVisibility(playerUuid);
             DifficultyBadge.updateForPlayer(playerRef);
-            List<String> currentTierIds = visibleTierIds();
-            int currentPage = pageIndexByPlayer.getOrDefault(playerUuid, 0);
-            boolean currentShowAsPercent = DifficultyManager.isTierValuesAsPercent(playerUuid);
-            template.setVariable("difficulty-tiers", buildDifficultyTiersPage(currentTierIds, currentPage, currentShowAsPercent));
-            template.setVariable("tierValuesAsPercent", currentShowAsPercent);
-            template.setVariable("badgeVisible", newValue);
-            openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+            update.run();
         });
 
-        for (DifficultyTier tier : tiersPage) {
+        for (DifficultyTier tier : pageTiers) {
             String buttonId = "tier-button-" + tier.tierId();
             builder.addEventListener(buttonId, CustomUIEventBindingType.Activating, (ignored, _) -> {
                 if (!DifficultyManager.allowDifficultyChange()) {
                     EventNotificationWrapper.sendMajorEventNotification(playerRef, commandContext, tier.displayName(), "Difficulty changes are disabled.");
-                    openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+                    update.run();
                     return;
                 }
 
                 if (!tier.isAllowed()) {
                     EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Selected tier is disabled.");
-                    openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+                    update.run();
                     return;
                 }
 
                 if (!RuntimeSettings.allowDifficultyChangeInCombat() && isInCombat(playerRef, store)) {
                     EventNotificationWrapper.sendMinorEventNotification(playerRef, commandContext, "Difficulty cannot be changed while in combat.");
-                    openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+                    update.run();
                     return;
                 }
 
@@ -139,57 +116,92 @@ public class TierSelect {
                             commandContext,
                             "Please wait " + remainingSeconds + "s before changing difficulty again."
                     );
-                    openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+                    update.run();
                     return;
                 }
 
                 DifficultyManager.setPlayerDifficultyOverride(playerUuid, tier.tierId());
                 markDifficultyChange(playerUuid);
-                if (DifficultyManager.isWorldTierActive()) {
-                    WorldTierUiSync.refreshAllPlayers();
-                } else {
-                    ServerPlayerListAdapter.refreshPlayerEntry(playerRef);
-                    DifficultyBadge.updateForPlayer(playerRef);
-                }
                 EventNotificationWrapper.sendMajorEventNotification(playerRef, commandContext, tier.displayName(), "selected difficulty");
 
-                openOrUpdateUi(playerRef, store, playerUuid, commandContext);
+                update.run();
             });
         }
 
         builder.open(store);
     }
 
-    private static List<DifficultyTier> buildDifficultyTiersPage(List<String> tierIds, int pageIndex, boolean showTierValuesAsPercent) {
-        int from = Math.max(0, pageIndex * TIERS_PER_PAGE);
-        int to = Math.min(tierIds.size(), from + TIERS_PER_PAGE);
+    private static void applyVariables(TemplateProcessor template, PageState state, UUID playerUuid) {
+        boolean showTierValuesAsPercent = DifficultyManager.isTierValuesAsPercent(playerUuid);
+        List<DifficultyTier> allTiers = tierViews(showTierValuesAsPercent);
+        int maxPage = Math.max(0, (allTiers.size() - 1) / TIERS_PER_PAGE);
+        int pageIndex = Math.min(pageIndexByPlayer.getOrDefault(playerUuid, 0), maxPage);
+        pageIndexByPlayer.put(playerUuid, pageIndex);
 
+        String currentTierId = DifficultyManager.getDifficulty(playerUuid);
+        boolean showBadge = DifficultyManager.isBadgeVisible(playerUuid);
+        if (pageIndex != state.pageIndex || showTierValuesAsPercent != state.tierValuesAsPercent) {
+            template.setVariable("difficulty-tiers", page(allTiers, pageIndex))
+                    .setVariable("tierValuesAsPercent", showTierValuesAsPercent)
+                    .setVariable("pageIndex", pageIndex)
+                    .setVariable("pageIndexMax", maxPage);
+            state.pageIndex = pageIndex;
+            state.tierValuesAsPercent = showTierValuesAsPercent;
+        }
+        if (!Objects.equals(currentTierId, state.currentTierId)) {
+            template.setVariable("currentTierId", currentTierId);
+            state.currentTierId = currentTierId;
+        }
+        if (state.badgeVisible == null || showBadge != state.badgeVisible) {
+            template.setVariable("badgeVisible", showBadge);
+            state.badgeVisible = showBadge;
+        }
+    }
+
+    // Cards are the same for every player with the same percent mode, so they are built once per config version.
+    private static List<DifficultyTier> tierViews(boolean showTierValuesAsPercent) {
+        ViewKey key = new ViewKey(DifficultyManager.getSnapshot().version(), showTierValuesAsPercent);
+        List<DifficultyTier> views = tierViewsByKey.get(key);
+        if (views != null) {
+            return views;
+        }
+        tierViewsByKey.keySet().removeIf(cached -> cached.configVersion() != key.configVersion());
+        return tierViewsByKey.computeIfAbsent(key, _key -> buildDifficultyTiers(visibleTierIds(), showTierValuesAsPercent));
+    }
+
+    private static List<DifficultyTier> page(List<DifficultyTier> tiers, int pageIndex) {
+        int from = Math.min(tiers.size(), Math.max(0, pageIndex * TIERS_PER_PAGE));
+        int to = Math.min(tiers.size(), from + TIERS_PER_PAGE);
+        return tiers.subList(from, to);
+    }
+
+    private static List<DifficultyTier> buildDifficultyTiers(List<String> tierIds, boolean showTierValuesAsPercent) {
         DifficultySettings settings = DifficultyManager.getSettings();
-        var config = DifficultyManager.getConfig();
-
-        List<DifficultyTier> tiers = new ArrayList<>(Math.max(0, to - from));
-        for (int i = from; i < to; i++) {
-            String tierId = tierIds.get(i);
-            DifficultyMeta.TierMeta meta = DifficultyMeta.resolve(config, tierId);
-            double maxHealth = settings.get(tierId, DifficultyIO.SETTING_HEALTH_MULTIPLIER);
-            double baseDamage = settings.get(tierId, DifficultyIO.SETTING_DAMAGE_MULTIPLIER);
-            double armor = settings.get(tierId, DifficultyIO.SETTING_ARMOR_MULTIPLIER);
-            double dropRate = settings.get(tierId, DifficultyIO.SETTING_DROP_RATE_MULTIPLIER);
-            double dropQuantity = settings.get(tierId, DifficultyIO.SETTING_DROP_QUANTITY_MULTIPLIER);
-            double dropQuality = settings.get(tierId, DifficultyIO.SETTING_DROP_QUALITY_MULTIPLIER);
-            double xp = settings.get(tierId, DifficultyIO.SETTING_XP_MULTIPLIER);
-            double cash = settings.get(tierId, DifficultyIO.SETTING_CASH_MULTIPLIER);
-            double eliteMobsChance = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_MULTIPLIER);
-            double eliteMobsChanceUncommon = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_UNCOMMON);
-            double eliteMobsChanceRare = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_RARE);
-            double eliteMobsChanceLegendary = settings.get(tierId, DifficultyIO.SETTING_ELITE_MOBS_CHANCE_LEGENDARY);
+        TierRegistry registry = settings.registry();
+
+        List<DifficultyTier> tiers = new ArrayList<>(tierIds.size());
+        for (String tierId : tierIds) {
+            TierPresentation presentation = DifficultyManager.getPresentation(tierId);
+            int tierOrdinal = registry.ordinal(tierId);
+            double maxHealth = registry.get(tierOrdinal, SettingKey.HEALTH_MULTIPLIER);
+            double baseDamage = registry.get(tierOrdinal, SettingKey.DAMAGE_MULTIPLIER);
+            double armor = registry.get(tierOrdinal, SettingKey.ARMOR_MULTIPLIER);
+            double dropRate = registry.get(tierOrdinal, SettingKey.DROP_RATE_MULTIPLIER);
+            double dropQuantity = registry.get(tierOrdinal, SettingKey.DROP_QUANTITY_MULTIPLIER);
+            double dropQuality = registry.get(tierOrdinal, SettingKey.DROP_QUALITY_MULTIPLIER);
+            double xp = registry.get(tierOrdinal, SettingKey.XP_MULTIPLIER);
+            double cash = registry.get(tierOrdinal, SettingKey.CASH_MULTIPLIER);
+            double eliteMobsChance = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_MULTIPLIER);
+            double eliteMobsChanceUncommon = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_UNCOMMON);
+            double eliteMobsChanceRare = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_RARE);
+            double eliteMobsChanceLegendary = registry.get(tierOrdinal, SettingKey.ELITE_MOBS_CHANCE_LEGENDARY);
             boolean isAllowed = settings.getBoolean(tierId, DifficultyIO.SETTING_IS_ALLOWED);
             tiers.add(new DifficultyTier(
                     tierId,
-                    meta.displayName(),
-                    meta.description(),
-                    meta.imagePath(),
-                    meta.iconPath(),
+                    presentation.displayName(),
+                    presentation.description(),
+                    presentation.imagePath(),
+                    presentation.iconPath(),
                     formatTierValue(maxHealth, showTierValuesAsPercent),
                     formatTierValue(baseDamage, showTierValuesAsPercent),
                     formatTierValue(armor, showTierValuesAsPercent),
@@ -205,7 +217,7 @@ public class TierSelect {
                     isAllowed
             ));
         }
-        return tiers;
+        return List.copyOf(tiers);
     }
 
     private static double formatTierValue(double value, boolean showAsPercent) {
@@ -343,4 +355,15 @@ public class TierSelect {
             double eliteMobsChanceLegendary,
             boolean isAllowed) {
     }
+
+    private record ViewKey(long configVersion, boolean tierValuesAsPercent) {
+    }
+
+    // Last values pushed to one open page.
+    private static final class PageState {
+        private int pageIndex = -1;
+        private boolean tierValuesAsPercent;
+        private String currentTierId;
+        private Boolean badgeVisible;
+    }
 }
@@ -1,22 +1,226 @@
 package ascendant.core.util;
 
+import ascendant.core.config.ConfigSnapshot;
 import ascendant.core.config.DifficultyIO;
 import ascendant.core.config.DifficultyManager;
 import com.hypixel.hytale.logger.HytaleLogger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
-public class Logging {
+/**
+ * Logging facade. The debug switch and enabled categories are cached from the config snapshot, so a
+ * disabled debug call is one volatile read; message building only happens behind that check. Debug
+ * output is handed to a bounded queue and written by a daemon thread, never by the world thread.
+ */
+public final class Logging {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final long ALL_CATEGORIES = -1L;
+
+    // 0 while debug logging is off, otherwise one bit per enabled Category
+    private static volatile long _debugMask;
+    private static volatile AsyncAppender _appender;
+
+    private Logging() {
+    }
+
+    public enum Category {
+        GENERAL("general"),
+        SPAWN_COUNT("spawnCount"),
+        DAMAGE("damage"),
+        DEATH("death"),
+        XP("xp"),
+        ELITE("elite"),
+        KILLFEED("killFeed"),
+        NOTIFICATIONS("notifications"),
+        NPC_ROLES("npcRoles");
+
+        private final String id;
+        private final long bit;
+
+        Category(String id) {
+            this.id = id;
+            this.bit = 1L << ordinal();
+        }
+
+        public String id() {
+            return id;
+        }
+
+        static Category fromId(String raw) {
+            if (raw == null) {
+                return null;
+            }
+            String value = raw.trim();
+            for (Category category : values()) {
+                if (category.id.equalsIgnoreCase(value) || category.name().equalsIgnoreCase(value)) {
+                    return category;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static void register() {
+        DifficultyManager.subscribe(Logging::applyConfig);
+    }
+
+    // Writes whatever is still queued and stops the appender thread.
+    public static void shutdown() {
+        AsyncAppender appender = _appender;
+        _appender = null;
+        if (appender != null) {
+            appender.stop();
+        }
+    }
+
+    private static void applyConfig(ConfigSnapshot snapshot) {
+        if (!snapshot.get(DifficultyIO.ALLOW_DEBUG_LOGGING)) {
+            _debugMask = 0L;
+            // nothing is appended while the mask is 0; a later enable starts a new appender
+            shutdown();
+            return;
+        }
+        _debugMask = categoryMask(snapshot.get(DifficultyIO.DEBUG_LOGGING_CATEGORIES));
+        int capacity = Math.max(1, snapshot.get(DifficultyIO.DEBUG_LOGGING_QUEUE_SIZE));
+        AsyncAppender current = _appender;
+        if (current == null || current.capacity != capacity) {
+            _appender = new AsyncAppender(capacity);
+            if (current != null) {
+                current.stop();
+            }
+        }
+    }
+
+    private static long categoryMask(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ALL_CATEGORIES;
+        }
+        long mask = 0L;
+        for (String id : ids) {
+            Category category = Category.fromId(id);
+            if (category != null) {
+                mask |= category.bit;
+            } else {
+                System.err.println("[ascendant] Unknown debug logging category: " + id);
+            }
+        }
+        return mask;
+    }
+
+    public static boolean isDebugEnabled() {
+        return _debugMask != 0L;
+    }
+
+    public static boolean isDebugEnabled(Category category) {
+        return (_debugMask & category.bit) != 0L;
+    }
 
     public static void info(String message) {
         LOGGER.at(Level.INFO).log(message);
     }
 
     public static void debug(String message) {
-        if (!DifficultyManager.getFromConfig(DifficultyIO.ALLOW_DEBUG_LOGGING)) {
-            return;
+        debug(Category.GENERAL, message);
+    }
+
+    public static void debug(Category category, String message) {
+        if (isDebugEnabled(category)) {
+            append(message);
+        }
+    }
+
+    public static void debug(Category category, Supplier<String> message) {
+        if (isDebugEnabled(category)) {
+            append(message.get());
+        }
+    }
+
+    // pattern uses String.format syntax and is formatted with Locale.ROOT, only when the category is enabled.
+    // The varargs array and boxing still happen at the call site; hot paths guard with isDebugEnabled(category).
+    public static void debug(Category category, String pattern, Object... args) {
+        if (isDebugEnabled(category)) {
+            append(String.format(Locale.ROOT, pattern, args));
+        }
+    }
+
+    private static void append(String message) {
+        AsyncAppender appender = _appender;
+        if (appender == null || !appender.offer(message)) {
+            // only between shutdown and unload; write in place rather than lose it
+            LOGGER.at(Level.INFO).log(message);
+        }
+    }
+
+    private static final class AsyncAppender implements Runnable {
+        private static final int MAX_BATCH = 256;
+
+        final int capacity;
+        private final BlockingQueue<String> queue;
+        private final AtomicLong dropped = new AtomicLong();
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        AsyncAppender(int capacity) {
+            this.capacity = capacity;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "ascendant-log");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        // Never blocks the caller; a full queue drops the message and counts it.
+        boolean offer(String message) {
+            if (!running) {
+                return false;
+            }
+            if (!queue.offer(message)) {
+                dropped.incrementAndGet();
+            }
+            return true;
+        }
+
+        void stop() {
+            running = false;
+            thread.interrupt();
+            try {
+                thread.join(1000L);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<String> batch = new ArrayList<>(MAX_BATCH);
+            while (running) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException _) {
+                    break;
+                }
+                queue.drainTo(batch, MAX_BATCH - 1);
+                write(batch);
+            }
+            queue.drainTo(batch);
+            write(batch);
+        }
+
+        private void write(List<String> batch) {
+            long lost = dropped.getAndSet(0L);
+            if (lost > 0L) {
+                LOGGER.at(Level.INFO).log("[ascendant] debug log queue full, dropped " + lost + " messages");
+            }
+            for (String message : batch) {
+                LOGGER.at(Level.INFO).log(message);
+            }
+            batch.clear();
         }
-        LOGGER.at(Level.INFO).log(message);
     }
 }
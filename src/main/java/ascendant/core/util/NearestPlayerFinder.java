@@ -1,5 +1,7 @@
 package ascendant.core.util;
 
+import ascendant.core.config.DifficultyManager;
+import ascendant.core.config.TierRegistry;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Holder;
 import com.hypixel.hytale.component.Ref;
@@ -16,6 +18,9 @@ import javax.annotation.Nullable;
 import java.util.UUID;
 
 public final class NearestPlayerFinder {
+    // findNearestPlayerTierOrdinal: nobody within radius. Distinct from TierRegistry.UNKNOWN (a player with an unconfigured tier).
+    public static final int NO_PLAYER = Integer.MIN_VALUE;
+
     private NearestPlayerFinder() {
     }
 
@@ -52,6 +57,9 @@ public final class NearestPlayerFinder {
         if (maxRadiusSq <= 0.0f) {
             return null;
         }
+        if (PlayerSpatialIndex.isIndexed(world)) {
+            return PlayerSpatialIndex.findNearest(world, targetPos, maxRadiusSq);
+        }
 
         Player nearest = null;
         double best = Double.MAX_VALUE;
@@ -77,6 +85,79 @@ public final class NearestPlayerFinder {
         return nearest;
     }
 
+    // Effective tier of the nearest player within radius (world tier when active), or null when nobody is in range.
+    @Nullable
+    public static String findNearestPlayerTier(
+            @Nonnull World world,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> targetRef,
+            float maxRadiusSq
+    ) {
+        Vector3d position = getPosition(store, targetRef);
+        return position == null ? null : findNearestPlayerTier(world, store, position, maxRadiusSq);
+    }
+
+    @Nullable
+    public static String findNearestPlayerTier(
+            @Nonnull World world,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Holder<EntityStore> targetHolder,
+            float maxRadiusSq
+    ) {
+        Vector3d position = getPosition(targetHolder);
+        return position == null ? null : findNearestPlayerTier(world, store, position, maxRadiusSq);
+    }
+
+    @SuppressWarnings("removal")
+    @Nullable
+    public static String findNearestPlayerTier(
+            @Nonnull World world,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Vector3d targetPos,
+            float maxRadiusSq
+    ) {
+        if (maxRadiusSq <= 0.0f) {
+            return null;
+        }
+        int ordinal = PlayerSpatialIndex.nearestTierOrdinal(world, targetPos, maxRadiusSq);
+        if (ordinal == TierInfluenceField.NO_PLAYER) {
+            return null;
+        }
+        if (ordinal >= 0) {
+            return DifficultyManager.isWorldTierActive()
+                    ? DifficultyManager.getWorldTier()
+                    : DifficultyManager.getSettings().registry().tierId(ordinal);
+        }
+        Player nearest = findNearestPlayer(world, store, targetPos, maxRadiusSq);
+        return nearest != null ? DifficultyManager.getDifficulty(nearest.getUuid()) : null;
+    }
+
+    // Same answer as findNearestPlayerTier as a registry ordinal, so hot paths skip the id round trip.
+    @SuppressWarnings("removal")
+    public static int findNearestPlayerTierOrdinal(
+            @Nonnull World world,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull TierRegistry registry,
+            @Nonnull Vector3d targetPos,
+            float maxRadiusSq
+    ) {
+        if (maxRadiusSq <= 0.0f) {
+            return NO_PLAYER;
+        }
+        int ordinal = PlayerSpatialIndex.nearestTierOrdinal(world, targetPos, maxRadiusSq);
+        if (ordinal == TierInfluenceField.NO_PLAYER) {
+            return NO_PLAYER;
+        }
+        // the field's ordinals belong to the current registry; after a reload the caller's may differ
+        if (ordinal >= 0 && registry == DifficultyManager.getSettings().registry()) {
+            return DifficultyManager.isWorldTierActive()
+                    ? registry.ordinal(DifficultyManager.getWorldTier())
+                    : ordinal;
+        }
+        Player nearest = findNearestPlayer(world, store, targetPos, maxRadiusSq);
+        return nearest != null ? registry.ordinal(DifficultyManager.getDifficulty(nearest.getUuid())) : NO_PLAYER;
+    }
+
     @Nullable
     private static Vector3d getPosition(@Nonnull Holder<EntityStore> holder) {
         TransformComponent tc = holder.getComponent(TransformComponent.getComponentType());
@@ -96,9 +177,9 @@ public final class NearestPlayerFinder {
         return dx * dx + dy * dy + dz * dz;
     }
 
+    // Tier of the attacking player, else of the nearest player within radius.
     @Nullable
-    @SuppressWarnings("removal")
-    public static UUID resolveRelevantPlayerUuid(
+    public static String resolveRelevantPlayerTier(
             Damage damage,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer,
@@ -107,7 +188,7 @@ public final class NearestPlayerFinder {
     ) {
         UUID attacker = DamageRef.resolveAttackerPlayerUuid(damage, store);
         if (attacker != null) {
-            return attacker;
+            return DifficultyManager.getDifficulty(attacker);
         }
 
         if (maxRadiusSq <= 0.0f) {
@@ -115,7 +196,6 @@ public final class NearestPlayerFinder {
         }
 
         World world = commandBuffer.getExternalData().getWorld();
-        Player nearest = NearestPlayerFinder.findNearestPlayer(world, store, victimRef, maxRadiusSq);
-        return nearest != null ? nearest.getUuid() : null;
+        return findNearestPlayerTier(world, store, victimRef, maxRadiusSq);
     }
 }
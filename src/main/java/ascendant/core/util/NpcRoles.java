@@ -1,6 +1,7 @@
 package ascendant.core.util;
 
 import ascendant.core.config.DifficultyIO;
+import ascendant.core.config.StartupCache;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -27,7 +28,7 @@ public final class NpcRoles {
 
     public static void preload() {
         Map<String, Float> map = getRoleDamageMax();
-        Logging.debug("[NpcRoles] npc_roles loaded: " + map.size());
+        Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] npc_roles loaded: " + map.size());
     }
 
     public static float getBaseDamageMax(@Nullable String roleName) {
@@ -57,7 +58,15 @@ public final class NpcRoles {
     private static Map<String, Float> loadRoleDamageMax() {
         Path configPath = DifficultyIO.NPC_ROLES_PATH;
         if (Files.exists(configPath)) {
-            return loadRoleDamageMaxFromFile(configPath);
+            Map<String, Float> cached = StartupCache.loadRoleTable(configPath);
+            if (cached != null) {
+                return cached;
+            }
+            Map<String, Float> loaded = loadRoleDamageMaxFromFile(configPath);
+            if (!loaded.isEmpty()) {
+                StartupCache.storeRoleTable(configPath, loaded);
+            }
+            return loaded;
         }
         return loadRoleDamageMaxFromResource(configPath);
     }
@@ -73,7 +82,7 @@ public final class NpcRoles {
             }
             return buildRoleDamageMax(rolesObj);
         } catch (Exception e) {
-            Logging.debug("[NpcRoles] npc_roles.json load failed from file: " + e.getMessage());
+            Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] npc_roles.json load failed from file: " + e.getMessage());
             return Map.of();
         }
     }
@@ -83,7 +92,7 @@ public final class NpcRoles {
         ClassLoader loader = NpcRoles.class.getClassLoader();
         try (InputStream in = loader.getResourceAsStream(NPC_ROLES_RESOURCE)) {
             if (in == null) {
-                Logging.debug("[NpcRoles] npc_roles.json not found on classpath");
+                Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] npc_roles.json not found on classpath");
                 return Map.of();
             }
             byte[] data = in.readAllBytes();
@@ -97,7 +106,7 @@ public final class NpcRoles {
                 return buildRoleDamageMax(rolesObj);
             }
         } catch (Exception e) {
-            Logging.debug("[NpcRoles] npc_roles.json load failed from resource: " + e.getMessage());
+            Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] npc_roles.json load failed from resource: " + e.getMessage());
             return Map.of();
         }
     }
@@ -106,22 +115,22 @@ public final class NpcRoles {
         try {
             Files.createDirectories(path.getParent());
             Files.write(path, data);
-            Logging.debug("[NpcRoles] wrote npc_roles.json fallback to " + path);
+            Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] wrote npc_roles.json fallback to " + path);
         } catch (Exception e) {
-            Logging.debug("[NpcRoles] failed to write npc_roles.json fallback: " + e.getMessage());
+            Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] failed to write npc_roles.json fallback: " + e.getMessage());
         }
     }
 
     @Nullable
     private static JsonObject extractRolesObject(@Nullable JsonElement parsed, @Nonnull String sourceLabel) {
         if (parsed == null || !parsed.isJsonObject()) {
-            Logging.debug("[NpcRoles] npc_roles.json root is not an object (" + sourceLabel + ")");
+            Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] npc_roles.json root is not an object (" + sourceLabel + ")");
             return null;
         }
         JsonObject root = parsed.getAsJsonObject();
         JsonObject rolesObj = root.getAsJsonObject("roles");
         if (rolesObj == null) {
-            Logging.debug("[NpcRoles] npc_roles.json missing roles section (" + sourceLabel + ")");
+            Logging.debug(Logging.Category.NPC_ROLES, "[NpcRoles] npc_roles.json missing roles section (" + sourceLabel + ")");
         }
         return rolesObj;
     }
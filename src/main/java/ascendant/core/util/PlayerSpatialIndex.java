@@ -0,0 +1,176 @@
+package ascendant.core.util;
+
+import ascendant.core.config.DifficultyManager;
+import ascendant.core.config.TierRegistry;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+/**
+ * Per-world uniform grid of player positions on the x/z plane, rebuilt once per tick by
+ * PlayerSpatialIndexTickSystem. Cells are at least as wide as playerDistanceRadiusToCheck, so a
+ * nearest-within-radius query only visits the 3x3 cells around the target. Every few ticks, after a
+ * tier change, or when a player joins, leaves or changes field cell, the grid also refreshes a
+ * TierInfluenceField for spawn-time tier lookups. A reused field only answers for covered cells;
+ * an empty cell is checked against the current grid, since a player may have moved into reach.
+ */
+public final class PlayerSpatialIndex {
+    private static final double MIN_CELL_SIZE = 16.0;
+    private static final int TIER_FIELD_REFRESH_TICKS = 10;
+    private static final AtomicLong TIER_FIELD_VERSION = new AtomicLong();
+
+    private static final Map<World, Grid> GRIDS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PlayerSpatialIndex() {
+    }
+
+    @SuppressWarnings("removal")
+    public static void rebuild(@Nonnull World world, @Nonnull Store<EntityStore> store, double radius) {
+        Collection<Player> players = world.getPlayers();
+        int capacity = players.size();
+        Player[] found = new Player[capacity];
+        double[] xs = new double[capacity];
+        double[] ys = new double[capacity];
+        double[] zs = new double[capacity];
+        int count = 0;
+        for (Player player : players) {
+            Ref<EntityStore> ref = player.getReference();
+            if (ref == null || !ref.isValid() || count == capacity) {
+                continue;
+            }
+            TransformComponent tc = store.getComponent(ref, TransformComponent.getComponentType());
+            if (tc == null) {
+                continue;
+            }
+            Vector3d pos = tc.getPosition();
+            found[count] = player;
+            xs[count] = pos.getX();
+            ys[count] = pos.getY();
+            zs[count] = pos.getZ();
+            count++;
+        }
+        double cellSize = Double.isFinite(radius) ? Math.max(MIN_CELL_SIZE, radius) : MIN_CELL_SIZE;
+        Grid previous = GRIDS.get(world);
+        Grid grid = new Grid(cellSize, found, xs, ys, zs, count);
+        float r = (float) Math.max(0.0, radius);
+        float radiusSq = r * r;
+        long version = TIER_FIELD_VERSION.get();
+        long[] fieldCells = new long[count];
+        for (int i = 0; i < count; i++) {
+            fieldCells[i] = TierInfluenceField.cellKeyOf(xs[i], zs[i]);
+        }
+        if (previous != null && previous.tierField != null
+                && previous.tierField.version == version
+                && previous.tierField.radiusSq == radiusSq
+                && previous.tierFieldAge < TIER_FIELD_REFRESH_TICKS
+                && sameFieldInputs(previous, found, fieldCells, count)) {
+            grid.tierField = previous.tierField;
+            grid.tierFieldAge = previous.tierFieldAge + 1;
+            grid.tierFieldPlayers = previous.tierFieldPlayers;
+            grid.tierFieldCells = previous.tierFieldCells;
+        } else {
+            grid.tierField = buildTierField(found, xs, ys, zs, count, radiusSq, version);
+            grid.tierFieldPlayers = found;
+            grid.tierFieldCells = fieldCells;
+        }
+        GRIDS.put(world, grid);
+    }
+
+    // Same players, in the same order, each still in the field cell it was stamped from (joins, leaves, teleports, respawns).
+    private static boolean sameFieldInputs(Grid previous, Player[] players, long[] fieldCells, int count) {
+        if (previous.count != count || previous.tierFieldPlayers == null) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (previous.tierFieldPlayers[i] != players[i] || previous.tierFieldCells[i] != fieldCells[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Forces the tier fields to be rebuilt on the next tick (player tier change or config reload).
+    public static void invalidateTierFields() {
+        TIER_FIELD_VERSION.incrementAndGet();
+    }
+
+    @SuppressWarnings("removal")
+    private static TierInfluenceField buildTierField(Player[] players, double[] xs, double[] ys, double[] zs, int count, float radiusSq, long version) {
+        TierRegistry registry = DifficultyManager.getSettings().registry();
+        int[] ordinals = new int[count];
+        for (int i = 0; i < count; i++) {
+            ordinals[i] = registry.ordinal(DifficultyManager.getPlayerDifficulty(players[i].getUuid()));
+        }
+        return TierInfluenceField.build(registry, radiusSq, version, ordinals, xs, ys, zs, count);
+    }
+
+    // Returns false when the world has no grid yet; the caller then falls back to a full scan.
+    static boolean isIndexed(@Nonnull World world) {
+        return GRIDS.containsKey(world);
+    }
+
+    @Nullable
+    static Player findNearest(@Nonnull World world, @Nonnull Vector3d target, float maxRadiusSq) {
+        Grid grid = GRIDS.get(world);
+        return grid != null ? grid.findNearest(target.getX(), target.getY(), target.getZ(), maxRadiusSq) : null;
+    }
+
+    // Tier ordinal of the nearest player within radius, NO_PLAYER, or UNRESOLVED when the caller has to scan.
+    static int nearestTierOrdinal(@Nonnull World world, @Nonnull Vector3d target, float maxRadiusSq) {
+        Grid grid = GRIDS.get(world);
+        TierInfluenceField field = grid != null ? grid.tierField : null;
+        if (field == null
+                || field.radiusSq != maxRadiusSq
+                || field.version != TIER_FIELD_VERSION.get()
+                || field.registry != DifficultyManager.getSettings().registry()) {
+            return TierInfluenceField.UNRESOLVED;
+        }
+        int ordinal = field.lookup(target.getX(), target.getY(), target.getZ());
+        if (ordinal == TierInfluenceField.NO_PLAYER && grid.tierFieldAge > 0) {
+            // stamped from older positions; only this tick's grid can rule out a player in reach
+            return TierInfluenceField.UNRESOLVED;
+        }
+        return ordinal;
+    }
+
+    private static final class Grid {
+        private final Player[] players;
+        private final int count;
+        private final PositionGrid positions;
+        // Players may have left since the last rebuild.
+        private final IntPredicate live = this::isLive;
+        private TierInfluenceField tierField;
+        private int tierFieldAge;
+        // Players and field cells the tier field was stamped from.
+        private Player[] tierFieldPlayers;
+        private long[] tierFieldCells;
+
+        private Grid(double cellSize, Player[] players, double[] xs, double[] ys, double[] zs, int count) {
+            this.players = players;
+            this.count = count;
+            this.positions = new PositionGrid(cellSize, xs, ys, zs, count);
+        }
+
+        @Nullable
+        private Player findNearest(double x, double y, double z, float maxRadiusSq) {
+            int index = positions.nearest(x, y, z, maxRadiusSq, live);
+            return index == PositionGrid.NONE ? null : players[index];
+        }
+
+        @SuppressWarnings("removal")
+        private boolean isLive(int i) {
+            Ref<EntityStore> ref = players[i].getReference();
+            return ref != null && ref.isValid();
+        }
+    }
+}
@@ -14,19 +14,24 @@ public final class PlayerWorldExecutor {
     }
 
     public static boolean execute(@Nullable PlayerRef playerRef, @Nonnull Runnable action) {
-        if (playerRef == null || !playerRef.isValid()) {
+        World world = worldOf(playerRef);
+        if (world == null) {
             return false;
         }
+        world.execute(action);
+        return true;
+    }
+
+    @Nullable
+    public static World worldOf(@Nullable PlayerRef playerRef) {
+        if (playerRef == null || !playerRef.isValid()) {
+            return null;
+        }
         Ref<EntityStore> storeRef = playerRef.getReference();
         if (storeRef == null || !storeRef.isValid()) {
-            return false;
+            return null;
         }
         Store<EntityStore> store = storeRef.getStore();
-        World world = store.getExternalData().getWorld();
-        if (world == null) {
-            return false;
-        }
-        world.execute(action);
-        return true;
+        return store.getExternalData().getWorld();
     }
 }
@@ -0,0 +1,112 @@
+package ascendant.core.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * Uniform grid over a fixed set of positions on the x/z plane. Indices are sorted by cell and each cell
+ * maps to its slice of that order, so a nearest-within-radius query only visits the cells the radius overlaps.
+ */
+final class PositionGrid {
+    static final int NONE = -1;
+    // Queries spanning more cells than this per axis scan the flat arrays instead.
+    private static final int MAX_CELL_SPAN = 4;
+
+    private final double cellSize;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final int count;
+    // Position indices sorted by cell; each cell maps to its [start, end) slice of order.
+    private final int[] order;
+    private final HashMap<Long, int[]> slices;
+
+    PositionGrid(double cellSize, double[] xs, double[] ys, double[] zs, int count) {
+        this.cellSize = cellSize;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.count = count;
+
+        long[] keys = new long[count];
+        Integer[] sorted = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = cellKey(cell(xs[i], cellSize), cell(zs[i], cellSize));
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        this.order = new int[count];
+        this.slices = new HashMap<>(Math.max(16, count * 2));
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            order[i] = sorted[i];
+            if (i + 1 == count || keys[sorted[i + 1]] != keys[sorted[i]]) {
+                slices.put(keys[sorted[i]], new int[]{start, i + 1});
+                start = i + 1;
+            }
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    // Index of the nearest accepted position within radius, or NONE.
+    int nearest(double x, double y, double z, float maxRadiusSq, IntPredicate accept) {
+        if (count == 0 || maxRadiusSq <= 0.0f) {
+            return NONE;
+        }
+        double radius = Math.sqrt(maxRadiusSq);
+        int minX = cell(x - radius, cellSize);
+        int maxX = cell(x + radius, cellSize);
+        int minZ = cell(z - radius, cellSize);
+        int maxZ = cell(z + radius, cellSize);
+
+        int best = NONE;
+        double bestSq = maxRadiusSq;
+        if ((long) maxX - minX >= MAX_CELL_SPAN || (long) maxZ - minZ >= MAX_CELL_SPAN) {
+            for (int i = 0; i < count; i++) {
+                double d2 = distanceSq(i, x, y, z);
+                if ((d2 < bestSq || (best == NONE && d2 == bestSq)) && accept.test(i)) {
+                    best = i;
+                    bestSq = d2;
+                }
+            }
+            return best;
+        }
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                int[] slice = slices.get(cellKey(cx, cz));
+                if (slice == null) {
+                    continue;
+                }
+                for (int j = slice[0]; j < slice[1]; j++) {
+                    int i = order[j];
+                    double d2 = distanceSq(i, x, y, z);
+                    if ((d2 < bestSq || (best == NONE && d2 == bestSq)) && accept.test(i)) {
+                        best = i;
+                        bestSq = d2;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private double distanceSq(int i, double x, double y, double z) {
+        double dx = xs[i] - x;
+        double dy = ys[i] - y;
+        double dz = zs[i] - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static int cell(double v, double cellSize) {
+        return (int) Math.floor(v / cellSize);
+    }
+}
@@ -2,6 +2,9 @@ package ascendant.core.util;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class ReflectionHelper {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     private static final ConcurrentHashMap<String, Class<?>> CLASS_CACHE = new ConcurrentHashMap<>();
 
     private static final ClassValue<ConcurrentHashMap<String, Method>> NO_ARG_METHOD_CACHE = new ClassValue<>() {
@@ -295,6 +299,58 @@ public final class ReflectionHelper {
         return INSTANCE_FIELDS_CACHE.get(type);
     }
 
+    // Handle factories for hot bridges. The handle is adapted to the given type, so callers keep it in a
+    // static final (or cached) field and call invokeExact with exactly these types; the JIT can then
+    // inline it like a direct call. A missing member or an impossible adaptation yields null.
+
+    @Nullable
+    public static MethodHandle unreflect(@Nullable Method method, @Nonnull MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflect(method).asType(type);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    @Nullable
+    public static MethodHandle unreflectConstructor(@Nullable Constructor<?> ctor, @Nonnull MethodType type) {
+        if (ctor == null) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectConstructor(ctor).asType(type);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    @Nullable
+    public static MethodHandle unreflectGetter(@Nullable Field field, @Nonnull MethodType type) {
+        if (field == null) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectGetter(field).asType(type);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    @Nullable
+    public static MethodHandle unreflectSetter(@Nullable Field field, @Nonnull MethodType type) {
+        if (field == null) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectSetter(field).asType(type);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
     private record MethodKey(String name, List<Class<?>> params) {
         private MethodKey(String name, Class<?>... params) {
             this(name, params == null || params.length == 0 ? List.of() : List.of(params));
@@ -0,0 +1,129 @@
+package ascendant.core.util;
+
+import ascendant.core.config.TierRegistry;
+
+import java.util.HashMap;
+
+/**
+ * Coarse 16x16-column grid holding the tier ordinal of the players that can reach each cell.
+ * A cell only answers on its own when every player in reach shares one tier and one of them
+ * covers the whole cell at the queried height; anything else falls back to a nearest-player scan.
+ */
+final class TierInfluenceField {
+    static final int NO_PLAYER = -1;
+    static final int UNRESOLVED = -2;
+
+    private static final double CELL_SIZE = 16.0;
+    private static final double EPSILON = 1.0e-6;
+
+    final TierRegistry registry;
+    final float radiusSq;
+    final long version;
+    private final HashMap<Long, Cell> cells;
+
+    private TierInfluenceField(TierRegistry registry, float radiusSq, long version, HashMap<Long, Cell> cells) {
+        this.registry = registry;
+        this.radiusSq = radiusSq;
+        this.version = version;
+        this.cells = cells;
+    }
+
+    static TierInfluenceField build(
+            TierRegistry registry,
+            float radiusSq,
+            long version,
+            int[] ordinals,
+            double[] xs,
+            double[] ys,
+            double[] zs,
+            int count
+    ) {
+        HashMap<Long, Cell> cells = new HashMap<>();
+        double radius = Math.sqrt(radiusSq);
+        if (radiusSq > 0.0f && Double.isFinite(radius)) {
+            for (int i = 0; i < count; i++) {
+                int ordinal = ordinals[i] >= 0 ? ordinals[i] : UNRESOLVED;
+                stamp(cells, ordinal, xs[i], ys[i], zs[i], radius, radiusSq);
+            }
+        }
+        return new TierInfluenceField(registry, radiusSq, version, cells);
+    }
+
+    int lookup(double x, double y, double z) {
+        Cell cell = cells.get(cellKey(cell(x), cell(z)));
+        if (cell == null) {
+            return NO_PLAYER;
+        }
+        if (cell.ordinal < 0 || y < cell.coverMinY || y > cell.coverMaxY) {
+            return UNRESOLVED;
+        }
+        return cell.ordinal;
+    }
+
+    private static void stamp(HashMap<Long, Cell> cells, int ordinal, double px, double py, double pz, double radius, float radiusSq) {
+        int minX = cell(px - radius - EPSILON);
+        int maxX = cell(px + radius + EPSILON);
+        int minZ = cell(pz - radius - EPSILON);
+        int maxZ = cell(pz + radius + EPSILON);
+        double reachSq = (radius + EPSILON) * (radius + EPSILON);
+        for (int cx = minX; cx <= maxX; cx++) {
+            double x0 = cx * CELL_SIZE;
+            double x1 = x0 + CELL_SIZE;
+            double nearDx = px < x0 ? x0 - px : (px > x1 ? px - x1 : 0.0);
+            double farDx = Math.max(Math.abs(px - x0), Math.abs(px - x1));
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                double z0 = cz * CELL_SIZE;
+                double z1 = z0 + CELL_SIZE;
+                double nearDz = pz < z0 ? z0 - pz : (pz > z1 ? pz - z1 : 0.0);
+                if (nearDx * nearDx + nearDz * nearDz > reachSq) {
+                    continue;
+                }
+                long key = cellKey(cx, cz);
+                Cell cell = cells.get(key);
+                if (cell == null) {
+                    cell = new Cell(ordinal);
+                    cells.put(key, cell);
+                } else if (cell.ordinal != ordinal) {
+                    cell.ordinal = UNRESOLVED;
+                }
+                if (cell.ordinal < 0) {
+                    continue;
+                }
+
+                // Vertical band in which this player is within radius of every point of the cell.
+                double farDz = Math.max(Math.abs(pz - z0), Math.abs(pz - z1));
+                double farSq = farDx * farDx + farDz * farDz;
+                if (farSq >= radiusSq) {
+                    continue;
+                }
+                double slack = Math.sqrt(radiusSq - farSq) - EPSILON;
+                if (slack > (cell.coverMaxY - cell.coverMinY) / 2.0) {
+                    cell.coverMinY = py - slack;
+                    cell.coverMaxY = py + slack;
+                }
+            }
+        }
+    }
+
+    static long cellKeyOf(double x, double z) {
+        return cellKey(cell(x), cell(z));
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static int cell(double v) {
+        return (int) Math.floor(v / CELL_SIZE);
+    }
+
+    private static final class Cell {
+        private int ordinal;
+        private double coverMinY = Double.POSITIVE_INFINITY;
+        private double coverMaxY = Double.NEGATIVE_INFINITY;
+
+        private Cell(int ordinal) {
+            this.ordinal = ordinal;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package ascendant.core.util;
 
 import ascendant.core.config.DifficultyManager;
-import ascendant.core.config.DifficultyMeta;
+import ascendant.core.config.TierPresentation;
 
 import javax.annotation.Nullable;
 import java.util.UUID;
@@ -16,19 +16,21 @@ public final class TierTagUtil {
             return null;
         }
 
-        String tierId = DifficultyManager.getDifficulty(playerUuid);
-        if (tierId == null || tierId.isBlank()) {
-            return null;
-        }
+        return resolveTierPrefixForTier(DifficultyManager.getDifficulty(playerUuid), kind);
+    }
 
-        DifficultyMeta.TierMeta meta = DifficultyMeta.resolve(DifficultyManager.getConfig(), tierId);
-        String tierName = meta.displayName();
-        if (tierName == null || tierName.isBlank()) {
-            tierName = tierId;
+    @Nullable
+    public static String resolveTierPrefixForTier(@Nullable String tierId, @Nullable PrefixKind kind) {
+        if (tierId == null || tierId.isBlank() || kind == null) {
+            return null;
         }
 
-        String template = (kind == PrefixKind.KILLFEED) ? meta.killFeedPrefix() : meta.chatPrefix();
-        return DifficultyMeta.formatTierPrefix(template, tierName, tierId);
+        TierPresentation presentation = DifficultyManager.getPresentation(tierId);
+        return switch (kind) {
+            case KILLFEED -> presentation.killFeedPrefix();
+            case CHAT -> presentation.chatPrefix();
+            case LIST -> presentation.listPrefix();
+        };
     }
 
     @Nullable
@@ -53,6 +55,7 @@ public final class TierTagUtil {
 
     public enum PrefixKind {
         KILLFEED,
-        CHAT
+        CHAT,
+        LIST
     }
 }
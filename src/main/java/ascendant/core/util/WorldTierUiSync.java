@@ -1,35 +1,155 @@
 package ascendant.core.util;
 
 import ascendant.core.adapter.ServerPlayerListAdapter;
+import ascendant.core.config.DifficultyIO;
+import ascendant.core.config.DifficultyManager;
+import ascendant.core.events.DifficultyEventBus;
 import ascendant.core.ui.DifficultyBadge;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Coalesces tier UI refreshes. Events only mark players dirty and open a debounce window; the first world
+ * tick after the window (WorldTierUiSyncTickSystem) groups the dirty players by world and refreshes them on
+ * their world threads, skipping players whose shown tier is unchanged.
+ */
 public final class WorldTierUiSync {
+    private static final Set<UUID> _dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean _allDirty = new AtomicBoolean();
+    private static final AtomicBoolean _flushPending = new AtomicBoolean();
+    private static volatile long _flushDueNanos;
+    // what each online player currently sees in the HUD and player list
+    private static final ConcurrentHashMap<UUID, String> _displayed = new ConcurrentHashMap<>();
+
     private WorldTierUiSync() {
     }
 
+    // Refreshes tier UI reactively: the changed player on a tier change, everyone on world tier or config changes.
+    public static void register() {
+        DifficultyEventBus.subscribe(DifficultyEventBus.PlayerTierChanged.class, event -> refreshPlayer(event.playerUuid()));
+        DifficultyEventBus.subscribe(DifficultyEventBus.WorldTierChanged.class, _event -> refreshAllPlayers());
+        DifficultyEventBus.subscribe(DifficultyEventBus.ConfigReloaded.class, _event -> {
+            // icons and prefixes may have changed even where the tier did not
+            _displayed.clear();
+            refreshAllPlayers();
+        });
+    }
+
+    // A joining player gets a fresh HUD and list entry anyway; remember what they show so the next flush can skip them.
+    public static void onPlayerReady(UUID playerUuid) {
+        if (playerUuid != null) {
+            _displayed.put(playerUuid, displayKey(playerUuid));
+        }
+    }
+
+    public static void onPlayerDisconnect(UUID playerUuid) {
+        if (playerUuid != null) {
+            _displayed.remove(playerUuid);
+            _dirtyPlayers.remove(playerUuid);
+        }
+    }
+
+    public static void refreshPlayer(UUID playerUuid) {
+        if (playerUuid == null) {
+            return;
+        }
+        _dirtyPlayers.add(playerUuid);
+        scheduleFlush();
+    }
+
     public static void refreshAllPlayers() {
+        _allDirty.set(true);
+        scheduleFlush();
+    }
+
+    private static void scheduleFlush() {
+        if (_flushPending.get()) {
+            return;
+        }
+        double debounceMsCfg = DifficultyManager.getFromConfig(DifficultyIO.UI_REFRESH_DEBOUNCE_MS);
+        long debounceMs = Math.max(0L, Math.round(debounceMsCfg));
+        _flushDueNanos = System.nanoTime() + debounceMs * 1_000_000L;
+        _flushPending.set(true);
+    }
+
+    // Called by WorldTierUiSyncTickSystem on every world tick; only one world performs a due flush.
+    static void flushIfDue() {
+        if (!_flushPending.get() || System.nanoTime() - _flushDueNanos < 0L) {
+            return;
+        }
+        // marks arriving from here on open the next window
+        if (_flushPending.compareAndSet(true, false)) {
+            flush();
+        }
+    }
+
+    private static void flush() {
+        boolean all = _allDirty.getAndSet(false);
+        Set<UUID> dirty = new HashSet<>();
+        for (Iterator<UUID> it = _dirtyPlayers.iterator(); it.hasNext(); ) {
+            dirty.add(it.next());
+            it.remove();
+        }
+        if (!all && dirty.isEmpty()) {
+            return;
+        }
+
         Universe universe = Universe.get();
         if (universe == null) {
             return;
         }
 
-        List<PlayerRef> players = universe.getPlayers();
-        if (players.isEmpty()) {
-            return;
+        Map<World, List<PlayerRef>> playersByWorld = new HashMap<>();
+        for (PlayerRef playerRef : universe.getPlayers()) {
+            if (playerRef == null || (!all && !dirty.contains(playerRef.getUuid()))) {
+                continue;
+            }
+            World world = PlayerWorldExecutor.worldOf(playerRef);
+            if (world != null) {
+                playersByWorld.computeIfAbsent(world, _world -> new ArrayList<>()).add(playerRef);
+            }
         }
 
+        for (Map.Entry<World, List<PlayerRef>> entry : playersByWorld.entrySet()) {
+            List<PlayerRef> players = entry.getValue();
+            entry.getKey().execute(() -> refreshOnWorldThread(players));
+        }
+    }
+
+    private static void refreshOnWorldThread(List<PlayerRef> players) {
+        List<PlayerRef> changed = new ArrayList<>(players.size());
         for (PlayerRef playerRef : players) {
-            if (playerRef == null) {
+            if (!playerRef.isValid()) {
                 continue;
             }
-            PlayerWorldExecutor.execute(playerRef, () -> {
-                ServerPlayerListAdapter.refreshPlayerEntry(playerRef);
-                DifficultyBadge.updateForPlayer(playerRef);
-            });
+            UUID playerUuid = playerRef.getUuid();
+            String shown = displayKey(playerUuid);
+            if (!shown.equals(_displayed.put(playerUuid, shown))) {
+                changed.add(playerRef);
+            }
+        }
+        // one list packet pair for the whole world, then the HUDs
+        ServerPlayerListAdapter.refreshPlayerEntries(changed);
+        for (PlayerRef playerRef : changed) {
+            DifficultyBadge.updateForPlayer(playerRef);
         }
     }
+
+    private static String displayKey(UUID playerUuid) {
+        return DifficultyManager.getDifficulty(playerUuid)
+                + '|' + DifficultyManager.isWorldTierActive()
+                + '|' + DifficultyManager.isBadgeVisible(playerUuid);
+    }
 }